@@ -69,10 +69,24 @@ public class PropertyKeyConst {
     
     public static final String ENABLE_REMOTE_SYNC_CONFIG = "enableRemoteSyncConfig";
     
+    public static final String ENABLE_INCREMENTAL_LISTEN_CONFIG = "enableIncrementalListenConfig";
+    
+    public static final String ENABLE_FAILOVER_FILE_WATCH = "enableFailoverFileWatch";
+    
     public static final String NAMING_LOAD_CACHE_AT_START = "namingLoadCacheAtStart";
     
     public static final String NAMING_CACHE_REGISTRY_DIR = "namingCacheRegistryDir";
     
+    public static final String NAMING_CACHE_SNAPSHOT_ENABLED = "namingCacheSnapshotEnabled";
+    
+    public static final String NAMING_ASYNC_WRITE_CACHE = "namingAsyncWriteCache";
+    
+    public static final String NAMING_CACHE_FLUSH_INTERVAL = "namingCacheFlushInterval";
+    
+    public static final String NAMING_CACHE_FLUSH_BYTES = "namingCacheFlushBytes";
+    
+    public static final String NAMING_CLUSTER_VIEW_ENABLED = "namingClusterViewEnabled";
+    
     public static final String NAMING_CLIENT_BEAT_THREAD_COUNT = "namingClientBeatThreadCount";
     
     public static final String NAMING_POLLING_MAX_THREAD_COUNT = "namingPollingMaxThreadCount";
@@ -89,6 +103,10 @@ public class PropertyKeyConst {
     
     public static final String REDO_DELAY_THREAD_COUNT = "redoDelayThreadCount";
     
+    public static final String SHARED_CONNECTION_ENABLED = "sharedConnectionEnabled";
+    
+    public static final String RPC_REQUEST_BATCH_ENABLED = "rpcRequestBatchEnabled";
+    
     public static final String SIGNATURE_REGION_ID = "signatureRegionId";
     
     public static final String LOG_ALL_PROPERTIES = "logAllProperties";
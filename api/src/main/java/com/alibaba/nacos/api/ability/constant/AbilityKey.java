@@ -37,6 +37,33 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support binary encoded payload for hot request and response types.
+     */
+    SERVER_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary encoded payload", AbilityMode.SERVER),
+    
+    /**
+     * Server support handling batch of requests in one request.
+     */
+    SERVER_SUPPORT_BATCH_REQUEST("supportBatchRequest", "support batch request", AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support binary encoded payload for hot request and response types.
+     */
+    SDK_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary encoded payload",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Cluster client support binary encoded payload for hot request and response types.
+     */
+    CLUSTER_CLIENT_SUPPORT_BINARY_PAYLOAD("supportBinaryPayload", "support binary encoded payload",
+            AbilityMode.CLUSTER_CLIENT),
+    
+    /**
+     * Sdk client support applying incremental service info push with revision.
+     */
+    SDK_CLIENT_SUPPORT_DELTA_PUSH("supportDeltaPush", "support delta service info push", AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
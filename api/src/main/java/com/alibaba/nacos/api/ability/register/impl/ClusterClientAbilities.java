@@ -44,6 +44,7 @@ public class ClusterClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.CLUSTER_CLIENT_SUPPORT_BINARY_PAYLOAD, true);
     }
 
     /**
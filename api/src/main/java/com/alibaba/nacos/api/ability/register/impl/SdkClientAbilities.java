@@ -45,6 +45,8 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH, true);
     }
     
     /**.
@@ -16,14 +16,22 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
 
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
  * Notify subscriber request.
  *
+ * <p>If {@link #getBaseRevision()} is greater than 0, the request is a delta push for clients which support
+ * {@code supportDeltaPush}: the hosts of {@link #getServiceInfo()} only contain the added and modified instances
+ * compared with the data of base revision, and the removed instances are in {@link #getRemovedInstances()}.
+ *
  * @author xiweng.yy
  */
 public class NotifySubscriberRequest extends ServerRequest {
@@ -36,6 +44,12 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    private long revision;
+    
+    private long baseRevision;
+    
+    private List<Instance> removedInstances;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -84,4 +98,32 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+    
+    @JsonIgnore
+    public boolean isDelta() {
+        return baseRevision > 0;
+    }
 }
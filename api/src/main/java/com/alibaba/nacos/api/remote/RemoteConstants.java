@@ -39,5 +39,10 @@ public class RemoteConstants {
     
     public static final String LABEL_MODULE_NAMING = "naming";
     
+    /**
+     * The connection is shared by the modules of one client process, such as config and naming.
+     */
+    public static final String LABEL_MODULE_SHARED = "shared";
+    
     public static final String MONITOR_LABEL_NONE = "none";
 }
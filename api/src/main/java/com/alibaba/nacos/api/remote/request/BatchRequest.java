@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.remote.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of requests of the same type, the server handles each request by its own handler and replies the responses
+ * in the same order.
+ *
+ * @author Nacos
+ */
+public class BatchRequest extends InternalRequest {
+    
+    private List<Item> items = new ArrayList<>();
+    
+    public void addItem(Item item) {
+        items.add(item);
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    /**
+     * One request in batch, the request is encoded as body with its type and headers.
+     */
+    public static class Item {
+        
+        private String type;
+        
+        private Map<String, String> headers;
+        
+        private String body;
+        
+        public Item() {
+        }
+        
+        public Item(String type, Map<String, String> headers, String body) {
+            this.type = type;
+            this.headers = headers;
+            this.body = body;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+        
+        public void setHeaders(Map<String, String> headers) {
+            this.headers = headers;
+        }
+        
+        public String getBody() {
+            return body;
+        }
+        
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.remote.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Responses of {@link com.alibaba.nacos.api.remote.request.BatchRequest}, in the same order of the requests.
+ *
+ * @author Nacos
+ */
+public class BatchResponse extends Response {
+    
+    private List<Item> items = new ArrayList<>();
+    
+    public void addItem(Item item) {
+        items.add(item);
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    /**
+     * One response in batch, the response is encoded as body with its type.
+     */
+    public static class Item {
+        
+        private String type;
+        
+        private String body;
+        
+        public Item() {
+        }
+        
+        public Item(String type, String body) {
+            this.type = type;
+            this.body = body;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public String getBody() {
+            return body;
+        }
+        
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+}
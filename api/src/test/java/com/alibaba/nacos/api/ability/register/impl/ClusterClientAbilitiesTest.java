@@ -16,15 +16,21 @@
 
 package com.alibaba.nacos.api.ability.register.impl;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ClusterClientAbilitiesTest {
     
     @Test
     void testGetStaticAbilities() {
-        // TODO add the cluster client abilities.
-        assertTrue(ClusterClientAbilities.getStaticAbilities().isEmpty());
+        assertFalse(ClusterClientAbilities.getStaticAbilities().isEmpty());
+    }
+    
+    @Test
+    void testSupportBinaryPayloadAbilities() {
+        assertTrue(ClusterClientAbilities.getStaticAbilities().get(AbilityKey.CLUSTER_CLIENT_SUPPORT_BINARY_PAYLOAD));
     }
 }
\ No newline at end of file
@@ -16,15 +16,26 @@
 
 package com.alibaba.nacos.api.ability.register.impl;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SdkClientAbilitiesTest {
     
     @Test
     void testGetStaticAbilities() {
-        // TODO add the sdk client abilities.
-        assertTrue(SdkClientAbilities.getStaticAbilities().isEmpty());
+        assertFalse(SdkClientAbilities.getStaticAbilities().isEmpty());
+    }
+    
+    @Test
+    void testSupportBinaryPayloadAbilities() {
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD));
+    }
+    
+    @Test
+    void testSupportDeltaPushAbilities() {
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_PUSH));
     }
 }
\ No newline at end of file
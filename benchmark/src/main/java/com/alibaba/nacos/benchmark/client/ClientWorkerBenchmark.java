@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.client;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
+import com.alibaba.nacos.client.config.impl.ClientWorker;
+import com.alibaba.nacos.client.config.impl.ServerListManager;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of client bootstrap which registers {@code listenCount} listened configs into {@link ClientWorker}.
+ *
+ * <p>Every invocation uses a new {@link ClientWorker}, so the measured time is the total cost of registering all
+ * configs from empty cache, like the startup of an application.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientWorkerBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    @Param({"10000", "50000"})
+    public int listenCount;
+    
+    private String[] dataIds;
+    
+    private ClientWorker clientWorker;
+    
+    /**
+     * Prepare the data ids of listened configs.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataIds = new String[listenCount];
+        for (int i = 0; i < listenCount; i++) {
+            dataIds[i] = "benchmark.dataId." + i;
+        }
+    }
+    
+    /**
+     * Create an empty client worker for each invocation, the server is not required.
+     */
+    @Setup(Level.Invocation)
+    public void createClientWorker() throws NacosException {
+        NacosClientProperties properties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ServerListManager serverListManager = new ServerListManager(Collections.singletonList("127.0.0.1:8848"));
+        clientWorker = new ClientWorker(new ConfigFilterChainManager(new Properties()), serverListManager,
+                properties);
+    }
+    
+    @TearDown(Level.Invocation)
+    public void shutdownClientWorker() throws NacosException {
+        clientWorker.shutdown();
+    }
+    
+    /**
+     * Register all listened configs.
+     */
+    @Benchmark
+    public ClientWorker registerListenConfigs() {
+        for (String each : dataIds) {
+            clientWorker.addCacheDataIfAbsent(each, GROUP);
+        }
+        return clientWorker;
+    }
+}
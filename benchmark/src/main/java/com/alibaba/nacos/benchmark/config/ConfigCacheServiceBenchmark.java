@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ConfigCacheService#dump} and {@link ConfigCacheService#getContentMd5(String)}.
+ *
+ * <p>The cache is pre-filled with {@code configCount} configs, dumped into a temporary nacos home.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "";
+    
+    private static final String TYPE = "properties";
+    
+    @Param({"10000", "200000"})
+    public int configCount;
+    
+    @Param({"512"})
+    public int contentSize;
+    
+    private String[] dataIds;
+    
+    private String[] groupKeys;
+    
+    private String[] contents;
+    
+    private File nacosHome;
+    
+    private Subscriber<LocalDataChangeEvent> subscriber;
+    
+    /**
+     * Prepare nacos home, the {@link LocalDataChangeEvent} publisher and the pre-filled cache.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        nacosHome = Files.createTempDirectory("nacos-benchmark").toFile();
+        EnvUtil.setNacosHomePath(nacosHome.getAbsolutePath());
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
+        subscriber = new Subscriber<LocalDataChangeEvent>() {
+            
+            @Override
+            public void onEvent(LocalDataChangeEvent event) {
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return LocalDataChangeEvent.class;
+            }
+        };
+        NotifyCenter.registerSubscriber(subscriber);
+        
+        dataIds = new String[configCount];
+        groupKeys = new String[configCount];
+        contents = new String[configCount];
+        StringBuilder padding = new StringBuilder(contentSize);
+        for (int i = 0; i < contentSize; i++) {
+            padding.append('x');
+        }
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < configCount; i++) {
+            dataIds[i] = "benchmark.dataId." + i;
+            groupKeys[i] = GroupKey2.getKey(dataIds[i], GROUP, TENANT);
+            contents[i] = "key=" + i + "\nvalue=" + padding;
+            ConfigCacheService.dump(dataIds[i], GROUP, TENANT, contents[i], now, TYPE, null);
+        }
+    }
+    
+    /**
+     * Remove the temporary nacos home and the subscriber.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        NotifyCenter.deregisterSubscriber(subscriber);
+        for (String each : dataIds) {
+            ConfigCacheService.remove(each, GROUP, TENANT);
+        }
+        FileUtils.deleteDirectory(nacosHome);
+    }
+    
+    /**
+     * Per thread cursor to walk the keys without contention.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        
+        private int index;
+        
+        private long lastModifiedTs = System.currentTimeMillis();
+        
+        int next(int bound) {
+            index = index + 1 < bound ? index + 1 : 0;
+            return index;
+        }
+        
+        long nextTimestamp() {
+            return ++lastModifiedTs;
+        }
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public String getContentMd5(Cursor cursor) {
+        return ConfigCacheService.getContentMd5(groupKeys[cursor.next(configCount)]);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public boolean isUptodate(Cursor cursor) {
+        return ConfigCacheService.isUptodate(groupKeys[cursor.next(configCount)], "");
+    }
+    
+    /**
+     * Dump with unchanged content, which is the common case for full dump after restart.
+     */
+    @Benchmark
+    public boolean dumpUnchanged(Cursor cursor) {
+        int index = cursor.next(configCount);
+        return ConfigCacheService.dump(dataIds[index], GROUP, TENANT, contents[index], cursor.nextTimestamp(), TYPE,
+                null);
+    }
+    
+    /**
+     * Dump with changed content, which writes disk and publishes {@link LocalDataChangeEvent}.
+     */
+    @Benchmark
+    public boolean dumpChanged(Cursor cursor) {
+        int index = cursor.next(configCount);
+        long lastModifiedTs = cursor.nextTimestamp();
+        return ConfigCacheService.dump(dataIds[index], GROUP, TENANT, contents[index] + lastModifiedTs,
+                lastModifiedTs, TYPE, null);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark of {@link ConfigChangeListenContext} under concurrent batch listen requests from many connections.
+ *
+ * <p>The {@code synchronized} implementation serializes all operations through one monitor and copies the listen
+ * keys like the former context, it is kept as the baseline of comparison.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConfigChangeListenContextBenchmark {
+    
+    private static final String MD5 = "d41d8cd98f00b204e9800998ecf8427e";
+    
+    @Param({"concurrent", "synchronized"})
+    public String implementation;
+    
+    @Param({"1000"})
+    public int connectionCount;
+    
+    @Param({"200"})
+    public int keysPerConnection;
+    
+    private ConfigChangeListenContext context;
+    
+    private String[] connectionIds;
+    
+    private String[] groupKeys;
+    
+    private final AtomicInteger threadIndex = new AtomicInteger();
+    
+    /**
+     * Fill the context with {@code connectionCount * keysPerConnection} listen entries.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "synchronized".equals(implementation) ? new SynchronizedListenContext()
+                : new ConfigChangeListenContext();
+        connectionIds = new String[connectionCount];
+        groupKeys = new String[keysPerConnection];
+        for (int i = 0; i < keysPerConnection; i++) {
+            groupKeys[i] = GroupKey2.getKey("benchmark.dataId." + i, "DEFAULT_GROUP", "");
+        }
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = System.currentTimeMillis() + "_127.0.0.1_" + i;
+            for (String each : groupKeys) {
+                context.addListen(each, MD5, connectionIds[i]);
+            }
+        }
+    }
+    
+    /**
+     * Per thread cursor, every thread plays a disjoint range of connections like separated rpc threads.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        
+        private int threadOffset;
+        
+        private int connection;
+        
+        private int key;
+        
+        @Setup(Level.Trial)
+        public void setUp(ConfigChangeListenContextBenchmark benchmark) {
+            threadOffset = benchmark.threadIndex.getAndIncrement();
+        }
+        
+        String nextConnection(String[] connectionIds) {
+            connection = connection + 1 < connectionIds.length ? connection + 1 : 0;
+            return connectionIds[(connection + threadOffset) % connectionIds.length];
+        }
+        
+        String nextKey(String[] groupKeys) {
+            key = key + 1 < groupKeys.length ? key + 1 : 0;
+            return groupKeys[key];
+        }
+    }
+    
+    @Benchmark
+    public void addListen(Cursor cursor) {
+        context.addListen(cursor.nextKey(groupKeys), MD5, cursor.nextConnection(connectionIds));
+    }
+    
+    /**
+     * Remove and add back one listen entry, like a client that stops and restarts listening a config.
+     */
+    @Benchmark
+    public void removeAndAddListen(Cursor cursor) {
+        String groupKey = cursor.nextKey(groupKeys);
+        String connectionId = cursor.nextConnection(connectionIds);
+        context.removeListen(groupKey, connectionId);
+        context.addListen(groupKey, MD5, connectionId);
+    }
+    
+    @Benchmark
+    public Set<String> getListeners(Cursor cursor) {
+        return context.getListeners(cursor.nextKey(groupKeys));
+    }
+    
+    @Benchmark
+    public Map<String, String> getListenKeys(Cursor cursor) {
+        return context.getListenKeys(cursor.nextConnection(connectionIds));
+    }
+    
+    /**
+     * Clear a connection and listen all keys again, like a reconnect storm after server restart.
+     */
+    @Benchmark
+    public void reconnect(Cursor cursor) {
+        String connectionId = cursor.nextConnection(connectionIds);
+        context.clearContextForConnectionId(connectionId);
+        for (String each : groupKeys) {
+            context.addListen(each, MD5, connectionId);
+        }
+    }
+    
+    /**
+     * Baseline which guards the context by one monitor like the former implementation.
+     */
+    private static class SynchronizedListenContext extends ConfigChangeListenContext {
+        
+        @Override
+        public synchronized void addListen(String groupKey, String md5, String connectionId) {
+            super.addListen(groupKey, md5, connectionId);
+        }
+        
+        @Override
+        public synchronized void removeListen(String groupKey, String connectionId) {
+            super.removeListen(groupKey, connectionId);
+        }
+        
+        @Override
+        public synchronized Set<String> getListeners(String groupKey) {
+            return super.getListeners(groupKey);
+        }
+        
+        @Override
+        public synchronized void clearContextForConnectionId(String connectionId) {
+            super.clearContextForConnectionId(connectionId);
+        }
+        
+        @Override
+        public synchronized Map<String, String> getListenKeys(String connectionId) {
+            Map<String, String> listenKeys = super.getListenKeys(connectionId);
+            return null == listenKeys ? null : new HashMap<>(listenKeys);
+        }
+    }
+}
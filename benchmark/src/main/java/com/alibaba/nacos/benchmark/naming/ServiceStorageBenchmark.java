@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ServiceStorage#getPushData(Service)}, which rebuilds the full instance list of a service.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceStorageBenchmark {
+    
+    private static final String CLUSTER_PREFIX = "cluster-";
+    
+    @Param({"100", "2000", "5000"})
+    public int instanceCount;
+    
+    @Param({"4"})
+    public int clusterCount;
+    
+    private Service service;
+    
+    private ServiceStorage serviceStorage;
+    
+    /**
+     * Register {@code instanceCount} connection based clients, each of them publishes one instance.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = Service.newService("benchmark-namespace", "DEFAULT_GROUP", "benchmark.service." + instanceCount);
+        ServiceManager.getInstance().getSingleton(service);
+        final Map<String, Client> clients = new HashMap<>(instanceCount);
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        for (int i = 0; i < instanceCount; i++) {
+            InstancePublishInfo instance = new InstancePublishInfo("10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff)
+                    + "." + (i & 0xff), 8080);
+            instance.setCluster(CLUSTER_PREFIX + i % clusterCount);
+            instance.setHealthy(true);
+            instance.getExtendDatum().put("version", "1.0." + i % 10);
+            String clientId = System.currentTimeMillis() + "_10.0.0." + i + "_" + i;
+            ConnectionBasedClient client = new ConnectionBasedClient(clientId, true, 0L);
+            client.addServiceInstance(service, instance);
+            clients.put(clientId, client);
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+        }
+        ClientManagerDelegate clientManager = new ClientManagerDelegate(null, null, null) {
+            
+            @Override
+            public Client getClient(String clientId) {
+                return clients.get(clientId);
+            }
+        };
+        serviceStorage = new ServiceStorage(indexesManager, clientManager, new SwitchDomain(),
+                new NamingMetadataManager());
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo getPushData() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    @Benchmark
+    public ServiceInfo getData() {
+        return serviceStorage.getData(service);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link GrpcUtils#convert} and {@link GrpcUtils#parse(Payload)} for the hot request and response types.
+ *
+ * @author Nacos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrpcUtilsBenchmark {
+    
+    /**
+     * Instance count of the pushed service, also the config count of batch listen request.
+     */
+    @Param({"10", "500", "5000"})
+    public int size;
+    
+    /**
+     * Whether encode the body by binary payload codec, {@code false} means json.
+     */
+    @Param({"false", "true"})
+    public boolean binaryPayload;
+    
+    private NotifySubscriberRequest notifySubscriberRequest;
+    
+    private ConfigBatchListenRequest configBatchListenRequest;
+    
+    private ConfigQueryResponse configQueryResponse;
+    
+    private Payload notifySubscriberPayload;
+    
+    private Payload configBatchListenPayload;
+    
+    private Payload configQueryPayload;
+    
+    /**
+     * Build requests, responses and their payloads.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark.service", "");
+        List<Instance> hosts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark.service");
+            Map<String, String> metadata = new HashMap<>(4);
+            metadata.put("version", "1.0." + i % 10);
+            metadata.put("zone", "zone-" + i % 3);
+            instance.setMetadata(metadata);
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        notifySubscriberRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        notifySubscriberRequest.setNamespace("public");
+        notifySubscriberRequest.setServiceName("benchmark.service");
+        notifySubscriberRequest.setGroupName("DEFAULT_GROUP");
+        
+        configBatchListenRequest = new ConfigBatchListenRequest();
+        configBatchListenRequest.setListen(true);
+        for (int i = 0; i < size; i++) {
+            configBatchListenRequest.addConfigListenContext("DEFAULT_GROUP", "benchmark.dataId." + i, "",
+                    "d41d8cd98f00b204e9800998ecf8427e");
+        }
+        
+        StringBuilder content = new StringBuilder(size * 32);
+        for (int i = 0; i < size; i++) {
+            content.append("benchmark.key.").append(i).append("=value-").append(i).append('\n');
+        }
+        configQueryResponse = ConfigQueryResponse.buildSuccessResponse(content.toString());
+        configQueryResponse.setMd5("d41d8cd98f00b204e9800998ecf8427e");
+        configQueryResponse.setContentType("properties");
+        
+        notifySubscriberPayload = GrpcUtils.convert(notifySubscriberRequest, binaryPayload);
+        configBatchListenPayload = GrpcUtils.convert(configBatchListenRequest, binaryPayload);
+        configQueryPayload = GrpcUtils.convert(configQueryResponse, binaryPayload);
+    }
+    
+    @Benchmark
+    public Payload convertNotifySubscriberRequest() {
+        return GrpcUtils.convert(notifySubscriberRequest, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parseNotifySubscriberRequest() {
+        return GrpcUtils.parse(notifySubscriberPayload);
+    }
+    
+    @Benchmark
+    public Payload convertConfigBatchListenRequest() {
+        return GrpcUtils.convert(configBatchListenRequest, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parseConfigBatchListenRequest() {
+        return GrpcUtils.parse(configBatchListenPayload);
+    }
+    
+    @Benchmark
+    public Payload convertConfigQueryResponse() {
+        return GrpcUtils.convert(configQueryResponse, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parseConfigQueryResponse() {
+        return GrpcUtils.parse(configQueryPayload);
+    }
+}
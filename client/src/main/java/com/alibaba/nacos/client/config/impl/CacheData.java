@@ -45,6 +45,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Listener Management.
@@ -152,6 +153,11 @@ public class CacheData {
      */
     private volatile boolean isDiscard = false;
     
+    /**
+     * callback when the cache data need to be checked with server again.
+     */
+    private volatile Consumer<CacheData> stateChangeListener;
+    
     private String type;
     
     public boolean isInitializing() {
@@ -525,6 +531,9 @@ public class CacheData {
     
     public void setConsistentWithServer(boolean consistentWithServer) {
         isConsistentWithServer.set(consistentWithServer);
+        if (!consistentWithServer) {
+            notifyStateChanged();
+        }
     }
     
     public boolean isDiscard() {
@@ -533,6 +542,18 @@ public class CacheData {
     
     public void setDiscard(boolean discard) {
         isDiscard = discard;
+        notifyStateChanged();
+    }
+    
+    public void setStateChangeListener(Consumer<CacheData> stateChangeListener) {
+        this.stateChangeListener = stateChangeListener;
+    }
+    
+    private void notifyStateChanged() {
+        Consumer<CacheData> listener = stateChangeListener;
+        if (null != listener) {
+            listener.accept(this);
+        }
     }
     
     public CacheData(ConfigFilterChainManager configFilterChainManager, String envName, String dataId, String group) {
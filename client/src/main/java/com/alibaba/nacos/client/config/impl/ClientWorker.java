@@ -44,6 +44,7 @@ import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.env.SourceType;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.utils.CollectionUtils;
+import com.alibaba.nacos.client.remote.SharedRpcClientManager;
 import com.alibaba.nacos.client.utils.AppNameUtils;
 import com.alibaba.nacos.client.utils.EnvUtil;
 import com.alibaba.nacos.client.utils.LogUtils;
@@ -63,6 +64,7 @@ import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
 import com.alibaba.nacos.common.remote.client.ServerListFactory;
+import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
 import com.alibaba.nacos.common.utils.ConnLabelsUtils;
 import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
@@ -89,6 +91,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -98,7 +101,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -125,9 +127,10 @@ public class ClientWorker implements Closeable {
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
     /**
-     * groupKey -> cacheData.
+     * groupKey -> cacheData. Updated in place, the iteration is weakly consistent and caches added during iteration
+     * will be checked in next listen round.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final Map<String, CacheData> cacheMap = new ConcurrentHashMap<>(16);
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -145,6 +148,12 @@ public class ClientWorker implements Closeable {
     
     private boolean enableRemoteSyncConfig = false;
     
+    private boolean enableIncrementalListen = false;
+    
+    private boolean enableFailoverFileWatch = false;
+    
+    private FailoverFileIndex failoverFileIndex;
+    
     private static final int MIN_THREAD_NUM = 2;
     
     private static final int THREAD_MULTIPLE = 1;
@@ -287,16 +296,14 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
                 decreaseTaskIdCount(remove.getTaskId());
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -364,14 +371,12 @@ public class ClientWorker implements Closeable {
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -412,13 +417,11 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -431,9 +434,10 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            if (enableIncrementalListen) {
+                cache.setStateChangeListener(agent::markDirty);
+            }
+            cacheMap.put(key, cache);
         }
     }
     
@@ -464,7 +468,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -487,6 +491,10 @@ public class ClientWorker implements Closeable {
         init(properties);
         
         agent = new ConfigRpcTransportClient(properties, serverListManager);
+        if (enableFailoverFileWatch) {
+            failoverFileIndex = new FailoverFileIndex(LocalConfigInfoProcessor.getFailoverDir(agent.getName()));
+            failoverFileIndex.start();
+        }
         ScheduledExecutorService executorService = Executors.newScheduledThreadPool(initWorkerThreadCount(properties),
                 new NameThreadFactory("com.alibaba.nacos.client.Worker"));
         agent.setExecutor(executorService);
@@ -519,12 +527,18 @@ public class ClientWorker implements Closeable {
         
         this.enableRemoteSyncConfig = Boolean.parseBoolean(
                 properties.getProperty(PropertyKeyConst.ENABLE_REMOTE_SYNC_CONFIG));
+        
+        this.enableIncrementalListen = Boolean.parseBoolean(
+                properties.getProperty(PropertyKeyConst.ENABLE_INCREMENTAL_LISTEN_CONFIG));
+        
+        this.enableFailoverFileWatch = Boolean.parseBoolean(
+                properties.getProperty(PropertyKeyConst.ENABLE_FAILOVER_FILE_WATCH));
         initAppLabels(properties.getProperties(SourceType.PROPERTIES));
     }
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         boolean isFixServer = agent.serverListManager.isFixed;
@@ -547,7 +561,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -569,6 +583,9 @@ public class ClientWorker implements Closeable {
         if (agent != null) {
             agent.shutdown();
         }
+        if (failoverFileIndex != null) {
+            failoverFileIndex.shutdown();
+        }
         LOGGER.info("{} do shutdown stop", className);
     }
     
@@ -592,6 +609,11 @@ public class ClientWorker implements Closeable {
         
         private long lastAllSyncTime = System.currentTimeMillis();
         
+        /**
+         * taskId -> caches need to be checked in next listen round, only used when incremental listen enabled.
+         */
+        private final Map<Integer, Set<CacheData>> dirtyCaches = new ConcurrentHashMap<>(4);
+        
         Subscriber subscriber = null;
         
         /**
@@ -599,8 +621,21 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 3 * 60 * 1000L;
         
+        private boolean sharedConnection;
+        
+        private final boolean requestBatchEnabled;
+        
+        private RpcClient sharedRpcClient;
+        
+        private final List<ServerRequestHandler> sharedRequestHandlers = new ArrayList<>(2);
+        
+        private ConnectionEventListener sharedConnectionListener;
+        
         public ConfigRpcTransportClient(NacosClientProperties properties, ServerListManager serverListManager) {
             super(properties, serverListManager);
+            this.sharedConnection = SharedRpcClientManager.isSharable(this.properties);
+            this.requestBatchEnabled = ConvertUtils.toBoolean(
+                    this.properties.getProperty(PropertyKeyConst.RPC_REQUEST_BATCH_ENABLED), false);
         }
         
         private ConnectionType getConnectionType() {
@@ -628,11 +663,11 @@ public class ClientWorker implements Closeable {
                         iterator.remove();
                     }
                 }
+                releaseSharedRpcClient();
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
+                for (Map.Entry<String, CacheData> entry : cacheMap.entrySet()) {
                     entry.getValue().setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
@@ -670,7 +705,7 @@ public class ClientWorker implements Closeable {
             String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                     configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
             
-            CacheData cacheData = cacheMap.get().get(groupKey);
+            CacheData cacheData = cacheMap.get(groupKey);
             if (cacheData != null) {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
@@ -692,22 +727,24 @@ public class ClientWorker implements Closeable {
             /*
              * Register Config Change /Config ReSync Handler
              */
-            rpcClientInner.registerServerRequestHandler((request, connection) -> {
+            ServerRequestHandler configChangeNotifyHandler = (request, connection) -> {
                 if (request instanceof ConfigChangeNotifyRequest) {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
                 return null;
-            });
+            };
+            rpcClientInner.registerServerRequestHandler(configChangeNotifyHandler);
             
-            rpcClientInner.registerServerRequestHandler((request, connection) -> {
+            ServerRequestHandler clientMetricsHandler = (request, connection) -> {
                 if (request instanceof ClientConfigMetricRequest) {
                     return handleClientMetricsRequest((ClientConfigMetricRequest) request);
                 }
                 return null;
-            });
+            };
+            rpcClientInner.registerServerRequestHandler(clientMetricsHandler);
             
-            rpcClientInner.registerConnectionListener(new ConnectionEventListener() {
+            ConnectionEventListener connectionEventListener = new ConnectionEventListener() {
                 
                 @Override
                 public void onConnected(Connection connection) {
@@ -719,7 +756,7 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = cacheMap.values();
                     
                     for (CacheData cacheData : values) {
                         if (StringUtils.isNotBlank(taskId)) {
@@ -732,7 +769,13 @@ public class ClientWorker implements Closeable {
                     }
                 }
                 
-            });
+            };
+            rpcClientInner.registerConnectionListener(connectionEventListener);
+            if (rpcClientInner == sharedRpcClient) {
+                sharedRequestHandlers.add(configChangeNotifyHandler);
+                sharedRequestHandlers.add(clientMetricsHandler);
+                sharedConnectionListener = connectionEventListener;
+            }
             
             rpcClientInner.serverListFactory(new ServerListFactory() {
                 @Override
@@ -802,6 +845,36 @@ public class ClientWorker implements Closeable {
             listenExecutebell.offer(bellItem);
         }
         
+        /**
+         * Mark the cache data to be checked in next listen round of incremental listen.
+         *
+         * @param cacheData cache data which state changed
+         */
+        void markDirty(CacheData cacheData) {
+            dirtyCaches.computeIfAbsent(cacheData.getTaskId(), taskId -> ConcurrentHashMap.newKeySet()).add(cacheData);
+        }
+        
+        /**
+         * Take all dirty caches which are still in cacheMap.
+         *
+         * @return dirty caches
+         */
+        private List<CacheData> drainDirtyCaches() {
+            List<CacheData> result = new ArrayList<>();
+            for (Set<CacheData> each : dirtyCaches.values()) {
+                Iterator<CacheData> iterator = each.iterator();
+                while (iterator.hasNext()) {
+                    CacheData cacheData = iterator.next();
+                    iterator.remove();
+                    if (cacheMap.get(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant))
+                            == cacheData) {
+                        result.add(cacheData);
+                    }
+                }
+            }
+            return result;
+        }
+        
         @Override
         public void executeConfigListen() throws NacosException {
             
@@ -809,7 +882,13 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            // With incremental listen, only the dirty caches are checked, and all caches are checked by full sync.
+            Collection<CacheData> caches = cacheMap.values();
+            if (enableIncrementalListen) {
+                List<CacheData> dirty = drainDirtyCaches();
+                caches = needAllSync ? caches : dirty;
+            }
+            for (CacheData cache : caches) {
                 
                 synchronized (cache) {
                     
@@ -842,11 +921,16 @@ public class ClientWorker implements Closeable {
             }
             
             //execute check listen ,return true if has change keys.
-            boolean hasChangedKeys = checkListenCache(listenCachesMap);
+            final boolean hasChangedKeys = checkListenCache(listenCachesMap);
             
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
             
+            if (enableIncrementalListen) {
+                remarkInconsistentCaches(listenCachesMap);
+                remarkInconsistentCaches(removeListenCachesMap);
+            }
+            
             if (needAllSync) {
                 lastAllSyncTime = now;
             }
@@ -857,6 +941,20 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * The changed or failed caches are still inconsistent with server after listen round, which should be checked
+         * again in next round like the full scan.
+         */
+        private void remarkInconsistentCaches(Map<String, List<CacheData>> checkedCachesMap) {
+            for (List<CacheData> each : checkedCachesMap.values()) {
+                for (CacheData cacheData : each) {
+                    if (!cacheData.isConsistentWithServer() && !cacheData.isUseLocalConfigInfo()) {
+                        markDirty(cacheData);
+                    }
+                }
+            }
+        }
+        
         /**
          * Checks and handles local configuration for a given CacheData object. This method evaluates the use of
          * failover files for local configuration storage and updates the CacheData accordingly.
@@ -871,13 +969,14 @@ public class ClientWorker implements Closeable {
             
             // Check if a failover file exists for the specified dataId, group, and tenant.
             File file = LocalConfigInfoProcessor.getFailoverFile(envName, dataId, group, tenant);
+            final boolean failoverExists = null == failoverFileIndex ? file.exists() : failoverFileIndex.exists(file);
             
             // If not using local config info and a failover file exists, load and use it.
-            if (!cacheData.isUseLocalConfigInfo() && file.exists()) {
+            if (!cacheData.isUseLocalConfigInfo() && failoverExists) {
                 String content = LocalConfigInfoProcessor.getFailover(envName, dataId, group, tenant);
                 final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
                 cacheData.setUseLocalConfigInfo(true);
-                cacheData.setLocalConfigInfoVersion(file.lastModified());
+                cacheData.setLocalConfigInfoVersion(getFailoverLastModified(file));
                 cacheData.setContent(content);
                 LOGGER.warn(
                         "[{}] [failover-change] failover file created. dataId={}, group={}, tenant={}, md5={}, content={}",
@@ -886,7 +985,7 @@ public class ClientWorker implements Closeable {
             }
             
             // If use local config info, but the failover file is deleted, switch back to server config.
-            if (cacheData.isUseLocalConfigInfo() && !file.exists()) {
+            if (cacheData.isUseLocalConfigInfo() && !failoverExists) {
                 cacheData.setUseLocalConfigInfo(false);
                 LOGGER.warn("[{}] [failover-change] failover file deleted. dataId={}, group={}, tenant={}", envName,
                         dataId, group, tenant);
@@ -894,12 +993,12 @@ public class ClientWorker implements Closeable {
             }
             
             // When the failover file content changes, indicating a change in local configuration.
-            if (cacheData.isUseLocalConfigInfo() && file.exists()
-                    && cacheData.getLocalConfigInfoVersion() != file.lastModified()) {
+            if (cacheData.isUseLocalConfigInfo() && failoverExists
+                    && cacheData.getLocalConfigInfoVersion() != getFailoverLastModified(file)) {
                 String content = LocalConfigInfoProcessor.getFailover(envName, dataId, group, tenant);
                 final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
                 cacheData.setUseLocalConfigInfo(true);
-                cacheData.setLocalConfigInfoVersion(file.lastModified());
+                cacheData.setLocalConfigInfoVersion(getFailoverLastModified(file));
                 cacheData.setContent(content);
                 LOGGER.warn(
                         "[{}] [failover-change] failover file changed. dataId={}, group={}, tenant={}, md5={}, content={}",
@@ -907,6 +1006,10 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        private long getFailoverLastModified(File file) {
+            return null == failoverFileIndex ? file.lastModified() : failoverFileIndex.lastModified(file);
+        }
+        
         private ExecutorService ensureSyncExecutor(String taskId) {
             if (!multiTaskExecutor.containsKey(taskId)) {
                 multiTaskExecutor.put(taskId,
@@ -920,8 +1023,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            CacheData cache = cacheMap.get(groupKey);
+            if (cache != null) {
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1030,7 +1133,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1041,7 +1144,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1089,6 +1192,12 @@ public class ClientWorker implements Closeable {
         
         private RpcClient ensureRpcClient(String taskId) throws NacosException {
             synchronized (ClientWorker.this) {
+                if (sharedConnection) {
+                    RpcClient rpcClient = ensureSharedRpcClient();
+                    if (null != rpcClient) {
+                        return rpcClient;
+                    }
+                }
                 Map<String, String> labels = getLabels();
                 Map<String, String> newLabels = new HashMap<>(labels);
                 newLabels.put("taskId", taskId);
@@ -1107,6 +1216,40 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * All tasks use the same shared rpc client, so the disconnection marks all caches inconsistent. If the shared
+         * rpc client is used by another config service, the dedicated rpc clients of tasks are used instead.
+         */
+        private RpcClient ensureSharedRpcClient() throws NacosException {
+            if (null == sharedRpcClient) {
+                sharedRpcClient = SharedRpcClientManager.acquire(properties, getTenant(), getLabels());
+                if (null == sharedRpcClient) {
+                    sharedConnection = false;
+                    return null;
+                }
+                initRpcClientHandler(sharedRpcClient);
+                sharedRpcClient.start();
+                if (sharedRpcClient.isRunning()) {
+                    notifyListenConfig();
+                }
+            }
+            return sharedRpcClient;
+        }
+        
+        private void releaseSharedRpcClient() {
+            if (null == sharedRpcClient) {
+                return;
+            }
+            for (ServerRequestHandler each : sharedRequestHandlers) {
+                sharedRpcClient.unregisterServerRequestHandler(each);
+            }
+            if (null != sharedConnectionListener) {
+                sharedRpcClient.unregisterConnectionListener(sharedConnectionListener);
+            }
+            SharedRpcClientManager.release(sharedRpcClient, RemoteConstants.LABEL_MODULE_CONFIG);
+            sharedRpcClient = null;
+        }
+        
         /**
          * build config string.
          *
@@ -1147,7 +1290,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
@@ -1220,7 +1363,8 @@ public class ClientWorker implements Closeable {
                 throw new NacosException(NacosException.CLIENT_OVER_THRESHOLD,
                         "More than client-side current limit threshold");
             }
-            return rpcClientInner.request(request, timeoutMills);
+            return requestBatchEnabled ? rpcClientInner.requestBatched(request, timeoutMills)
+                    : rpcClientInner.request(request, timeoutMills);
         }
         
         private RequestResource resourceBuild(Request request) {
@@ -0,0 +1,262 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory index of the failover files, so that the listen loop needn't stat the failover file of every config.
+ *
+ * <p>The failover directory is watched by {@link WatchService}. If the directory doesn't exist or the watch service is
+ * not available, the directory is scanned periodically instead.
+ *
+ * @author Nacos
+ */
+public class FailoverFileIndex implements Closeable {
+    
+    private static final Logger LOGGER = LogUtils.logger(FailoverFileIndex.class);
+    
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 5000L;
+    
+    private final Path root;
+    
+    private final long pollIntervalMillis;
+    
+    /**
+     * absolute path of failover file -> last modified time.
+     */
+    private final Map<String, Long> index = new ConcurrentHashMap<>(16);
+    
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>(16);
+    
+    private final ExecutorService executor = ExecutorFactory.newSingleExecutorService(
+            new NameThreadFactory("com.alibaba.nacos.client.config.failover.index"));
+    
+    private WatchService watchService;
+    
+    private volatile boolean closed = false;
+    
+    public FailoverFileIndex(File root) {
+        this(root, DEFAULT_POLL_INTERVAL_MILLIS);
+    }
+    
+    FailoverFileIndex(File root, long pollIntervalMillis) {
+        this.root = root.toPath().toAbsolutePath();
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+    
+    /**
+     * Build the index and start watching the failover directory.
+     */
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("[failover-index] watch service is not available, scan {} periodically", root, e);
+        }
+        tryWatchRoot();
+        rescan();
+        executor.execute(this::run);
+    }
+    
+    /**
+     * Whether the failover file exists.
+     *
+     * @param file failover file
+     * @return {@code true} if exists
+     */
+    public boolean exists(File file) {
+        return index.containsKey(indexKey(file));
+    }
+    
+    /**
+     * Get the last modified time of failover file.
+     *
+     * @param file failover file
+     * @return last modified time, or {@code 0L} if not exist like {@link File#lastModified()}
+     */
+    public long lastModified(File file) {
+        Long result = index.get(indexKey(file));
+        return null == result ? 0L : result;
+    }
+    
+    private String indexKey(File file) {
+        return file.toPath().toAbsolutePath().toString();
+    }
+    
+    private void run() {
+        while (!closed) {
+            try {
+                if (watchedDirs.isEmpty()) {
+                    ThreadUtils.sleep(pollIntervalMillis);
+                    tryWatchRoot();
+                    rescan();
+                    continue;
+                }
+                WatchKey key = watchService.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (null != key) {
+                    handleWatchKey(key);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (Throwable e) {
+                LOGGER.error("[failover-index] update index of {} failed", root, e);
+            }
+        }
+    }
+    
+    private void tryWatchRoot() {
+        if (null == watchService || !Files.isDirectory(root)) {
+            return;
+        }
+        registerAll(root);
+    }
+    
+    private void handleWatchKey(WatchKey key) {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (StandardWatchEventKinds.OVERFLOW == event.kind() || null == dir) {
+                rescan();
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            if (StandardWatchEventKinds.ENTRY_DELETE == event.kind()) {
+                removeIndex(child);
+            } else if (Files.isDirectory(child)) {
+                // The files might be created before the new directory is registered.
+                registerAll(child);
+                scan(child, index);
+            } else {
+                updateIndex(child);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+            if (root.equals(dir)) {
+                cancelAll();
+                rescan();
+            }
+        }
+    }
+    
+    private void registerAll(Path dir) {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path each, BasicFileAttributes attrs) throws IOException {
+                    WatchKey key = each.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    watchedDirs.put(key, each);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("[failover-index] watch {} failed", dir, e);
+        }
+    }
+    
+    private void cancelAll() {
+        for (WatchKey each : watchedDirs.keySet()) {
+            each.cancel();
+        }
+        watchedDirs.clear();
+    }
+    
+    /**
+     * Scan the whole failover directory, the index is replaced after scanning so that readers never see an empty
+     * index during scanning.
+     */
+    private void rescan() {
+        Map<String, Long> latest = new HashMap<>(16);
+        if (Files.isDirectory(root)) {
+            scan(root, latest);
+        }
+        index.putAll(latest);
+        index.keySet().retainAll(latest.keySet());
+    }
+    
+    private void scan(Path dir, Map<String, Long> target) {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        target.put(file.toString(), attrs.lastModifiedTime().toMillis());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+                
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("[failover-index] scan {} failed", dir, e);
+        }
+    }
+    
+    private void updateIndex(Path file) {
+        File target = file.toFile();
+        if (target.isFile()) {
+            index.put(file.toString(), target.lastModified());
+        }
+    }
+    
+    private void removeIndex(Path path) {
+        String removed = path.toString();
+        String prefix = removed + File.separator;
+        index.keySet().removeIf(each -> each.equals(removed) || each.startsWith(prefix));
+    }
+    
+    @Override
+    public void shutdown() {
+        closed = true;
+        executor.shutdownNow();
+        if (null != watchService) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("[failover-index] close watch service failed", e);
+            }
+        }
+    }
+}
@@ -191,9 +191,7 @@ public class LocalConfigInfoProcessor {
     }
     
     static File getFailoverFile(String serverName, String dataId, String group, String tenant) {
-        serverName = simplyEnvNameIfOverLimit(serverName);
-        File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
-        tmp = new File(tmp, FAILOVER_FILE_CHILD_1);
+        File tmp = getFailoverDir(serverName);
         if (StringUtils.isBlank(tenant)) {
             tmp = new File(tmp, FAILOVER_FILE_CHILD_2);
         } else {
@@ -203,6 +201,18 @@ public class LocalConfigInfoProcessor {
         return new File(new File(tmp, group), dataId);
     }
     
+    /**
+     * Get the directory of all failover files for the server.
+     *
+     * @param serverName server name
+     * @return failover directory
+     */
+    static File getFailoverDir(String serverName) {
+        serverName = simplyEnvNameIfOverLimit(serverName);
+        File tmp = new File(LOCAL_SNAPSHOT_PATH, serverName + SUFFIX);
+        return new File(tmp, FAILOVER_FILE_CHILD_1);
+    }
+    
     static File getSnapshotFile(String envName, String dataId, String group, String tenant) {
         envName = simplyEnvNameIfOverLimit(envName);
         File tmp = new File(LOCAL_SNAPSHOT_PATH, envName + SUFFIX);
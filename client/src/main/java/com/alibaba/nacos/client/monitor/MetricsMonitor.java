@@ -38,10 +38,21 @@ public class MetricsMonitor {
             .name("nacos_client_naming_request_failed_total").help("nacos_client_naming_request_failed_total")
             .labelNames("module", "req_class", "res_status", "res_code", "err_class").register();
     
+    private static final Histogram NACOS_CLIENT_DISK_CACHE_FLUSH_HISTOGRAM = Histogram.build().labelNames("module")
+            .name("nacos_client_disk_cache_flush").help("nacos_client_disk_cache_flush").register();
+    
     public static Gauge.Child getServiceInfoMapSizeMonitor() {
         return NACOS_MONITOR.labels("naming", "serviceInfoMapSize");
     }
     
+    public static Gauge.Child getDiskCacheWriteQueueSizeMonitor() {
+        return NACOS_MONITOR.labels("naming", "diskCacheWriteQueueSize");
+    }
+    
+    public static Histogram.Child getDiskCacheFlushMonitor() {
+        return NACOS_CLIENT_DISK_CACHE_FLUSH_HISTOGRAM.labels("naming");
+    }
+    
     public static Gauge.Child getListenConfigCountMonitor() {
         return NACOS_MONITOR.labels("config", "listenConfigCount");
     }
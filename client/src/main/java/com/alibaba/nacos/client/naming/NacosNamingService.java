@@ -29,7 +29,7 @@ import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
-import com.alibaba.nacos.client.naming.core.Balancer;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoViews;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesChangeNotifier;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
@@ -86,6 +86,8 @@ public class NacosNamingService implements NamingService {
     
     private String notifierEventScope;
     
+    private boolean clusterViewEnabled;
+    
     public NacosNamingService(String serverList) throws NacosException {
         Properties properties = new Properties();
         properties.setProperty(PropertyKeyConst.SERVER_ADDR, serverList);
@@ -105,6 +107,7 @@ public class NacosNamingService implements NamingService {
         InitUtils.initSerialization();
         InitUtils.initWebRootContext(nacosClientProperties);
         initLogName(nacosClientProperties);
+        this.clusterViewEnabled = nacosClientProperties.getBoolean(PropertyKeyConst.NAMING_CLUSTER_VIEW_ENABLED, false);
         
         this.notifierEventScope = UUID.randomUUID().toString();
         this.changeNotifier = new InstancesChangeNotifier(this.notifierEventScope);
@@ -303,6 +306,11 @@ public class NacosNamingService implements NamingService {
     @Override
     public List<Instance> selectInstances(String serviceName, String groupName, List<String> clusters, boolean healthy,
             boolean subscribe) throws NacosException {
+        if (isClusterViewUsed(subscribe)) {
+            ServiceInfoViews views = getServiceInfoViews(serviceName, groupName);
+            return null == views ? new ArrayList<>()
+                    : new ArrayList<>(views.getInstances(StringUtils.join(clusters, ","), healthy));
+        }
         ServiceInfo serviceInfo = getServiceInfo(serviceName, groupName, clusters, subscribe);
         return selectInstances(serviceInfo, healthy);
     }
@@ -342,6 +350,19 @@ public class NacosNamingService implements NamingService {
         return serviceInfo;
     }
     
+    /**
+     * Cluster views are used only for subscribed services when failover is off, all clusters of the service are
+     * subscribed once and the clusters are filtered in local.
+     */
+    private boolean isClusterViewUsed(boolean subscribe) {
+        return clusterViewEnabled && subscribe && !serviceInfoHolder.isFailoverSwitch();
+    }
+    
+    private ServiceInfoViews getServiceInfoViews(String serviceName, String groupName) throws NacosException {
+        ServiceInfo serviceInfo = getServiceInfoBySubscribe(serviceName, groupName, Constants.NULL, true);
+        return null == serviceInfo ? null : serviceInfoHolder.getServiceInfoViews(serviceInfo);
+    }
+    
     private ServiceInfo getServiceInfo(String serviceName, String groupName, List<String> clusters, boolean subscribe)
             throws NacosException {
         ServiceInfo serviceInfo;
@@ -355,6 +376,10 @@ public class NacosNamingService implements NamingService {
             }
         }
         
+        if (clusterViewEnabled && subscribe) {
+            ServiceInfoViews views = getServiceInfoViews(serviceName, groupName);
+            return null == views ? null : views.getClusterView(clusterString);
+        }
         serviceInfo = getServiceInfoBySubscribe(serviceName, groupName, clusterString, subscribe);
         return serviceInfo;
     }
@@ -401,7 +426,7 @@ public class NacosNamingService implements NamingService {
     public Instance selectOneHealthyInstance(String serviceName, String groupName, List<String> clusters,
             boolean subscribe) throws NacosException {
         ServiceInfo serviceInfo = getServiceInfo(serviceName, groupName, clusters, subscribe);
-        return Balancer.RandomByWeight.selectHost(serviceInfo);
+        return serviceInfoHolder.selectOneHealthyInstance(serviceInfo);
     }
     
     @Override
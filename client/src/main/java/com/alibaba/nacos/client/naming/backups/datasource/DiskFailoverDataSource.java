@@ -23,6 +23,7 @@ import com.alibaba.nacos.client.naming.backups.FailoverSwitch;
 import com.alibaba.nacos.client.naming.backups.NamingFailoverData;
 import com.alibaba.nacos.client.utils.ConcurrentDiskUtil;
 import com.alibaba.nacos.client.naming.cache.DiskCache;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoSnapshot;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
 import com.alibaba.nacos.client.naming.utils.UtilAndComs;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -83,7 +84,8 @@ public class DiskFailoverDataSource implements FailoverDataSource {
                         continue;
                     }
                     
-                    if (file.getName().equals(UtilAndComs.FAILOVER_SWITCH)) {
+                    if (file.getName().equals(UtilAndComs.FAILOVER_SWITCH) || ServiceInfoSnapshot
+                            .isSnapshotFile(file.getName())) {
                         continue;
                     }
                     
@@ -91,6 +93,11 @@ public class DiskFailoverDataSource implements FailoverDataSource {
                         domMap.put(entry.getKey(), NamingFailoverData.newNamingFailoverData(entry.getValue()));
                     }
                 }
+                
+                // the services in snapshot file are copied from the cache dir of a client with snapshot enabled.
+                for (Map.Entry<String, ServiceInfo> entry : ServiceInfoSnapshot.readAll(failoverDir).entrySet()) {
+                    domMap.putIfAbsent(entry.getKey(), NamingFailoverData.newNamingFailoverData(entry.getValue()));
+                }
             } catch (Exception e) {
                 NAMING_LOGGER.error("[NA] failed to read cache file", e);
             }
@@ -96,7 +96,7 @@ public class DiskCache {
             }
             
             for (File file : files) {
-                if (!file.isFile()) {
+                if (!file.isFile() || ServiceInfoSnapshot.isSnapshotFile(file.getName())) {
                     continue;
                 }
                 domMap.putAll(parseServiceInfoFromCache(file));
@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Write service info to disk cache in background.
+ *
+ * <p>Pending writes are coalesced by service key, so only the latest service info is written if a service changes
+ * many times before flushing. Pending writes are flushed every flush interval, or as soon as the pending bytes exceed
+ * the budget.
+ *
+ * @author Nacos
+ */
+public class DiskCacheWriter implements Closeable {
+    
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000L;
+    
+    public static final long DEFAULT_FLUSH_BYTES = 1024 * 1024L;
+    
+    private final Consumer<ServiceInfo> sink;
+    
+    private final long flushBytes;
+    
+    private final Map<String, ServiceInfo> pending = new ConcurrentHashMap<>(16);
+    
+    private final AtomicLong pendingBytes = new AtomicLong();
+    
+    private final AtomicBoolean flushTriggered = new AtomicBoolean(false);
+    
+    private final ScheduledExecutorService executorService;
+    
+    public DiskCacheWriter(Consumer<ServiceInfo> sink, long flushIntervalMillis, long flushBytes) {
+        this.sink = sink;
+        this.flushBytes = flushBytes;
+        this.executorService = new ScheduledThreadPoolExecutor(1,
+                new NameThreadFactory("com.alibaba.nacos.client.naming.cache.writer"));
+        this.executorService.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Submit service info to write, replaces the pending service info of same key.
+     *
+     * @param serviceInfo service info
+     */
+    public void write(ServiceInfo serviceInfo) {
+        ServiceInfo old = pending.put(serviceInfo.getKey(), serviceInfo);
+        long total = pendingBytes.addAndGet(estimateSize(serviceInfo) - estimateSize(old));
+        MetricsMonitor.getDiskCacheWriteQueueSizeMonitor().set(pending.size());
+        if (total >= flushBytes && flushTriggered.compareAndSet(false, true)) {
+            try {
+                executorService.execute(this::flush);
+            } catch (Exception e) {
+                flushTriggered.set(false);
+                NAMING_LOGGER.warn("[NA] trigger disk cache flush failed", e);
+            }
+        }
+    }
+    
+    private long estimateSize(ServiceInfo serviceInfo) {
+        if (null == serviceInfo) {
+            return 0L;
+        }
+        String json = serviceInfo.getJsonFromServer();
+        return StringUtils.isEmpty(json) ? 0L : json.length();
+    }
+    
+    /**
+     * Write all pending service infos by sink.
+     */
+    void flush() {
+        flushTriggered.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (String each : pending.keySet()) {
+            ServiceInfo serviceInfo = pending.remove(each);
+            if (null == serviceInfo) {
+                continue;
+            }
+            pendingBytes.addAndGet(-estimateSize(serviceInfo));
+            try {
+                sink.accept(serviceInfo);
+            } catch (Throwable e) {
+                NAMING_LOGGER.error("[NA] failed to write disk cache for service: {}", each, e);
+            }
+        }
+        MetricsMonitor.getDiskCacheWriteQueueSizeMonitor().set(pending.size());
+        MetricsMonitor.getDiskCacheFlushMonitor().observe(System.currentTimeMillis() - start);
+    }
+    
+    int pendingSize() {
+        return pending.size();
+    }
+    
+    @Override
+    public void shutdown() {
+        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        // write the rest pending service infos before closing the cache.
+        flush();
+    }
+}
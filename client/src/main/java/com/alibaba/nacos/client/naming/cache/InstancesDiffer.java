@@ -27,17 +27,35 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
 
 /**
  * The instance list differ for nacos naming.
  *
+ * <p>Each instance is compared by a fingerprint of its content. The fingerprints of the last diffed service info are
+ * kept, so that only the fingerprints of the new service info are calculated for each diff. The unchanged instances in
+ * the new service info, which have the same fingerprint and are equal to the old ones, are replaced by the old ones, so
+ * that listeners see the same instance objects across versions.
+ *
  * @author xiweng.yy
  */
 public final class InstancesDiffer {
     
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final long NULL_HASH = 0x9e3779b97f4a7c15L;
+    
+    /**
+     * service key -> fingerprints of the last diffed service info.
+     */
+    private final Map<String, Fingerprints> lastFingerprints = new ConcurrentHashMap<>(16);
+    
     /**
      * Do instance different for input service info.
      *
@@ -51,6 +69,7 @@ public final class InstancesDiffer {
             NAMING_LOGGER.info("init new ips({}) service: {} -> {}", newService.ipCount(), newService.getKey(),
                     JacksonUtils.toJson(newService.getHosts()));
             instancesDiff.setAddedInstances(newService.getHosts());
+            cacheFingerprints(newService, buildFingerprints(newService.getHosts()));
             return instancesDiff;
         }
         if (oldService.getLastRefTime() > newService.getLastRefTime()) {
@@ -58,44 +77,48 @@ public final class InstancesDiffer {
                     newService.getLastRefTime());
             return instancesDiff;
         }
-        
-        Map<String, Instance> oldHostMap = new HashMap<>(oldService.getHosts().size());
-        for (Instance host : oldService.getHosts()) {
-            oldHostMap.put(host.toInetAddr(), host);
-        }
-        Map<String, Instance> newHostMap = new HashMap<>(newService.getHosts().size());
-        for (Instance host : newService.getHosts()) {
-            newHostMap.put(host.toInetAddr(), host);
+        if (isSameChecksum(oldService, newService)) {
+            newService.setHosts(oldService.getHosts());
+            cacheFingerprints(newService, getFingerprints(oldService));
+            return instancesDiff;
         }
         
+        // getHosts returns a copy every time
+        List<Instance> hosts = newService.getHosts();
+        Map<String, Fingerprint> oldHostMap = getFingerprints(oldService);
+        Map<String, Fingerprint> newHostMap = new HashMap<>(hosts.size());
+        List<Instance> reusedHosts = new ArrayList<>(hosts.size());
         Set<Instance> modHosts = new HashSet<>();
         Set<Instance> newHosts = new HashSet<>();
         Set<Instance> remvHosts = new HashSet<>();
         
-        List<Map.Entry<String, Instance>> newServiceHosts = new ArrayList<>(newHostMap.entrySet());
-        for (Map.Entry<String, Instance> entry : newServiceHosts) {
-            Instance host = entry.getValue();
-            String key = entry.getKey();
-            if (oldHostMap.containsKey(key) && !StringUtils.equals(host.toString(), oldHostMap.get(key).toString())) {
-                modHosts.add(host);
-                continue;
-            }
-            
-            if (!oldHostMap.containsKey(key)) {
+        for (Instance each : hosts) {
+            Instance host = each;
+            String key = host.toInetAddr();
+            long fingerprint = fingerprint(host);
+            Fingerprint old = oldHostMap.get(key);
+            if (null == old) {
                 newHosts.add(host);
+            } else if (old.fingerprint == fingerprint && isSameContent(old.instance, host)) {
+                // reuse the old instance only if it is really unchanged, fingerprint may collide.
+                host = old.instance;
+            } else {
+                modHosts.add(host);
             }
+            reusedHosts.add(host);
+            newHostMap.put(key, new Fingerprint(fingerprint, host));
         }
         
-        for (Map.Entry<String, Instance> entry : oldHostMap.entrySet()) {
-            Instance host = entry.getValue();
-            String key = entry.getKey();
-            if (newHostMap.containsKey(key)) {
+        for (Map.Entry<String, Fingerprint> entry : oldHostMap.entrySet()) {
+            if (newHostMap.containsKey(entry.getKey())) {
                 continue;
             }
             
             //add to remove hosts
-            remvHosts.add(host);
+            remvHosts.add(entry.getValue().instance);
         }
+        newService.setHosts(reusedHosts);
+        cacheFingerprints(newService, newHostMap);
         
         if (newHosts.size() > 0) {
             NAMING_LOGGER.info("new ips({}) service: {} -> {}", newHosts.size(), newService.getKey(),
@@ -116,4 +139,120 @@ public final class InstancesDiffer {
         }
         return instancesDiff;
     }
+    
+    private boolean isSameChecksum(ServiceInfo oldService, ServiceInfo newService) {
+        return StringUtils.isNotEmpty(newService.getChecksum()) && StringUtils.equals(oldService.getChecksum(),
+                newService.getChecksum());
+    }
+    
+    /**
+     * Get the fingerprints of service info, reuse the cached one if the service info is diffed last time.
+     */
+    private Map<String, Fingerprint> getFingerprints(ServiceInfo serviceInfo) {
+        Fingerprints cached = null == serviceInfo.getKey() ? null : lastFingerprints.get(serviceInfo.getKey());
+        if (null != cached && cached.serviceInfo == serviceInfo) {
+            return cached.instances;
+        }
+        return buildFingerprints(serviceInfo.getHosts());
+    }
+    
+    private Map<String, Fingerprint> buildFingerprints(List<Instance> hosts) {
+        Map<String, Fingerprint> result = new HashMap<>(hosts.size());
+        for (Instance each : hosts) {
+            result.put(each.toInetAddr(), new Fingerprint(fingerprint(each), each));
+        }
+        return result;
+    }
+    
+    private void cacheFingerprints(ServiceInfo serviceInfo, Map<String, Fingerprint> instances) {
+        if (null != serviceInfo.getKey()) {
+            lastFingerprints.put(serviceInfo.getKey(), new Fingerprints(serviceInfo, instances));
+        }
+    }
+    
+    /**
+     * Calculate the 64 bits fingerprint of all fields of instance, the metadata is hashed regardless of the order.
+     *
+     * @param instance instance
+     * @return fingerprint
+     */
+    static long fingerprint(Instance instance) {
+        long result = FNV_OFFSET_BASIS;
+        result = hash(result, instance.getInstanceId());
+        result = hash(result, instance.getIp());
+        result = mix(result, instance.getPort());
+        result = mix(result, Double.doubleToLongBits(instance.getWeight()));
+        result = mix(result, instance.isHealthy() ? 1L : 0L);
+        result = mix(result, instance.isEnabled() ? 1L : 0L);
+        result = mix(result, instance.isEphemeral() ? 1L : 0L);
+        result = hash(result, instance.getClusterName());
+        result = hash(result, instance.getServiceName());
+        if (null == instance.getMetadata()) {
+            return mix(result, NULL_HASH);
+        }
+        long metadataHash = 0L;
+        for (Map.Entry<String, String> entry : instance.getMetadata().entrySet()) {
+            metadataHash += hash(hash(FNV_OFFSET_BASIS, entry.getKey()), entry.getValue());
+        }
+        return mix(result, metadataHash);
+    }
+    
+    /**
+     * Compare the fields covered by the fingerprint one by one, {@link Instance#equals(Object)} is not used because it
+     * builds the string of both instances.
+     *
+     * @param one     one instance
+     * @param another another instance
+     * @return {@code true} if all fields of the fingerprint are equal
+     */
+    static boolean isSameContent(Instance one, Instance another) {
+        return one.getPort() == another.getPort()
+                && Double.doubleToLongBits(one.getWeight()) == Double.doubleToLongBits(another.getWeight())
+                && one.isHealthy() == another.isHealthy() && one.isEnabled() == another.isEnabled()
+                && one.isEphemeral() == another.isEphemeral() && Objects.equals(one.getIp(), another.getIp())
+                && Objects.equals(one.getInstanceId(), another.getInstanceId())
+                && Objects.equals(one.getClusterName(), another.getClusterName())
+                && Objects.equals(one.getServiceName(), another.getServiceName())
+                && Objects.equals(one.getMetadata(), another.getMetadata());
+    }
+    
+    private static long hash(long hash, String value) {
+        if (null == value) {
+            return mix(hash, NULL_HASH);
+        }
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result = (result ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // mix the length to separate the adjacent strings.
+        return mix(result, value.length());
+    }
+    
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+    
+    private static class Fingerprint {
+        
+        private final long fingerprint;
+        
+        private final Instance instance;
+        
+        private Fingerprint(long fingerprint, Instance instance) {
+            this.fingerprint = fingerprint;
+            this.instance = instance;
+        }
+    }
+    
+    private static class Fingerprints {
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final Map<String, Fingerprint> instances;
+        
+        private Fingerprints(ServiceInfo serviceInfo, Map<String, Fingerprint> instances) {
+            this.serviceInfo = serviceInfo;
+            this.instances = instances;
+        }
+    }
 }
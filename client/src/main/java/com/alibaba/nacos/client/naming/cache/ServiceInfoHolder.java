@@ -17,12 +17,16 @@
 package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
+import com.alibaba.nacos.client.naming.core.Balancer;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
@@ -32,6 +36,9 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,12 +54,36 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * The revision of pushed service info, which is the base of following delta push.
+     */
+    private final ConcurrentMap<String, PushedRevision> pushedRevisions = new ConcurrentHashMap<>(16);
+    
+    /**
+     * The selection index of the latest service info used by selecting healthy instance.
+     */
+    private final ConcurrentMap<String, Balancer.SelectionIndex> selectionIndexes = new ConcurrentHashMap<>(16);
+    
+    private final ConcurrentMap<String, ServiceInfoViews> serviceInfoViews = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
     
     private final InstancesDiffer instancesDiffer;
     
+    /**
+     * Binary snapshot replaces the cache file per service if enabled, {@code null} otherwise.
+     */
+    private final ServiceInfoSnapshot snapshot;
+    
+    private final boolean loadCacheAtStart;
+    
+    /**
+     * Write disk cache in background if enabled, {@code null} otherwise.
+     */
+    private final DiskCacheWriter diskCacheWriter;
+    
     private String cacheDir;
     
     private String notifierEventScope;
@@ -60,9 +91,13 @@ public class ServiceInfoHolder implements Closeable {
     public ServiceInfoHolder(String namespace, String notifierEventScope, NacosClientProperties properties) {
         cacheDir = CacheDirUtil.initCacheDir(namespace, properties);
         instancesDiffer = new InstancesDiffer();
-        if (isLoadCacheAtStart(properties)) {
+        this.loadCacheAtStart = isLoadCacheAtStart(properties);
+        this.snapshot = openSnapshot(properties);
+        this.diskCacheWriter = createDiskCacheWriter(properties);
+        if (loadCacheAtStart && null == snapshot) {
             this.serviceInfoMap = new ConcurrentHashMap<>(DiskCache.read(this.cacheDir));
         } else {
+            // services in snapshot are loaded lazily when looked up.
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
@@ -80,6 +115,30 @@ public class ServiceInfoHolder implements Closeable {
         return loadCacheAtStart;
     }
     
+    private ServiceInfoSnapshot openSnapshot(NacosClientProperties properties) {
+        if (null == properties || !ConvertUtils.toBoolean(
+                properties.getProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT_ENABLED))) {
+            return null;
+        }
+        try {
+            return ServiceInfoSnapshot.open(cacheDir);
+        } catch (Exception e) {
+            NAMING_LOGGER.warn("[NA] failed to open snapshot in {}, use cache file per service instead", cacheDir, e);
+            return null;
+        }
+    }
+    
+    private DiskCacheWriter createDiskCacheWriter(NacosClientProperties properties) {
+        if (null == properties || !properties.getBoolean(PropertyKeyConst.NAMING_ASYNC_WRITE_CACHE, false)) {
+            return null;
+        }
+        long flushInterval = properties.getLong(PropertyKeyConst.NAMING_CACHE_FLUSH_INTERVAL,
+                DiskCacheWriter.DEFAULT_FLUSH_INTERVAL_MILLIS);
+        long flushBytes = properties.getLong(PropertyKeyConst.NAMING_CACHE_FLUSH_BYTES,
+                DiskCacheWriter.DEFAULT_FLUSH_BYTES);
+        return new DiskCacheWriter(this::doWriteCache, flushInterval, flushBytes);
+    }
+    
     private boolean isPushEmptyProtect(NacosClientProperties properties) {
         boolean pushEmptyProtection = false;
         if (properties != null && StringUtils.isNotEmpty(
@@ -97,7 +156,81 @@ public class ServiceInfoHolder implements Closeable {
     public ServiceInfo getServiceInfo(final String serviceName, final String groupName, final String clusters) {
         String groupedServiceName = NamingUtils.getGroupedName(serviceName, groupName);
         String key = ServiceInfo.getKey(groupedServiceName, clusters);
-        return serviceInfoMap.get(key);
+        return getServiceInfo(key);
+    }
+    
+    /**
+     * Get service info by service key, the service info is loaded from snapshot at first lookup if cache is loaded at
+     * start.
+     *
+     * @param serviceKey service key
+     * @return service info, {@code null} if absent
+     */
+    public ServiceInfo getServiceInfo(String serviceKey) {
+        ServiceInfo result = serviceInfoMap.get(serviceKey);
+        if (null != result || !loadCacheAtStart || null == snapshot) {
+            return result;
+        }
+        ServiceInfo cached = snapshot.read(serviceKey);
+        if (null == cached) {
+            return null;
+        }
+        result = serviceInfoMap.putIfAbsent(serviceKey, cached);
+        return null == result ? cached : result;
+    }
+    
+    /**
+     * Random select one healthy instance by weight, the selection index is reused until a new version of service info.
+     *
+     * <p>The index is only kept for the service info stored in this holder or its cluster views. The other service
+     * info, such as the result of querying without subscribing, is selected without index, otherwise each query
+     * rebuilds the index and the index keeps the service info alive.
+     *
+     * @param serviceInfo service info
+     * @return random instance
+     */
+    public Instance selectOneHealthyInstance(ServiceInfo serviceInfo) {
+        String serviceKey = serviceInfo.getKey();
+        if (null != serviceKey && serviceInfoMap.get(serviceKey) == serviceInfo) {
+            Balancer.SelectionIndex index = selectionIndexes.get(serviceKey);
+            if (null == index || !index.isBuiltFrom(serviceInfo)) {
+                index = new Balancer.SelectionIndex(serviceInfo);
+                selectionIndexes.put(serviceKey, index);
+            }
+            return index.select();
+        }
+        ServiceInfoViews views = getCurrentViews(serviceInfo);
+        if (null != views && views.isClusterView(serviceInfo)) {
+            return views.getSelectionIndex(serviceInfo).select();
+        }
+        return Balancer.RandomByWeight.selectHost(serviceInfo);
+    }
+    
+    private ServiceInfoViews getCurrentViews(ServiceInfo clusterView) {
+        if (StringUtils.isBlank(clusterView.getName()) || StringUtils.isBlank(clusterView.getClusters())) {
+            return null;
+        }
+        String groupedServiceName = clusterView.getName();
+        if (!groupedServiceName.contains(Constants.SERVICE_INFO_SPLITER)) {
+            groupedServiceName = NamingUtils.getGroupedName(groupedServiceName, clusterView.getGroupName());
+        }
+        return serviceInfoViews.get(groupedServiceName);
+    }
+    
+    /**
+     * Get the views of service info with all clusters, the views are reused until a new version of service info.
+     *
+     * @param serviceInfo service info with all clusters
+     * @return views of service info
+     */
+    public ServiceInfoViews getServiceInfoViews(ServiceInfo serviceInfo) {
+        String serviceKey = serviceInfo.getKey();
+        ServiceInfoViews result = serviceInfoViews.get(serviceKey);
+        if (null == result || !result.isBuiltFrom(serviceInfo)) {
+            result = new ServiceInfoViews(serviceInfo);
+            serviceInfoViews.put(serviceKey, result);
+        }
+        return result;
     }
     
     /**
@@ -125,7 +258,7 @@ public class ServiceInfoHolder implements Closeable {
                     JacksonUtils.toJson(serviceInfo.getHosts()));
             return null;
         }
-        ServiceInfo oldService = serviceInfoMap.get(serviceInfo.getKey());
+        ServiceInfo oldService = getServiceInfo(serviceKey);
         if (isEmptyOrErrorPush(serviceInfo)) {
             //empty or error push, just ignore
             NAMING_LOGGER.warn("process service info but found empty or error push, serviceKey: {}, "
@@ -133,6 +266,8 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceInfo.getKey(), serviceInfo);
+        selectionIndexes.remove(serviceKey);
+        serviceInfoViews.remove(serviceKey);
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
@@ -147,11 +282,91 @@ public class ServiceInfoHolder implements Closeable {
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                                 serviceInfo.getClusters(), serviceInfo.getHosts(), diff));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            writeCache(serviceInfo);
         }
         return serviceInfo;
     }
     
+    /**
+     * Process service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of service info, 0 means server not support delta push
+     * @return service info
+     */
+    public synchronized ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        String serviceKey = serviceInfo.getKey();
+        if (null == serviceKey) {
+            return result;
+        }
+        // if push is ignored by protection, the cached service info is not the data of revision.
+        if (revision > 0 && result == serviceInfo) {
+            pushedRevisions.put(serviceKey, new PushedRevision(revision, serviceInfo));
+        } else {
+            pushedRevisions.remove(serviceKey);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta push, apply the changed instances to the service info of base revision.
+     *
+     * @param request delta push request
+     * @return service info after applying delta, {@code null} if the cached service info is not base revision
+     */
+    public synchronized ServiceInfo processServiceInfoDelta(NotifySubscriberRequest request) {
+        ServiceInfo delta = request.getServiceInfo();
+        String serviceKey = delta.getKey();
+        PushedRevision base = null == serviceKey ? null : pushedRevisions.get(serviceKey);
+        // the cached service info may be replaced by query result after last push.
+        if (null == base || base.revision != request.getBaseRevision() || base.serviceInfo != serviceInfoMap.get(
+                serviceKey)) {
+            NAMING_LOGGER.warn("process delta push but base revision {} mismatch, serviceKey: {}",
+                    request.getBaseRevision(), serviceKey);
+            return null;
+        }
+        delta.setHosts(applyDelta(base.serviceInfo.getHosts(), delta.getHosts(), request.getRemovedInstances()));
+        return processServiceInfo(delta, request.getRevision());
+    }
+    
+    private List<Instance> applyDelta(List<Instance> baseHosts, List<Instance> changedHosts,
+            List<Instance> removedHosts) {
+        Map<String, Instance> result = new LinkedHashMap<>(baseHosts.size() + changedHosts.size());
+        for (Instance each : baseHosts) {
+            result.put(getInstanceKey(each), each);
+        }
+        if (null != removedHosts) {
+            for (Instance each : removedHosts) {
+                result.remove(getInstanceKey(each));
+            }
+        }
+        for (Instance each : changedHosts) {
+            result.put(getInstanceKey(each), each);
+        }
+        return new ArrayList<>(result.values());
+    }
+    
+    private String getInstanceKey(Instance instance) {
+        return instance.toInetAddr() + "#" + instance.getClusterName();
+    }
+    
+    private void writeCache(ServiceInfo serviceInfo) {
+        if (null != diskCacheWriter) {
+            diskCacheWriter.write(serviceInfo);
+        } else {
+            doWriteCache(serviceInfo);
+        }
+    }
+    
+    private void doWriteCache(ServiceInfo serviceInfo) {
+        if (null != snapshot) {
+            snapshot.write(serviceInfo);
+        } else {
+            DiskCache.write(serviceInfo, cacheDir);
+        }
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -179,6 +394,24 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        if (null != diskCacheWriter) {
+            diskCacheWriter.shutdown();
+        }
+        if (null != snapshot) {
+            snapshot.shutdown();
+        }
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
+    
+    private static class PushedRevision {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private PushedRevision(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+        }
+    }
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Binary snapshot of service infos, all services are stored in one append only file instead of one file per service.
+ *
+ * <p>File format: {@code MAGIC VERSION} followed by records of {@code keyLength valueLength crc key value}, the value
+ * is the json of service info. The latest record of a key wins, and the file is compacted when the stale records take
+ * more than half of it.
+ *
+ * <p>The existing file is memory mapped when opening, only the keys are read to build the index, the service info is
+ * parsed when it is looked up.
+ *
+ * <p>The snapshot is owned by one process by locking a separate lock file, so the lock is kept when the snapshot file is
+ * replaced by compaction.
+ *
+ * @author Nacos
+ */
+public class ServiceInfoSnapshot implements Closeable {
+    
+    public static final String FILE_NAME = "naming-snapshot.bin";
+    
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    
+    private static final String COMPACTING_FILE_SUFFIX = ".compacting";
+    
+    private static final int MAGIC = 0x4E534E50;
+    
+    private static final int VERSION = 1;
+    
+    private static final int FILE_HEADER_LENGTH = 8;
+    
+    private static final int VERSION_OFFSET = 4;
+    
+    private static final int VALUE_LENGTH_OFFSET = 4;
+    
+    private static final int CRC_OFFSET = 8;
+    
+    private static final int RECORD_HEADER_LENGTH = 12;
+    
+    private static final long MIN_COMPACT_LENGTH = 1024 * 1024L;
+    
+    private static final int COMPACT_RATIO = 2;
+    
+    private final Path path;
+    
+    /**
+     * service key -> position of the latest record.
+     */
+    private final Map<String, Position> index = new HashMap<>(16);
+    
+    private FileChannel channel;
+    
+    private FileChannel lockChannel;
+    
+    private FileLock lock;
+    
+    private MappedByteBuffer mapped;
+    
+    private long length;
+    
+    private long liveLength;
+    
+    private ServiceInfoSnapshot(Path path) {
+        this.path = path;
+    }
+    
+    /**
+     * Open the snapshot file in dir, the file is created if absent.
+     *
+     * @param dir directory of snapshot file
+     * @return snapshot
+     * @throws IOException if the file can't be opened or is used by another process
+     */
+    public static ServiceInfoSnapshot open(String dir) throws IOException {
+        DiskCache.createFileIfAbsent(new File(dir), true);
+        ServiceInfoSnapshot result = new ServiceInfoSnapshot(new File(dir, FILE_NAME).toPath());
+        try {
+            result.load();
+        } catch (IOException e) {
+            result.shutdown();
+            throw e;
+        }
+        return result;
+    }
+    
+    /**
+     * Whether the file is the snapshot file or its lock or compacting file, which are not cache files of service.
+     *
+     * @param fileName file name
+     * @return {@code true} if the file belongs to snapshot
+     */
+    public static boolean isSnapshotFile(String fileName) {
+        return null != fileName && fileName.startsWith(FILE_NAME);
+    }
+    
+    /**
+     * Read all service infos from the snapshot file in dir without keeping it open, used by failover.
+     *
+     * @param dir directory of snapshot file
+     * @return service infos, empty if there is no snapshot file
+     */
+    public static Map<String, ServiceInfo> readAll(String dir) {
+        Path snapshotPath = new File(dir, FILE_NAME).toPath();
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Collections.emptyMap();
+        }
+        Map<String, ServiceInfo> result = new HashMap<>(16);
+        try (FileChannel readChannel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            ServiceInfoSnapshot snapshot = new ServiceInfoSnapshot(snapshotPath);
+            snapshot.channel = readChannel;
+            snapshot.buildIndex();
+            for (String each : snapshot.index.keySet()) {
+                ServiceInfo serviceInfo = snapshot.read(each);
+                if (null != serviceInfo) {
+                    result.put(each, serviceInfo);
+                }
+            }
+        } catch (IOException e) {
+            NAMING_LOGGER.error("[NA] failed to read snapshot file {}", snapshotPath, e);
+        }
+        return result;
+    }
+    
+    private void load() throws IOException {
+        lockChannel = FileChannel.open(path.resolveSibling(FILE_NAME + LOCK_FILE_SUFFIX), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        lock = tryLock(lockChannel);
+        if (null == lock) {
+            throw new IOException("snapshot file " + path + " is used by another process");
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (0 == channel.size()) {
+            writeFileHeader(channel);
+        }
+        buildIndex();
+        if (length < channel.size()) {
+            NAMING_LOGGER.warn("[NA] snapshot file {} has broken tail, truncate from {} to {}", path, channel.size(),
+                    length);
+            channel.truncate(length);
+        }
+        compactIfNecessary();
+    }
+    
+    private static FileLock tryLock(FileChannel target) throws IOException {
+        try {
+            return target.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+    
+    private void buildIndex() throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (!isValidFileHeader()) {
+            throw new IOException("unknown format of snapshot file " + path);
+        }
+        int offset = FILE_HEADER_LENGTH;
+        while (offset + RECORD_HEADER_LENGTH <= mapped.limit()) {
+            int keyLength = mapped.getInt(offset);
+            int valueLength = mapped.getInt(offset + VALUE_LENGTH_OFFSET);
+            int recordLength = RECORD_HEADER_LENGTH + keyLength + valueLength;
+            boolean broken = keyLength <= 0 || valueLength < 0 || recordLength > mapped.limit() - offset;
+            if (broken) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            ByteBuffer buffer = mapped.duplicate();
+            buffer.position(offset + RECORD_HEADER_LENGTH);
+            buffer.get(key);
+            putIndex(new String(key, StandardCharsets.UTF_8), new Position(offset, recordLength, keyLength));
+            offset += recordLength;
+        }
+        length = offset;
+    }
+    
+    private boolean isValidFileHeader() {
+        if (mapped.limit() < FILE_HEADER_LENGTH) {
+            return false;
+        }
+        return MAGIC == mapped.getInt(0) && VERSION == mapped.getInt(VERSION_OFFSET);
+    }
+    
+    private void putIndex(String key, Position position) {
+        Position old = index.put(key, position);
+        if (null != old) {
+            liveLength -= old.length;
+        }
+        liveLength += position.length;
+    }
+    
+    /**
+     * Read service info of key from snapshot.
+     *
+     * @param key service key
+     * @return service info, {@code null} if absent or broken
+     */
+    public synchronized ServiceInfo read(String key) {
+        Position position = index.get(key);
+        if (null == position || null == channel) {
+            return null;
+        }
+        try {
+            ByteBuffer record = readRecord(position);
+            int crc = record.getInt(CRC_OFFSET);
+            byte[] value = new byte[position.length - RECORD_HEADER_LENGTH - position.keyLength];
+            record.position(RECORD_HEADER_LENGTH + position.keyLength);
+            record.get(value);
+            if (crc != crc(value)) {
+                NAMING_LOGGER.warn("[NA] crc of service {} mismatch in snapshot file {}", key, path);
+                return null;
+            }
+            return JacksonUtils.toObj(value, ServiceInfo.class);
+        } catch (Exception e) {
+            NAMING_LOGGER.error("[NA] failed to read service {} from snapshot file {}", key, path, e);
+            return null;
+        }
+    }
+    
+    private ByteBuffer readRecord(Position position) throws IOException {
+        if (null != mapped && position.offset + position.length <= mapped.limit()) {
+            ByteBuffer result = mapped.duplicate();
+            result.position((int) position.offset);
+            result.limit((int) position.offset + position.length);
+            return result.slice();
+        }
+        ByteBuffer result = ByteBuffer.allocate(position.length);
+        while (result.hasRemaining()) {
+            if (channel.read(result, position.offset + result.position()) < 0) {
+                throw new IOException("unexpected end of snapshot file " + path);
+            }
+        }
+        result.flip();
+        return result;
+    }
+    
+    /**
+     * Append service info to the snapshot.
+     *
+     * @param serviceInfo service info
+     */
+    public synchronized void write(ServiceInfo serviceInfo) {
+        String json = serviceInfo.getJsonFromServer();
+        if (StringUtils.isEmpty(json)) {
+            json = JacksonUtils.toJson(serviceInfo);
+        }
+        if (null == channel) {
+            NAMING_LOGGER.error("[NA] snapshot file {} is not open, skip writing service: {}", path,
+                    serviceInfo.getKey());
+            return;
+        }
+        try {
+            byte[] key = serviceInfo.getKey().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer record = encode(key, json.getBytes(StandardCharsets.UTF_8));
+            int recordLength = record.remaining();
+            writeFully(channel, record, length);
+            putIndex(serviceInfo.getKey(), new Position(length, recordLength, key.length));
+            length += recordLength;
+            compactIfNecessary();
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to write snapshot for service: {}", serviceInfo.getKey(), e);
+        }
+    }
+    
+    private ByteBuffer encode(byte[] key, byte[] value) {
+        ByteBuffer result = ByteBuffer.allocate(RECORD_HEADER_LENGTH + key.length + value.length);
+        result.putInt(key.length).putInt(value.length).putInt(crc(value)).put(key).put(value);
+        result.flip();
+        return result;
+    }
+    
+    private int crc(byte[] value) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(value);
+        return (int) crc32.getValue();
+    }
+    
+    /**
+     * Rewrite the live records to a new file when the stale records take more than half of the file.
+     */
+    private void compactIfNecessary() throws IOException {
+        if (length < MIN_COMPACT_LENGTH || length < liveLength * COMPACT_RATIO) {
+            return;
+        }
+        Path compacted = path.resolveSibling(FILE_NAME + COMPACTING_FILE_SUFFIX);
+        Map<String, Position> newIndex = new LinkedHashMap<>(index.size());
+        long offset = FILE_HEADER_LENGTH;
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFileHeader(target);
+            for (Map.Entry<String, Position> entry : index.entrySet()) {
+                Position position = entry.getValue();
+                writeFully(target, readRecord(position), offset);
+                newIndex.put(entry.getKey(), new Position(offset, position.length, position.keyLength));
+                offset += position.length;
+            }
+            target.force(true);
+        }
+        try {
+            // the old file is kept open until the compacted file replaces it, so it is still usable if moving failed.
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            NAMING_LOGGER.warn("[NA] failed to replace snapshot file {} by compacted file, keep the old one", path, e);
+            Files.deleteIfExists(compacted);
+            return;
+        }
+        FileChannel oldChannel = channel;
+        // The mapped buffer belongs to the old file, read the records by channel from now on.
+        mapped = null;
+        channel = null;
+        oldChannel.close();
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.clear();
+        index.putAll(newIndex);
+        NAMING_LOGGER.info("[NA] compact snapshot file {} from {} to {} bytes", path, length, offset);
+        length = offset;
+        liveLength = offset - FILE_HEADER_LENGTH;
+    }
+    
+    private static void writeFileHeader(FileChannel target) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_LENGTH);
+        header.putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        writeFully(target, header, 0);
+    }
+    
+    private static void writeFully(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += target.write(buffer, current);
+        }
+    }
+    
+    @Override
+    public synchronized void shutdown() {
+        mapped = null;
+        try {
+            if (null != channel) {
+                channel.close();
+            }
+            if (null != lock && lock.isValid()) {
+                lock.release();
+            }
+            if (null != lockChannel) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            NAMING_LOGGER.warn("[NA] failed to close snapshot file {}", path, e);
+        }
+    }
+    
+    private static class Position {
+        
+        private final long offset;
+        
+        private final int length;
+        
+        private final int keyLength;
+        
+        private Position(long offset, int length, int keyLength) {
+            this.offset = offset;
+            this.length = length;
+            this.keyLength = keyLength;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.core.Balancer;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views of one version of service info with all clusters, such as the instances of some clusters, or the healthy
+ * instances.
+ *
+ * <p>The views are built when they are used at first time and shared until the service info is replaced by a new
+ * version, so querying different clusters of the same service needn't subscribe each of them.
+ *
+ * @author Nacos
+ */
+public class ServiceInfoViews {
+    
+    private static final String CLUSTER_SPLITTER = ",";
+    
+    private final ServiceInfo serviceInfo;
+    
+    private final List<Instance> hosts;
+    
+    private final Map<String, ServiceInfo> clusterViews = new ConcurrentHashMap<>(4);
+    
+    private final Map<String, List<Instance>> healthyViews = new ConcurrentHashMap<>(4);
+    
+    private final Map<String, List<Instance>> unhealthyViews = new ConcurrentHashMap<>(4);
+    
+    private final Map<String, Balancer.SelectionIndex> selectionIndexes = new ConcurrentHashMap<>(4);
+    
+    public ServiceInfoViews(ServiceInfo serviceInfo) {
+        this.serviceInfo = serviceInfo;
+        this.hosts = Collections.unmodifiableList(serviceInfo.getHosts());
+    }
+    
+    /**
+     * Whether the views are built from the service info.
+     *
+     * @param serviceInfo service info
+     * @return {@code true} if the views are built from the same service info object
+     */
+    public boolean isBuiltFrom(ServiceInfo serviceInfo) {
+        return this.serviceInfo == serviceInfo;
+    }
+    
+    /**
+     * Get the view of service info which only contains the instances of clusters.
+     *
+     * @param clusters clusters split by comma, empty means all clusters
+     * @return service info of clusters
+     */
+    public ServiceInfo getClusterView(String clusters) {
+        if (StringUtils.isBlank(clusters)) {
+            return serviceInfo;
+        }
+        return clusterViews.computeIfAbsent(normalize(clusters), this::buildClusterView);
+    }
+    
+    /**
+     * Whether the service info is one of the cluster views built by these views.
+     *
+     * @param clusterView service info of clusters
+     * @return {@code true} if it is the same object as the built cluster view
+     */
+    public boolean isClusterView(ServiceInfo clusterView) {
+        return StringUtils.isNotBlank(clusterView.getClusters())
+                && clusterViews.get(normalize(clusterView.getClusters())) == clusterView;
+    }
+    
+    /**
+     * Get the selection index of cluster view, which is dropped together with the views.
+     *
+     * @param clusterView cluster view built by {@link #getClusterView(String)}
+     * @return selection index
+     */
+    public Balancer.SelectionIndex getSelectionIndex(ServiceInfo clusterView) {
+        return selectionIndexes.computeIfAbsent(clusterView.getClusters(),
+                each -> new Balancer.SelectionIndex(clusterView));
+    }
+    
+    /**
+     * Get the enabled instances of clusters with positive weight, filtered by health status.
+     *
+     * @param clusters clusters split by comma, empty means all clusters
+     * @param healthy  healthy or unhealthy instances
+     * @return unmodifiable instances
+     */
+    public List<Instance> getInstances(String clusters, boolean healthy) {
+        String key = StringUtils.isBlank(clusters) ? StringUtils.EMPTY : normalize(clusters);
+        Map<String, List<Instance>> views = healthy ? healthyViews : unhealthyViews;
+        return views.computeIfAbsent(key, each -> buildInstances(each, healthy));
+    }
+    
+    private ServiceInfo buildClusterView(String clusters) {
+        ServiceInfo result = new ServiceInfo(serviceInfo.getName(), clusters);
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setHosts(filterByClusters(clusters));
+        return result;
+    }
+    
+    private List<Instance> buildInstances(String clusters, boolean healthy) {
+        List<Instance> candidates = StringUtils.isEmpty(clusters) ? hosts : getClusterView(clusters).getHosts();
+        List<Instance> result = new ArrayList<>(candidates.size());
+        for (Instance each : candidates) {
+            if (healthy == each.isHealthy() && each.isEnabled() && each.getWeight() > 0) {
+                result.add(each);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    private List<Instance> filterByClusters(String clusters) {
+        Set<String> clusterSet = new HashSet<>();
+        Collections.addAll(clusterSet, clusters.split(CLUSTER_SPLITTER));
+        List<Instance> result = new ArrayList<>();
+        for (Instance each : hosts) {
+            if (clusterSet.contains(each.getClusterName())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Sort and deduplicate the clusters, so that the same clusters in different order share one view.
+     */
+    private String normalize(String clusters) {
+        Set<String> sorted = new TreeSet<>();
+        for (String each : clusters.split(CLUSTER_SPLITTER)) {
+            if (StringUtils.isNotBlank(each)) {
+                sorted.add(each.trim());
+            }
+        }
+        return StringUtils.join(sorted, CLUSTER_SPLITTER);
+    }
+}
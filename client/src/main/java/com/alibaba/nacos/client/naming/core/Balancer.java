@@ -61,6 +61,48 @@ public class Balancer {
         }
     }
     
+    /**
+     * Precomputed cumulative weights of the healthy instances of one version of service info, so that selecting one
+     * instance is a binary search without allocation.
+     */
+    public static class SelectionIndex {
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final Chooser<String, Instance> chooser;
+        
+        public SelectionIndex(ServiceInfo serviceInfo) {
+            List<Instance> hosts = RandomByWeight.selectAll(serviceInfo);
+            List<Pair<Instance>> hostsWithWeight = new ArrayList<>(hosts.size());
+            for (Instance host : hosts) {
+                if (host.isHealthy()) {
+                    hostsWithWeight.add(new Pair<>(host, host.getWeight()));
+                }
+            }
+            this.serviceInfo = serviceInfo;
+            this.chooser = new Chooser<>(serviceInfo.getKey(), hostsWithWeight);
+        }
+        
+        /**
+         * Whether the index is built from the service info, the service info is replaced when a new version received.
+         *
+         * @param serviceInfo service info
+         * @return {@code true} if the index is built from the same service info object
+         */
+        public boolean isBuiltFrom(ServiceInfo serviceInfo) {
+            return this.serviceInfo == serviceInfo;
+        }
+        
+        /**
+         * Random select one healthy instance by weight.
+         *
+         * @return random instance
+         */
+        public Instance select() {
+            return chooser.randomWithWeight();
+        }
+    }
+    
     /**
      * Return one host from the host list by random-weight.
      *
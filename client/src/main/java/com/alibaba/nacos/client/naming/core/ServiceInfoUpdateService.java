@@ -190,7 +190,7 @@ public class ServiceInfoUpdateService implements Closeable {
                     return;
                 }
                 
-                ServiceInfo serviceObj = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+                ServiceInfo serviceObj = serviceInfoHolder.getServiceInfo(serviceKey);
                 if (serviceObj == null) {
                     serviceObj = namingClientProxy.queryInstancesOfService(serviceName, groupName, clusters, false);
                     serviceInfoHolder.processServiceInfo(serviceObj);
@@ -165,7 +165,7 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         String serviceNameWithGroup = NamingUtils.getGroupedName(serviceName, groupName);
         String serviceKey = ServiceInfo.getKey(serviceNameWithGroup, clusters);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, groupName, clusters);
-        ServiceInfo result = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+        ServiceInfo result = serviceInfoHolder.getServiceInfo(serviceKey);
         if (null == result || !isSubscribed(serviceName, groupName, clusters)) {
             result = grpcClientProxy.subscribe(serviceName, groupName, clusters);
         }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
@@ -51,6 +52,8 @@ import com.alibaba.nacos.client.naming.remote.AbstractNamingClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.NamingGrpcRedoService;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.InstanceRedoData;
+import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
+import com.alibaba.nacos.client.remote.SharedRpcClientManager;
 import com.alibaba.nacos.client.security.SecurityProxy;
 import com.alibaba.nacos.client.utils.AppNameUtils;
 import com.alibaba.nacos.common.notify.Event;
@@ -93,6 +96,12 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
     
     private final NamingGrpcRedoService redoService;
     
+    private final boolean sharedConnection;
+    
+    private final boolean requestBatchEnabled;
+    
+    private NamingPushRequestHandler pushRequestHandler;
+    
     public NamingGrpcClientProxy(String namespaceId, SecurityProxy securityProxy, ServerListFactory serverListFactory,
             NacosClientProperties properties, ServiceInfoHolder serviceInfoHolder) throws NacosException {
         super(securityProxy);
@@ -103,8 +112,16 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         labels.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
         labels.put(RemoteConstants.LABEL_MODULE, RemoteConstants.LABEL_MODULE_NAMING);
         labels.put(Constants.APPNAME, AppNameUtils.getAppName());
-        this.rpcClient = RpcClientFactory.createClient(uuid, ConnectionType.GRPC, labels,
-                RpcClientTlsConfigFactory.getInstance().createSdkConfig(properties.asProperties()));
+        this.requestBatchEnabled = properties.getBoolean(PropertyKeyConst.RPC_REQUEST_BATCH_ENABLED, false);
+        RpcClient sharedRpcClient = SharedRpcClientManager.isSharable(properties.asProperties())
+                ? SharedRpcClientManager.acquire(properties.asProperties(), namespaceId, labels) : null;
+        this.sharedConnection = null != sharedRpcClient;
+        if (sharedConnection) {
+            this.rpcClient = sharedRpcClient;
+        } else {
+            this.rpcClient = RpcClientFactory.createClient(uuid, ConnectionType.GRPC, labels,
+                    RpcClientTlsConfigFactory.getInstance().createSdkConfig(properties.asProperties()));
+        }
         this.redoService = new NamingGrpcRedoService(this, properties);
         NAMING_LOGGER.info("Create naming rpc client for uuid->{}", uuid);
         start(serverListFactory, serviceInfoHolder);
@@ -113,8 +130,13 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
     private void start(ServerListFactory serverListFactory, ServiceInfoHolder serviceInfoHolder) throws NacosException {
         rpcClient.serverListFactory(serverListFactory);
         rpcClient.registerConnectionListener(redoService);
-        rpcClient.registerServerRequestHandler(new NamingPushRequestHandler(serviceInfoHolder));
+        pushRequestHandler = new NamingPushRequestHandler(serviceInfoHolder);
+        rpcClient.registerServerRequestHandler(pushRequestHandler);
         rpcClient.start();
+        if (sharedConnection && rpcClient.isRunning()) {
+            // the shared rpc client may be connected by other services before the redo service registered.
+            redoService.onConnected(null);
+        }
         NotifyCenter.registerSubscriber(this);
     }
     
@@ -444,7 +466,7 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         try {
             request.putAllHeader(
                     getSecurityHeaders(request.getNamespace(), request.getGroupName(), request.getServiceName()));
-            response = requestTimeout < 0 ? rpcClient.request(request) : rpcClient.request(request, requestTimeout);
+            response = doRequest(request);
             if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
                 throw new NacosException(response.getErrorCode(), response.getMessage());
             }
@@ -463,6 +485,14 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         }
     }
     
+    private Response doRequest(AbstractNamingRequest request) throws NacosException {
+        if (requestBatchEnabled) {
+            return requestTimeout < 0 ? rpcClient.requestBatched(request)
+                    : rpcClient.requestBatched(request, requestTimeout);
+        }
+        return requestTimeout < 0 ? rpcClient.request(request) : rpcClient.request(request, requestTimeout);
+    }
+    
     /**
      * Records registration metrics for a service instance.
      *
@@ -485,11 +515,64 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
     @Override
     public void shutdown() throws NacosException {
         NAMING_LOGGER.info("Shutdown naming grpc client proxy for  uuid->{}", uuid);
-        redoService.shutdown();
-        shutDownAndRemove(uuid);
+        if (sharedConnection) {
+            shutdownSharedConnection();
+        } else {
+            redoService.shutdown();
+            shutDownAndRemove(uuid);
+        }
         NotifyCenter.deregisterSubscriber(this);
     }
     
+    /**
+     * The shared rpc client keeps connected after this service shutdown, so the server won't remove the instances and
+     * subscribers of this service by disconnection. Deregister and unsubscribe them explicitly before release.
+     */
+    private void shutdownSharedConnection() {
+        final List<InstanceRedoData> instances = new ArrayList<>(redoService.getRegisteredInstances().values());
+        final List<SubscriberRedoData> subscribers = new ArrayList<>(redoService.getSubscribes().values());
+        redoService.shutdown();
+        rpcClient.unregisterConnectionListener(redoService);
+        rpcClient.unregisterServerRequestHandler(pushRequestHandler);
+        for (InstanceRedoData each : instances) {
+            deregisterOnShutdown(each);
+        }
+        for (SubscriberRedoData each : subscribers) {
+            unsubscribeOnShutdown(each);
+        }
+        SharedRpcClientManager.release(rpcClient, RemoteConstants.LABEL_MODULE_NAMING);
+    }
+    
+    private void deregisterOnShutdown(InstanceRedoData redoData) {
+        Instance instance = redoData.get();
+        if (redoData instanceof BatchInstanceRedoData) {
+            List<Instance> batchInstances = ((BatchInstanceRedoData) redoData).getInstances();
+            instance = CollectionUtils.isEmpty(batchInstances) ? null : batchInstances.get(0);
+        }
+        if (!redoData.isRegistered() || null == instance) {
+            return;
+        }
+        try {
+            // the server removes all instances of the service published by the connection for one deregister.
+            doDeregisterService(redoData.getServiceName(), redoData.getGroupName(), instance);
+        } catch (NacosException e) {
+            NAMING_LOGGER.warn("Deregister {}@@{} when shutdown failed", redoData.getGroupName(),
+                    redoData.getServiceName(), e);
+        }
+    }
+    
+    private void unsubscribeOnShutdown(SubscriberRedoData redoData) {
+        if (!redoData.isRegistered()) {
+            return;
+        }
+        try {
+            doUnsubscribe(redoData.getServiceName(), redoData.getGroupName(), redoData.get());
+        } catch (NacosException e) {
+            NAMING_LOGGER.warn("Unsubscribe {}@@{}#{} when shutdown failed", redoData.getGroupName(),
+                    redoData.getServiceName(), redoData.get(), e);
+        }
+    }
+    
     private void shutDownAndRemove(String uuid) {
         synchronized (RpcClientFactory.getAllClientEntries()) {
             try {
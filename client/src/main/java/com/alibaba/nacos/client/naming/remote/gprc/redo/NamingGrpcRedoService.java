@@ -80,6 +80,10 @@ public class NamingGrpcRedoService implements ConnectionEventListener {
         return registeredInstances;
     }
     
+    public ConcurrentMap<String, SubscriberRedoData> getSubscribes() {
+        return subscribes;
+    }
+    
     public boolean isConnected() {
         return connected;
     }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.remote;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.remote.ConnectionType;
+import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.client.RpcClientFactory;
+import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
+import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
+import com.alibaba.nacos.common.utils.ConvertUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Manager of rpc clients shared by config and naming services in one process.
+ *
+ * <p>The services with the same namespace, server list, credentials and tls config share one rpc client, and at most
+ * one service of each module uses a shared rpc client. The server push requests are routed to the handlers of each
+ * module by request type, but they don't carry the namespace or the owner service, so the handlers of two services in
+ * the same module can't tell which push belongs to them. The later service of the same module uses a dedicated rpc
+ * client instead. The rpc client is destroyed when the last service releases it. Only the fixed server list is shared,
+ * the server list from endpoint may be different between services.
+ *
+ * @author Nacos
+ */
+public class SharedRpcClientManager {
+    
+    private static final Logger LOGGER = LogUtils.logger(SharedRpcClientManager.class);
+    
+    private static final String CLIENT_NAME_PREFIX = "shared-";
+    
+    private static final String SERVER_SPLITTER = ",";
+    
+    private static final String IDENTITY_SPLITTER = "|";
+    
+    private static final Map<String, Set<String>> OWNERS = new HashMap<>(4);
+    
+    /**
+     * Whether the rpc client can be shared for the properties.
+     *
+     * @param properties properties of service
+     * @return {@code true} if shared connection is enabled and the server list is fixed
+     */
+    public static boolean isSharable(Properties properties) {
+        return ConvertUtils.toBoolean(properties.getProperty(PropertyKeyConst.SHARED_CONNECTION_ENABLED), false)
+                && StringUtils.isBlank(properties.getProperty(PropertyKeyConst.ENDPOINT))
+                && StringUtils.isNotBlank(properties.getProperty(PropertyKeyConst.SERVER_ADDR));
+    }
+    
+    /**
+     * Get or create the shared rpc client for properties, the rpc client should be released by {@link
+     * #release(RpcClient, String)} when the service is shutdown.
+     *
+     * <p>The returned rpc client may be started by other services already, so the handlers and listeners registered
+     * by the caller should be unregistered before released.
+     *
+     * <p>The labels of the first service creating the rpc client are used. They are sent to server when connecting, so
+     * the labels of later services can't be applied to the connection which may be established already. The labels
+     * different from the used ones are logged, and the services which need different labels should disable the shared
+     * connection.
+     *
+     * @param properties properties of service
+     * @param namespace  namespace of service
+     * @param labels     labels of connection, the module label will be replaced by shared
+     * @return shared rpc client, or {@code null} if the rpc client is used by another service of the same module
+     */
+    public static synchronized RpcClient acquire(Properties properties, String namespace, Map<String, String> labels) {
+        RpcClientTlsConfig tlsConfig = RpcClientTlsConfigFactory.getInstance().createSdkConfig(properties);
+        String clientName = buildClientName(properties, namespace, tlsConfig);
+        String module = labels.get(RemoteConstants.LABEL_MODULE);
+        Set<String> owners = OWNERS.computeIfAbsent(clientName, key -> new HashSet<>(2));
+        if (!owners.add(module)) {
+            LOGGER.info("Shared rpc client {} is used by another {} service, use dedicated rpc client", clientName,
+                    module);
+            return null;
+        }
+        Map<String, String> sharedLabels = new HashMap<>(labels);
+        sharedLabels.put(RemoteConstants.LABEL_MODULE, RemoteConstants.LABEL_MODULE_SHARED);
+        RpcClient result = RpcClientFactory.createClient(clientName, ConnectionType.GRPC, sharedLabels, tlsConfig);
+        warnIfLabelsDiffer(result, sharedLabels);
+        return result;
+    }
+    
+    private static void warnIfLabelsDiffer(RpcClient rpcClient, Map<String, String> labels) {
+        for (Map.Entry<String, String> entry : labels.entrySet()) {
+            String used = rpcClient.getLabels().get(entry.getKey());
+            if (!Objects.equals(used, entry.getValue())) {
+                LOGGER.warn("Shared rpc client {} uses label {}={} instead of {}", rpcClient.getName(),
+                        entry.getKey(), used, entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Release the shared rpc client, the rpc client is shutdown if no service uses it.
+     *
+     * @param rpcClient shared rpc client
+     * @param module    module of the service releasing the rpc client
+     */
+    public static synchronized void release(RpcClient rpcClient, String module) {
+        String clientName = rpcClient.getName();
+        Set<String> owners = OWNERS.get(clientName);
+        if (null != owners) {
+            owners.remove(module);
+            if (!owners.isEmpty()) {
+                return;
+            }
+            OWNERS.remove(clientName);
+        }
+        try {
+            RpcClientFactory.destroyClient(clientName);
+            LOGGER.info("Shutdown shared rpc client {}", clientName);
+        } catch (NacosException e) {
+            LOGGER.warn("Fail to shutdown shared rpc client {}", clientName, e);
+        }
+    }
+    
+    /**
+     * Build the client name by namespace, server list, credentials and tls config, the identity is digested to avoid
+     * leaking.
+     */
+    static String buildClientName(Properties properties, String namespace, RpcClientTlsConfig tlsConfig) {
+        Set<String> servers = new TreeSet<>();
+        for (String each : properties.getProperty(PropertyKeyConst.SERVER_ADDR).split(SERVER_SPLITTER)) {
+            if (StringUtils.isNotBlank(each)) {
+                servers.add(each.trim());
+            }
+        }
+        String identity = StringUtils.defaultIfBlank(namespace, Constants.DEFAULT_NAMESPACE_ID).trim()
+                + IDENTITY_SPLITTER + StringUtils.join(servers, SERVER_SPLITTER) + IDENTITY_SPLITTER
+                + properties.getProperty(PropertyKeyConst.USERNAME, StringUtils.EMPTY) + IDENTITY_SPLITTER
+                + properties.getProperty(PropertyKeyConst.ACCESS_KEY, StringUtils.EMPTY) + IDENTITY_SPLITTER
+                + buildTlsIdentity(tlsConfig);
+        return CLIENT_NAME_PREFIX + MD5Utils.md5Hex(identity, Constants.ENCODE);
+    }
+    
+    private static String buildTlsIdentity(RpcClientTlsConfig tlsConfig) {
+        if (!Boolean.TRUE.equals(tlsConfig.getEnableTls())) {
+            return Boolean.FALSE.toString();
+        }
+        return StringUtils.join(Arrays.asList(tlsConfig.getEnableTls(), tlsConfig.getMutualAuthEnable(),
+                tlsConfig.getProtocols(), tlsConfig.getCiphers(), tlsConfig.getTrustAll(),
+                tlsConfig.getTrustCollectionCertFile(), tlsConfig.getCertChainFile(), tlsConfig.getCertPrivateKey(),
+                tlsConfig.getCertPrivateKeyPassword(), tlsConfig.getSslProvider()), IDENTITY_SPLITTER);
+    }
+}
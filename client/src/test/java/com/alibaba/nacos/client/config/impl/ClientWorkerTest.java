@@ -359,12 +359,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
@@ -389,12 +387,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -538,15 +534,11 @@ class ClientWorkerTest {
         Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
                 .thenReturn(cacheNormal);
-        Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(true);
         
         Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         
         //mock request
         ConfigChangeBatchListenResponse.ConfigContext configContext = new ConfigChangeBatchListenResponse.ConfigContext();
@@ -574,12 +566,49 @@ class ClientWorkerTest {
         //use local cache.
         assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        assertFalse(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
         //normal cache listener be notified.
         assertEquals(configQueryResponse.getContent(), normalContent.get());
         
     }
     
+    @Test
+    void testExecuteConfigListenIncremental() throws Exception {
+        Properties prop = new Properties();
+        prop.put(PropertyKeyConst.ENABLE_INCREMENTAL_LISTEN_CONFIG, "true");
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String group = "group";
+        String tenant = "tenant";
+        CacheData changed = clientWorker.addCacheDataIfAbsent("changed", group, tenant);
+        CacheData untouched = clientWorker.addCacheDataIfAbsent("untouched", group, tenant);
+        changed.setConsistentWithServer(true);
+        untouched.setConsistentWithServer(true);
+        // only the changed cache is checked, the failover file of untouched cache is not mocked.
+        changed.setConsistentWithServer(false);
+        File file = Mockito.mock(File.class);
+        localConfigInfoProcessorMockedStatic.when(
+                () -> LocalConfigInfoProcessor.getFailoverFile(changed.envName, "changed", group, tenant))
+                .thenReturn(file);
+        Mockito.when(rpcClient.request(any(ConfigBatchListenRequest.class), anyLong()))
+                .thenReturn(new ConfigChangeBatchListenResponse());
+        
+        clientWorker.getAgent().executeConfigListen();
+        
+        assertTrue(changed.isConsistentWithServer());
+        assertTrue(untouched.isConsistentWithServer());
+        Mockito.verify(rpcClient, times(1)).request(
+                Mockito.argThat(request -> request instanceof ConfigBatchListenRequest
+                        && ((ConfigBatchListenRequest) request).getConfigListenContexts().size() == 1), anyLong());
+        // nothing is dirty, so no cache is checked.
+        clientWorker.getAgent().executeConfigListen();
+        Mockito.verify(rpcClient, times(1)).request(any(ConfigBatchListenRequest.class), anyLong());
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -653,16 +682,15 @@ class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMapRef.get(key));
+        assertEquals(cacheData, cacheMapRef.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        assertEquals(newCacheData, cacheMapRef.get().get(key));
+        assertEquals(newCacheData, cacheMapRef.get(key));
     }
     
     @Test
@@ -673,10 +701,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -705,10 +732,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -738,10 +764,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailoverFileIndexTest {
+    
+    private static final long TIMEOUT_MILLIS = 30000L;
+    
+    private File baseDir;
+    
+    private FailoverFileIndex failoverFileIndex;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        baseDir = Files.createTempDirectory("failover-index").toFile();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        if (null != failoverFileIndex) {
+            failoverFileIndex.shutdown();
+        }
+        deleteRecursively(baseDir);
+    }
+    
+    @Test
+    void testIndexExistedFiles() throws IOException {
+        File file = new File(new File(baseDir, "config-data/group"), "dataId");
+        writeFile(file);
+        failoverFileIndex = new FailoverFileIndex(baseDir, 100L);
+        failoverFileIndex.start();
+        assertTrue(failoverFileIndex.exists(file));
+        assertEquals(file.lastModified(), failoverFileIndex.lastModified(file));
+        File absent = new File(new File(baseDir, "config-data/group"), "absent");
+        assertFalse(failoverFileIndex.exists(absent));
+        assertEquals(0L, failoverFileIndex.lastModified(absent));
+    }
+    
+    @Test
+    void testWatchFileChanged() throws IOException {
+        failoverFileIndex = new FailoverFileIndex(baseDir, 100L);
+        failoverFileIndex.start();
+        File file = new File(new File(baseDir, "config-data-tenant/tenant/group"), "dataId");
+        writeFile(file);
+        waitUntil(() -> failoverFileIndex.exists(file));
+        assertTrue(file.setLastModified(file.lastModified() - 10000L));
+        waitUntil(() -> file.lastModified() == failoverFileIndex.lastModified(file));
+        deleteRecursively(new File(baseDir, "config-data-tenant"));
+        waitUntil(() -> !failoverFileIndex.exists(file));
+    }
+    
+    @Test
+    void testScanWhenDirectoryAbsent() throws IOException {
+        File root = new File(baseDir, "data");
+        failoverFileIndex = new FailoverFileIndex(root, 100L);
+        failoverFileIndex.start();
+        File file = new File(new File(root, "config-data/group"), "dataId");
+        assertFalse(failoverFileIndex.exists(file));
+        writeFile(file);
+        waitUntil(() -> failoverFileIndex.exists(file));
+        deleteRecursively(root);
+        waitUntil(() -> !failoverFileIndex.exists(file));
+    }
+    
+    private void writeFile(File file) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void deleteRecursively(File dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            for (Path each : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(each);
+            }
+        }
+    }
+    
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not satisfied in time");
+            ThreadUtils.sleep(50L);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoViews;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesChangeNotifier;
 import com.alibaba.nacos.client.naming.remote.NamingClientProxy;
@@ -567,6 +568,28 @@ class NacosNamingServiceTest {
         
     }
     
+    @Test
+    void testSelectInstancesByClusterView() throws NacosException, NoSuchFieldException, IllegalAccessException {
+        Field clusterViewEnabled = NacosNamingService.class.getDeclaredField("clusterViewEnabled");
+        clusterViewEnabled.setAccessible(true);
+        clusterViewEnabled.set(client, true);
+        String serviceName = "service1";
+        ServiceInfo serviceInfo = new ServiceInfo(Constants.DEFAULT_GROUP + "@@" + serviceName);
+        Instance instance1 = new Instance();
+        instance1.setClusterName("cluster1");
+        Instance instance2 = new Instance();
+        instance2.setClusterName("cluster2");
+        serviceInfo.setHosts(Arrays.asList(instance1, instance2));
+        when(proxy.subscribe(serviceName, Constants.DEFAULT_GROUP, "")).thenReturn(serviceInfo);
+        when(serviceInfoHolder.getServiceInfoViews(serviceInfo)).thenReturn(new ServiceInfoViews(serviceInfo));
+        //when
+        List<Instance> actual = client.selectInstances(serviceName, Collections.singletonList("cluster2"), true);
+        //then
+        assertEquals(1, actual.size());
+        assertEquals("cluster2", actual.get(0).getClusterName());
+        verify(proxy, never()).subscribe(serviceName, Constants.DEFAULT_GROUP, "cluster2");
+    }
+    
     @Test
     void testSelectInstances7() throws NacosException {
         //given
@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskCacheWriterTest {
+    
+    private final List<ServiceInfo> written = new CopyOnWriteArrayList<>();
+    
+    private DiskCacheWriter writer;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != writer) {
+            writer.shutdown();
+        }
+    }
+    
+    @Test
+    void testCoalesceWritesOfSameService() {
+        writer = new DiskCacheWriter(written::add, TimeUnit.HOURS.toMillis(1L), Long.MAX_VALUE);
+        writer.write(createServiceInfo("G@@a", "{a1}"));
+        ServiceInfo latest = createServiceInfo("G@@a", "{a2}");
+        writer.write(latest);
+        writer.write(createServiceInfo("G@@b", "{b1}"));
+        assertEquals(2, writer.pendingSize());
+        assertTrue(written.isEmpty());
+        writer.flush();
+        assertEquals(0, writer.pendingSize());
+        assertEquals(2, written.size());
+        assertTrue(written.contains(latest));
+    }
+    
+    @Test
+    void testFlushByInterval() throws InterruptedException {
+        writer = new DiskCacheWriter(written::add, 50L, Long.MAX_VALUE);
+        ServiceInfo serviceInfo = createServiceInfo("G@@a", "{a1}");
+        writer.write(serviceInfo);
+        waitUntilWritten(1);
+        assertSame(serviceInfo, written.get(0));
+    }
+    
+    @Test
+    void testFlushByBytesBudget() throws InterruptedException {
+        writer = new DiskCacheWriter(written::add, TimeUnit.HOURS.toMillis(1L), 8L);
+        writer.write(createServiceInfo("G@@a", "{a1}"));
+        writer.write(createServiceInfo("G@@b", "{b1}"));
+        waitUntilWritten(2);
+        assertEquals(0, writer.pendingSize());
+    }
+    
+    @Test
+    void testFlushWhenShutdown() {
+        writer = new DiskCacheWriter(written::add, TimeUnit.HOURS.toMillis(1L), Long.MAX_VALUE);
+        writer.write(createServiceInfo("G@@a", "{a1}"));
+        writer.shutdown();
+        assertEquals(1, written.size());
+        writer = null;
+    }
+    
+    private void waitUntilWritten(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && written.size() < expected; i++) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        assertEquals(expected, written.size());
+    }
+    
+    private ServiceInfo createServiceInfo(String key, String json) {
+        ServiceInfo result = new ServiceInfo(key);
+        result.setJsonFromServer(json);
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.event.InstancesDiff;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstancesDifferTest {
+    
+    private InstancesDiffer instancesDiffer;
+    
+    @BeforeEach
+    void setUp() {
+        instancesDiffer = new InstancesDiffer();
+    }
+    
+    @Test
+    void testDiffAll() {
+        ServiceInfo oldService = createServiceInfo(createInstance("1.1.1.1", 1.0D), createInstance("1.1.1.2", 1.0D),
+                createInstance("1.1.1.3", 1.0D));
+        assertTrue(instancesDiffer.doDiff(null, oldService).isAdded());
+        ServiceInfo newService = createServiceInfo(createInstance("1.1.1.1", 1.0D), createInstance("1.1.1.2", 2.0D),
+                createInstance("1.1.1.4", 1.0D));
+        InstancesDiff actual = instancesDiffer.doDiff(oldService, newService);
+        assertEquals("1.1.1.4", actual.getAddedInstances().get(0).getIp());
+        assertEquals("1.1.1.3", actual.getRemovedInstances().get(0).getIp());
+        assertEquals("1.1.1.2", actual.getModifiedInstances().get(0).getIp());
+        assertEquals(1, actual.getAddedInstances().size());
+        assertEquals(1, actual.getRemovedInstances().size());
+        assertEquals(1, actual.getModifiedInstances().size());
+    }
+    
+    @Test
+    void testReuseUnchangedInstance() {
+        ServiceInfo oldService = createServiceInfo(createInstance("1.1.1.1", 1.0D), createInstance("1.1.1.2", 1.0D));
+        instancesDiffer.doDiff(null, oldService);
+        ServiceInfo newService = createServiceInfo(createInstance("1.1.1.1", 1.0D), createInstance("1.1.1.2", 2.0D));
+        Instance modified = newService.getHosts().get(1);
+        assertTrue(instancesDiffer.doDiff(oldService, newService).isModified());
+        assertSame(oldService.getHosts().get(0), newService.getHosts().get(0));
+        assertSame(modified, newService.getHosts().get(1));
+        ServiceInfo nextService = createServiceInfo(createInstance("1.1.1.1", 1.0D), createInstance("1.1.1.2", 2.0D));
+        assertFalse(instancesDiffer.doDiff(newService, nextService).hasDifferent());
+        assertSame(oldService.getHosts().get(0), nextService.getHosts().get(0));
+        assertSame(modified, nextService.getHosts().get(1));
+    }
+    
+    @Test
+    void testNotReuseUnequalInstanceWithSameFingerprint() {
+        ServiceInfo oldService = createServiceInfo(createInstance("1.1.1.1", 1.0D));
+        instancesDiffer.doDiff(null, oldService);
+        // make the cached fingerprint of old instance unchanged but the content changed, just like collision.
+        oldService.getHosts().get(0).setEnabled(false);
+        ServiceInfo newService = createServiceInfo(createInstance("1.1.1.1", 1.0D));
+        Instance newInstance = newService.getHosts().get(0);
+        InstancesDiff actual = instancesDiffer.doDiff(oldService, newService);
+        assertTrue(actual.isModified());
+        assertSame(newInstance, newService.getHosts().get(0));
+    }
+    
+    @Test
+    void testIsSameContent() {
+        Instance instance = createInstance("1.1.1.1", 1.0D);
+        Instance same = createInstance("1.1.1.1", 1.0D);
+        assertTrue(InstancesDiffer.isSameContent(instance, same));
+        same.getMetadata().put("key", "value");
+        assertFalse(InstancesDiffer.isSameContent(instance, same));
+        Instance differentWeight = createInstance("1.1.1.1", 2.0D);
+        assertFalse(InstancesDiffer.isSameContent(instance, differentWeight));
+        Instance differentCluster = createInstance("1.1.1.1", 1.0D);
+        differentCluster.setClusterName("other");
+        assertFalse(InstancesDiffer.isSameContent(instance, differentCluster));
+    }
+    
+    @Test
+    void testSameChecksum() {
+        ServiceInfo oldService = createServiceInfo(createInstance("1.1.1.1", 1.0D));
+        oldService.setChecksum("checksum");
+        ServiceInfo newService = createServiceInfo(createInstance("1.1.1.1", 2.0D));
+        newService.setChecksum("checksum");
+        assertFalse(instancesDiffer.doDiff(oldService, newService).hasDifferent());
+        assertSame(oldService.getHosts().get(0), newService.getHosts().get(0));
+    }
+    
+    @Test
+    void testOutOfDate() {
+        ServiceInfo oldService = createServiceInfo(createInstance("1.1.1.1", 1.0D));
+        oldService.setLastRefTime(2L);
+        ServiceInfo newService = createServiceInfo(createInstance("1.1.1.2", 1.0D));
+        newService.setLastRefTime(1L);
+        assertFalse(instancesDiffer.doDiff(oldService, newService).hasDifferent());
+    }
+    
+    @Test
+    void testFingerprint() {
+        Instance instance = createInstance("1.1.1.1", 1.0D);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put("a", "1");
+        metadata.put("b", "2");
+        instance.setMetadata(metadata);
+        Instance reordered = createInstance("1.1.1.1", 1.0D);
+        Map<String, String> reorderedMetadata = new LinkedHashMap<>();
+        reorderedMetadata.put("b", "2");
+        reorderedMetadata.put("a", "1");
+        reordered.setMetadata(reorderedMetadata);
+        assertEquals(InstancesDiffer.fingerprint(instance), InstancesDiffer.fingerprint(reordered));
+        reordered.addMetadata("a", "2");
+        assertNotEquals(InstancesDiffer.fingerprint(instance), InstancesDiffer.fingerprint(reordered));
+        Instance unhealthy = createInstance("1.1.1.1", 1.0D);
+        unhealthy.setMetadata(metadata);
+        unhealthy.setHealthy(false);
+        assertNotEquals(InstancesDiffer.fingerprint(instance), InstancesDiffer.fingerprint(unhealthy));
+    }
+    
+    private ServiceInfo createServiceInfo(Instance... instances) {
+        ServiceInfo result = new ServiceInfo("G@@service");
+        List<Instance> hosts = new ArrayList<>(Arrays.asList(instances));
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance createInstance(String ip, double weight) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setWeight(weight);
+        result.setClusterName("DEFAULT");
+        return result;
+    }
+}
@@ -22,20 +22,26 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -153,6 +159,55 @@ class ServiceInfoHolderTest {
         assertEquals(olderInfo, actual);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.2", 2);
+        modified.setWeight(2.0D);
+        List<Instance> changed = new ArrayList<>();
+        changed.add(modified);
+        changed.add(createInstance("1.1.1.3", 3));
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        delta.setHosts(changed);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(delta);
+        request.setBaseRevision(1L);
+        request.setRevision(2L);
+        request.setRemovedInstances(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        ServiceInfo actual = holder.processServiceInfoDelta(request);
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0D, actual.getHosts().get(0).getWeight());
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        assertEquals(actual, holder.getServiceInfo("b", "a", "c"));
+        
+        // base revision mismatch
+        request.setBaseRevision(1L);
+        request.setRevision(3L);
+        assertNull(holder.processServiceInfoDelta(request));
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaAfterQuery() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.1", 1))));
+        holder.processServiceInfo(info, 1L);
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        queried.setHosts(new ArrayList<>(Collections.singletonList(createInstance("1.1.1.2", 2))));
+        holder.processServiceInfo(queried);
+        
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        delta.setHosts(new ArrayList<>());
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(delta);
+        request.setBaseRevision(1L);
+        request.setRevision(2L);
+        assertNull(holder.processServiceInfoDelta(request));
+    }
+    
     @Test
     void testGetServiceInfo() {
         ServiceInfo info = new ServiceInfo("a@@b@@c");
@@ -184,6 +239,17 @@ class ServiceInfoHolderTest {
         assertTrue(pool.isShutdown());
     }
     
+    @Test
+    void testAsyncWriteCacheDisabledByDefault() throws NacosException, NoSuchFieldException, IllegalAccessException {
+        Field field = ServiceInfoHolder.class.getDeclaredField("diskCacheWriter");
+        field.setAccessible(true);
+        assertNull(field.get(holder));
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_WRITE_CACHE, "true");
+        holder.shutdown();
+        holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+        assertNotNull(field.get(holder));
+    }
+    
     @Test
     void testConstructWithCacheLoad() throws NacosException {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_LOAD_CACHE_AT_START, "true");
@@ -194,6 +260,95 @@ class ServiceInfoHolderTest {
         assertTrue(holder.getServiceInfoMap().isEmpty());
     }
     
+    @Test
+    void testSelectOneHealthyInstance() throws NoSuchFieldException, IllegalAccessException {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        assertEquals("1.1.1.1", holder.selectOneHealthyInstance(info).getIp());
+        Field field = ServiceInfoHolder.class.getDeclaredField("selectionIndexes");
+        field.setAccessible(true);
+        Map<String, ?> selectionIndexes = (Map<String, ?>) field.get(holder);
+        Object index = selectionIndexes.get(info.getKey());
+        holder.selectOneHealthyInstance(info);
+        assertSame(index, selectionIndexes.get(info.getKey()));
+        
+        ServiceInfo newInfo = new ServiceInfo("a@@b@@c");
+        newInfo.setHosts(Collections.singletonList(createInstance("1.1.1.2", 1)));
+        holder.processServiceInfo(newInfo);
+        assertFalse(selectionIndexes.containsKey(info.getKey()));
+        assertEquals("1.1.1.2", holder.selectOneHealthyInstance(newInfo).getIp());
+    }
+    
+    @Test
+    void testSelectOneHealthyInstanceNotCached() throws NoSuchFieldException, IllegalAccessException {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        queried.setHosts(Collections.singletonList(createInstance("1.1.1.2", 1)));
+        assertEquals("1.1.1.2", holder.selectOneHealthyInstance(queried).getIp());
+        Field field = ServiceInfoHolder.class.getDeclaredField("selectionIndexes");
+        field.setAccessible(true);
+        assertTrue(((Map<String, ?>) field.get(holder)).isEmpty());
+    }
+    
+    @Test
+    void testSelectOneHealthyInstanceOfClusterView() {
+        ServiceInfo info = new ServiceInfo("a@@b");
+        Instance instance = createInstance("1.1.1.1", 1);
+        instance.setClusterName("c");
+        info.setHosts(Collections.singletonList(instance));
+        holder.processServiceInfo(info);
+        ServiceInfoViews views = holder.getServiceInfoViews(info);
+        ServiceInfo clusterView = views.getClusterView("c");
+        assertEquals("1.1.1.1", holder.selectOneHealthyInstance(clusterView).getIp());
+        assertTrue(views.isClusterView(clusterView));
+        assertSame(views.getSelectionIndex(clusterView), views.getSelectionIndex(clusterView));
+        assertTrue(views.getSelectionIndex(clusterView).isBuiltFrom(clusterView));
+    }
+    
+    @Test
+    void testGetServiceInfoViews() {
+        ServiceInfo info = new ServiceInfo("a@@b");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        ServiceInfoViews views = holder.getServiceInfoViews(info);
+        assertSame(views, holder.getServiceInfoViews(info));
+        
+        ServiceInfo newInfo = new ServiceInfo("a@@b");
+        newInfo.setHosts(Collections.singletonList(createInstance("1.1.1.2", 1)));
+        holder.processServiceInfo(newInfo);
+        ServiceInfoViews newViews = holder.getServiceInfoViews(newInfo);
+        assertTrue(newViews.isBuiltFrom(newInfo));
+        assertEquals("1.1.1.2", newViews.getInstances("", true).get(0).getIp());
+    }
+    
+    @Test
+    void testLoadSnapshotLazily() throws NacosException {
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_LOAD_CACHE_AT_START, "true");
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_SNAPSHOT_ENABLED, "true");
+        nacosClientProperties.setProperty(PropertyKeyConst.NAMING_CACHE_REGISTRY_DIR, "snapshot-test");
+        holder.shutdown();
+        holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processServiceInfo(info);
+        holder.shutdown();
+        File snapshotFile = new File(holder.getCacheDir(), ServiceInfoSnapshot.FILE_NAME);
+        assertTrue(snapshotFile.exists());
+        try {
+            holder = new ServiceInfoHolder("aa", "scope-001", nacosClientProperties);
+            assertTrue(holder.getServiceInfoMap().isEmpty());
+            ServiceInfo actual = holder.getServiceInfo("b", "a", "c");
+            assertEquals("1.1.1.1", actual.getHosts().get(0).getIp());
+            assertEquals(1, holder.getServiceInfoMap().size());
+        } finally {
+            holder.shutdown();
+            snapshotFile.delete();
+        }
+    }
+    
     @Test
     void testIsFailoverSwitch() throws IllegalAccessException, NoSuchFieldException, NacosException {
         FailoverReactor mock = injectMockFailoverReactor();
@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInfoSnapshotTest {
+    
+    private File dir;
+    
+    private ServiceInfoSnapshot snapshot;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("naming-snapshot").toFile();
+        snapshot = ServiceInfoSnapshot.open(dir.getPath());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        snapshot.shutdown();
+        File[] files = dir.listFiles();
+        if (null != files) {
+            for (File each : files) {
+                each.delete();
+            }
+        }
+        dir.delete();
+    }
+    
+    @Test
+    void testWriteAndReadAfterReopen() throws IOException {
+        snapshot.write(createServiceInfo("G@@a", "1.1.1.1"));
+        snapshot.write(createServiceInfo("G@@b", "1.1.1.2"));
+        snapshot.write(createServiceInfo("G@@a", "1.1.1.3"));
+        assertEquals("1.1.1.3", snapshot.read("G@@a").getHosts().get(0).getIp());
+        snapshot.shutdown();
+        snapshot = ServiceInfoSnapshot.open(dir.getPath());
+        assertEquals("1.1.1.3", snapshot.read("G@@a").getHosts().get(0).getIp());
+        assertEquals("1.1.1.2", snapshot.read("G@@b").getHosts().get(0).getIp());
+        assertNull(snapshot.read("G@@c"));
+    }
+    
+    @Test
+    void testTruncateBrokenTail() throws IOException {
+        snapshot.write(createServiceInfo("G@@a", "1.1.1.1"));
+        snapshot.write(createServiceInfo("G@@b", "1.1.1.2"));
+        snapshot.shutdown();
+        File file = new File(dir, ServiceInfoSnapshot.FILE_NAME);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+        snapshot = ServiceInfoSnapshot.open(dir.getPath());
+        assertEquals("1.1.1.1", snapshot.read("G@@a").getHosts().get(0).getIp());
+        assertNull(snapshot.read("G@@b"));
+        snapshot.write(createServiceInfo("G@@b", "1.1.1.4"));
+        assertEquals("1.1.1.4", snapshot.read("G@@b").getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testCompact() {
+        StringBuilder largeValue = new StringBuilder();
+        for (int i = 0; i < 1024; i++) {
+            largeValue.append('v');
+        }
+        for (int i = 0; i < 2048; i++) {
+            ServiceInfo serviceInfo = createServiceInfo("G@@a", "1.1.1.1");
+            serviceInfo.getHosts().get(0).addMetadata("large", largeValue.toString() + i);
+            snapshot.write(serviceInfo);
+        }
+        snapshot.write(createServiceInfo("G@@b", "1.1.1.2"));
+        assertTrue(new File(dir, ServiceInfoSnapshot.FILE_NAME).length() < 1024 * 1024L);
+        assertEquals(largeValue.toString() + 2047,
+                snapshot.read("G@@a").getHosts().get(0).getMetadata().get("large"));
+        assertEquals("1.1.1.2", snapshot.read("G@@b").getHosts().get(0).getIp());
+        // the lock is kept after the snapshot file is replaced by compaction.
+        assertThrows(IOException.class, () -> ServiceInfoSnapshot.open(dir.getPath()));
+    }
+    
+    @Test
+    void testIsSnapshotFile() {
+        assertTrue(ServiceInfoSnapshot.isSnapshotFile(ServiceInfoSnapshot.FILE_NAME));
+        assertTrue(ServiceInfoSnapshot.isSnapshotFile(ServiceInfoSnapshot.FILE_NAME + ".lock"));
+        assertFalse(ServiceInfoSnapshot.isSnapshotFile("G%40%40a"));
+    }
+    
+    @Test
+    void testOpenByOthers() {
+        assertThrows(IOException.class, () -> ServiceInfoSnapshot.open(dir.getPath()));
+    }
+    
+    @Test
+    void testReadAll() {
+        snapshot.write(createServiceInfo("G@@a", "1.1.1.1"));
+        snapshot.write(createServiceInfo("G@@b", "1.1.1.2"));
+        Map<String, ServiceInfo> actual = ServiceInfoSnapshot.readAll(dir.getPath());
+        assertEquals(2, actual.size());
+        assertEquals("1.1.1.2", actual.get("G@@b").getHosts().get(0).getIp());
+        assertTrue(ServiceInfoSnapshot.readAll(new File(dir, "absent").getPath()).isEmpty());
+    }
+    
+    private ServiceInfo createServiceInfo(String name, String ip) {
+        ServiceInfo result = new ServiceInfo(name);
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(8848);
+        result.setHosts(Collections.singletonList(instance));
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceInfoViewsTest {
+    
+    private ServiceInfo serviceInfo;
+    
+    private ServiceInfoViews views;
+    
+    @BeforeEach
+    void setUp() {
+        serviceInfo = new ServiceInfo("G@@a");
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setHosts(Arrays.asList(createInstance("1.1.1.1", "c1", true, true),
+                createInstance("1.1.1.2", "c1", false, true), createInstance("1.1.1.3", "c2", true, true),
+                createInstance("1.1.1.4", "c3", true, false)));
+        views = new ServiceInfoViews(serviceInfo);
+    }
+    
+    @Test
+    void testGetClusterView() {
+        assertSame(serviceInfo, views.getClusterView(""));
+        ServiceInfo actual = views.getClusterView("c2,c1");
+        assertEquals("G@@a@@c1,c2", actual.getKey());
+        assertEquals("checksum", actual.getChecksum());
+        assertEquals(3, actual.getHosts().size());
+        assertSame(actual, views.getClusterView("c1,c2"));
+        assertSame(actual, views.getClusterView("c1, c2,c1"));
+    }
+    
+    @Test
+    void testGetInstances() {
+        List<Instance> healthy = views.getInstances("", true);
+        assertEquals(2, healthy.size());
+        assertSame(healthy, views.getInstances(null, true));
+        List<Instance> unhealthy = views.getInstances("c1", false);
+        assertEquals(1, unhealthy.size());
+        assertEquals("1.1.1.2", unhealthy.get(0).getIp());
+        assertEquals(1, views.getInstances("c2", true).size());
+        assertTrue(views.getInstances("c3", true).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> healthy.remove(0));
+    }
+    
+    @Test
+    void testIsBuiltFrom() {
+        assertTrue(views.isBuiltFrom(serviceInfo));
+        assertFalse(views.isBuiltFrom(new ServiceInfo("G@@a")));
+    }
+    
+    private Instance createInstance(String ip, String cluster, boolean healthy, boolean enabled) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName(cluster);
+        result.setHealthy(healthy);
+        result.setEnabled(enabled);
+        return result;
+    }
+}
@@ -21,10 +21,13 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -66,4 +69,36 @@ class BalancerTest {
         });
         assertTrue(exception.getMessage().contains("no host to srv for serviceInfo: null"));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSelectionIndex() {
+        List<Instance> hosts = new ArrayList<>();
+        Instance unhealthy = new Instance();
+        unhealthy.setHealthy(false);
+        hosts.add(unhealthy);
+        Instance zeroWeight = new Instance();
+        zeroWeight.setWeight(0.0D);
+        hosts.add(zeroWeight);
+        Instance healthy = new Instance();
+        hosts.add(healthy);
+        ServiceInfo serviceInfo = new ServiceInfo("G@@a");
+        serviceInfo.setHosts(hosts);
+        Balancer.SelectionIndex index = new Balancer.SelectionIndex(serviceInfo);
+        assertTrue(index.isBuiltFrom(serviceInfo));
+        assertFalse(index.isBuiltFrom(new ServiceInfo("G@@a")));
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, index.select());
+        }
+    }
+    
+    @Test
+    void testSelectionIndexWithoutHealthyInstance() {
+        Instance unhealthy = new Instance();
+        unhealthy.setHealthy(false);
+        ServiceInfo serviceInfo = new ServiceInfo("G@@a");
+        serviceInfo.setHosts(Collections.singletonList(unhealthy));
+        Balancer.SelectionIndex index = new Balancer.SelectionIndex(serviceInfo);
+        assertThrows(IllegalStateException.class, index::select);
+        assertThrows(IllegalStateException.class, () -> new Balancer.SelectionIndex(new ServiceInfo("G@@b")));
+    }
+}
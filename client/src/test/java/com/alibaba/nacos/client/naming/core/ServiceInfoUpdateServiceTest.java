@@ -36,8 +36,6 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -125,9 +123,7 @@ class ServiceInfoUpdateServiceTest {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
         serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
-        Map<String, ServiceInfo> map = new HashMap<>();
-        map.put(ServiceInfo.getKey(group + "@@" + serviceName, clusters), info);
-        when(holder.getServiceInfoMap()).thenReturn(map);
+        when(holder.getServiceInfo(ServiceInfo.getKey(group + "@@" + serviceName, clusters))).thenReturn(info);
         TimeUnit.MILLISECONDS.sleep(1500);
         Mockito.verify(proxy).queryInstancesOfService(serviceName, group, clusters, false);
     }
@@ -138,9 +134,7 @@ class ServiceInfoUpdateServiceTest {
         nacosClientProperties.setProperty(PropertyKeyConst.NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE, "true");
         serviceInfoUpdateService = new ServiceInfoUpdateService(nacosClientProperties, holder, proxy, notifier);
         serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, group, clusters);
-        Map<String, ServiceInfo> map = new HashMap<>();
-        map.put(ServiceInfo.getKey(group + "@@" + serviceName, clusters), info);
-        when(holder.getServiceInfoMap()).thenReturn(map);
+        when(holder.getServiceInfo(ServiceInfo.getKey(group + "@@" + serviceName, clusters))).thenReturn(info);
         info.setHosts(Collections.singletonList(new Instance()));
         TimeUnit.MILLISECONDS.sleep(1500);
         Mockito.verify(proxy).queryInstancesOfService(serviceName, group, clusters, false);
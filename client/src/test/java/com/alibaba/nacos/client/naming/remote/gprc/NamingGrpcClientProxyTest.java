@@ -18,6 +18,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
@@ -37,6 +38,7 @@ import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
 import com.alibaba.nacos.api.naming.remote.response.SubscribeServiceResponse;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.RemoteConstants;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -49,6 +51,7 @@ import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.client.naming.event.ServerListChangedEvent;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.NamingGrpcRedoService;
+import com.alibaba.nacos.client.remote.SharedRpcClientManager;
 import com.alibaba.nacos.client.security.SecurityProxy;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.remote.ConnectionType;
@@ -86,6 +89,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -561,6 +565,38 @@ class NamingGrpcClientProxyTest {
         //verify(this.rpcClient, times(1)).shutdown();
     }
     
+    @Test
+    void testShutdownWithSharedConnection() throws Exception {
+        Properties sharedProp = new Properties();
+        sharedProp.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        sharedProp.setProperty(PropertyKeyConst.SHARED_CONNECTION_ENABLED, "true");
+        RpcClient configRpcClient = SharedRpcClientManager.acquire(sharedProp, NAMESPACE_ID,
+                Collections.singletonMap(RemoteConstants.LABEL_MODULE, RemoteConstants.LABEL_MODULE_CONFIG));
+        NamingGrpcClientProxy sharedClient = new NamingGrpcClientProxy(NAMESPACE_ID, proxy, factory,
+                NacosClientProperties.PROTOTYPE.derive(sharedProp), holder);
+        Field rpcClientField = NamingGrpcClientProxy.class.getDeclaredField("rpcClient");
+        rpcClientField.setAccessible(true);
+        assertSame(configRpcClient, rpcClientField.get(sharedClient));
+        rpcClientField.set(sharedClient, this.rpcClient);
+        when(this.rpcClient.getName()).thenReturn(configRpcClient.getName());
+        when(this.rpcClient.request(any())).thenReturn(new SubscribeServiceResponse());
+        try {
+            sharedClient.registerService(SERVICE_NAME, GROUP_NAME, instance);
+            sharedClient.subscribe(SERVICE_NAME, GROUP_NAME, CLUSTERS);
+            sharedClient.shutdown();
+            verify(this.rpcClient).request(argThat(request -> request instanceof InstanceRequest
+                    && NamingRemoteConstants.DE_REGISTER_INSTANCE.equals(((InstanceRequest) request).getType())));
+            verify(this.rpcClient).request(argThat(
+                    request -> request instanceof SubscribeServiceRequest && !((SubscribeServiceRequest) request)
+                            .isSubscribe()));
+            assertFalse(configRpcClient.isShutdown());
+            assertSame(configRpcClient, RpcClientFactory.getClient(configRpcClient.getName()));
+        } finally {
+            SharedRpcClientManager.release(configRpcClient, RemoteConstants.LABEL_MODULE_CONFIG);
+        }
+        assertTrue(configRpcClient.isShutdown());
+    }
+    
     @Test
     void testShutdownWithException() throws NoSuchFieldException, IllegalAccessException, NacosException {
         Field field = RpcClientFactory.class.getDeclaredField("CLIENT_MAP");
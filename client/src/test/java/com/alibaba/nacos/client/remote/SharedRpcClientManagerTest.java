@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.remote;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.client.RpcClientFactory;
+import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
+import com.alibaba.nacos.common.remote.client.RpcConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedRpcClientManagerTest {
+    
+    private static final Map<String, String> CONFIG_LABELS = Collections.singletonMap(RemoteConstants.LABEL_MODULE,
+            RemoteConstants.LABEL_MODULE_CONFIG);
+    
+    private static final Map<String, String> NAMING_LABELS = Collections.singletonMap(RemoteConstants.LABEL_MODULE,
+            RemoteConstants.LABEL_MODULE_NAMING);
+    
+    @Test
+    void testIsSharable() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        assertFalse(SharedRpcClientManager.isSharable(properties));
+        properties.setProperty(PropertyKeyConst.SHARED_CONNECTION_ENABLED, "true");
+        assertTrue(SharedRpcClientManager.isSharable(properties));
+        properties.setProperty(PropertyKeyConst.ENDPOINT, "127.0.0.1");
+        assertFalse(SharedRpcClientManager.isSharable(properties));
+    }
+    
+    @Test
+    void testBuildClientName() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848,127.0.0.2:8848");
+        Properties reordered = new Properties();
+        reordered.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.2:8848, 127.0.0.1:8848");
+        assertEquals(buildClientName(properties), buildClientName(reordered));
+        reordered.setProperty(PropertyKeyConst.USERNAME, "nacos");
+        assertNotEquals(buildClientName(properties), buildClientName(reordered));
+    }
+    
+    @Test
+    void testBuildClientNameWithNamespace() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        assertEquals(buildClientName(properties, ""), buildClientName(properties, Constants.DEFAULT_NAMESPACE_ID));
+        assertNotEquals(buildClientName(properties, "public"), buildClientName(properties, "dev"));
+    }
+    
+    @Test
+    void testBuildClientNameWithTls() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        Properties tls = new Properties();
+        tls.putAll(properties);
+        tls.setProperty(RpcConstants.RPC_CLIENT_TLS_ENABLE, "true");
+        assertNotEquals(buildClientName(properties), buildClientName(tls));
+        Properties otherTls = new Properties();
+        otherTls.putAll(tls);
+        otherTls.setProperty(RpcConstants.RPC_CLIENT_TLS_CERT_CHAIN_PATH, "chain.pem");
+        assertNotEquals(buildClientName(tls), buildClientName(otherTls));
+    }
+    
+    private String buildClientName(Properties properties) {
+        return buildClientName(properties, null);
+    }
+    
+    private String buildClientName(Properties properties, String namespace) {
+        return SharedRpcClientManager.buildClientName(properties, namespace,
+                RpcClientTlsConfigFactory.getInstance().createSdkConfig(properties));
+    }
+    
+    @Test
+    void testAcquireAndRelease() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        RpcClient rpcClient = SharedRpcClientManager.acquire(properties, "", CONFIG_LABELS);
+        assertEquals(RemoteConstants.LABEL_MODULE_SHARED, rpcClient.getLabels().get(RemoteConstants.LABEL_MODULE));
+        assertSame(rpcClient, SharedRpcClientManager.acquire(properties, "", NAMING_LABELS));
+        SharedRpcClientManager.release(rpcClient, RemoteConstants.LABEL_MODULE_CONFIG);
+        assertSame(rpcClient, RpcClientFactory.getClient(rpcClient.getName()));
+        SharedRpcClientManager.release(rpcClient, RemoteConstants.LABEL_MODULE_NAMING);
+        assertNull(RpcClientFactory.getClient(rpcClient.getName()));
+        assertTrue(rpcClient.isShutdown());
+    }
+    
+    @Test
+    void testAcquireBySameModule() {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.SERVER_ADDR, "127.0.0.1:8848");
+        RpcClient rpcClient = SharedRpcClientManager.acquire(properties, "dev", NAMING_LABELS);
+        assertNull(SharedRpcClientManager.acquire(properties, "dev", NAMING_LABELS));
+        RpcClient otherNamespace = SharedRpcClientManager.acquire(properties, "test", NAMING_LABELS);
+        assertNotSame(rpcClient, otherNamespace);
+        SharedRpcClientManager.release(otherNamespace, RemoteConstants.LABEL_MODULE_NAMING);
+        SharedRpcClientManager.release(rpcClient, RemoteConstants.LABEL_MODULE_NAMING);
+        assertTrue(rpcClient.isShutdown());
+        assertTrue(otherNamespace.isShutdown());
+    }
+}
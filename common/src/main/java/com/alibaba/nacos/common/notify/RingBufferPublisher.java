@@ -0,0 +1,314 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher based on a preallocated ring buffer.
+ *
+ * <p>Producers claim the sequence of slot by CAS without lock, and the only consumer thread drains the published
+ * events in batch, so that the consumed sequence is published once for each batch. How the consumer waits for new
+ * events is decided by {@link RingBufferWaitStrategy}, which can be set by {@code
+ * nacos.core.notify.ring-buffer-wait-strategy}.
+ *
+ * <p>Like {@link DefaultPublisher}, the events older than the latest handled one are not sent to the subscribers which
+ * {@link Subscriber#ignoreExpireEvent() ignore expired events}. It can be used as the default publisher by SPI of
+ * {@link EventPublisher}, or created by an {@link EventPublisherFactory} for specified events.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher extends Thread implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String WAIT_STRATEGY_PROPERTY = "nacos.core.notify.ring-buffer-wait-strategy";
+    
+    private static final String THREAD_NAME = "nacos.ring-buffer-publisher-";
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final int MAX_BATCH_SIZE = 256;
+    
+    private static final long FULL = -1L;
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
+    
+    private final AtomicLong cursor = new AtomicLong(-1L);
+    
+    /**
+     * The max sequence of handled events, events are handled by the consumer thread or by producers when buffer is full.
+     */
+    private final AtomicLong lastEventSequence = new AtomicLong(-1L);
+    
+    private volatile long consumedSequence = -1L;
+    
+    private volatile boolean consumerWaiting = false;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private AtomicReferenceArray<Event> entries;
+    
+    private int mask;
+    
+    private String publisherName;
+    
+    public RingBufferPublisher() {
+        this(RingBufferWaitStrategy.of(System.getProperty(WAIT_STRATEGY_PROPERTY)));
+    }
+    
+    public RingBufferPublisher(RingBufferWaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        int capacity = ceilingPowerOfTwo(bufferSize == -1 ? ringBufferSize : bufferSize);
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.publisherName = type.getSimpleName();
+        super.setName(THREAD_NAME + this.publisherName);
+        super.setDaemon(true);
+        super.start();
+        initialized = true;
+    }
+    
+    private static int ceilingPowerOfTwo(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return cursor.get() - consumedSequence;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfPresent(subscribeType, (inputType, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        long sequence = tryClaim();
+        if (FULL == sequence) {
+            LOGGER.warn("Unable to plug in due to ring buffer is full, synchronize sending time, event : {}", event);
+            handleEvent(event);
+            return true;
+        }
+        entries.set(indexOf(sequence), event);
+        if (consumerWaiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    private long tryClaim() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            if (next - entries.length() > consumedSequence) {
+                return FULL;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+    
+    private int indexOf(long sequence) {
+        return (int) (sequence & mask);
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        }
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        LockSupport.unpark(this);
+    }
+    
+    @Override
+    public void run() {
+        try {
+            waitSubscriberForInit();
+            handleEvents();
+        } catch (Throwable e) {
+            LOGGER.error("Ring buffer publisher {}, stop to handle event due to unexpected exception: ",
+                    this.publisherName, e);
+        }
+    }
+    
+    private void waitSubscriberForInit() {
+        // To ensure that messages are not lost, enable EventHandler when
+        // waiting for the first Subscriber to register
+        for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+            if (shutdown || !subscribes.isEmpty()) {
+                break;
+            }
+            ThreadUtils.sleep(1000L);
+        }
+    }
+    
+    private void handleEvents() {
+        long nextSequence = consumedSequence + 1;
+        while (!shutdown) {
+            long available = waitFor(nextSequence);
+            if (available < nextSequence) {
+                continue;
+            }
+            long end = Math.min(available, nextSequence + MAX_BATCH_SIZE - 1);
+            for (long sequence = nextSequence; sequence <= end; sequence++) {
+                handleEvent(take(sequence));
+            }
+            consumedSequence = end;
+            nextSequence = end + 1;
+        }
+    }
+    
+    /**
+     * Wait until the sequence is claimed by producers or publisher is shutdown.
+     *
+     * @param sequence sequence expected
+     * @return the max claimed sequence
+     */
+    private long waitFor(long sequence) {
+        long available = cursor.get();
+        for (int counter = 0; available < sequence && !shutdown; counter++) {
+            if (waitStrategy.isSignalRequired()) {
+                consumerWaiting = true;
+                // Check again after marking waiting, so that the signal of producer can't be missed.
+                if (cursor.get() < sequence && !shutdown) {
+                    waitStrategy.idle(counter);
+                }
+                consumerWaiting = false;
+            } else {
+                waitStrategy.idle(counter);
+            }
+            available = cursor.get();
+        }
+        return available;
+    }
+    
+    /**
+     * Take the event of sequence, the sequence might be claimed but the event is not set by producer yet.
+     */
+    private Event take(long sequence) {
+        int index = indexOf(sequence);
+        Event result = entries.get(index);
+        while (null == result) {
+            Thread.yield();
+            result = entries.get(index);
+        }
+        entries.lazySet(index, null);
+        return result;
+    }
+    
+    private void handleEvent(Event event) {
+        final long currentEventSequence = event.sequence();
+        Set<Subscriber<? extends Event>> subscribers = subscribes.get(event.getClass());
+        if (null == subscribers) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("[NotifyCenter] No subscribers for event {}", event.getClass().getName());
+            }
+        } else {
+            notifySubscribers(subscribers, event, lastEventSequence.get() > currentEventSequence);
+        }
+        lastEventSequence.accumulateAndGet(currentEventSequence, Math::max);
+    }
+    
+    private void notifySubscribers(Set<Subscriber<? extends Event>> subscribers, Event event, boolean expired) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            if (expired && subscriber.ignoreExpireEvent()) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d", publisherName, shutdown,
+                currentEventSize(), entries.length());
+    }
+}
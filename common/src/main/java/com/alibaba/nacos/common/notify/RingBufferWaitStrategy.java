@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategies for the consumer of {@link RingBufferPublisher} to wait for new events.
+ *
+ * @author Nacos
+ */
+public enum RingBufferWaitStrategy {
+    
+    /**
+     * Park the consumer until producer wakes it up, the lowest cpu usage, used by default.
+     */
+    BLOCKING(true) {
+        @Override
+        void idle(int counter) {
+            LockSupport.parkNanos(BLOCKING_TIMEOUT_NANOS);
+        }
+    },
+    
+    /**
+     * Spin, then yield, then park for a short while, balances the latency and cpu usage.
+     */
+    SLEEPING(false) {
+        @Override
+        void idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return;
+            }
+            if (counter < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return;
+            }
+            LockSupport.parkNanos(SLEEP_NANOS);
+        }
+    },
+    
+    /**
+     * Spin, then yield, the lowest latency, but occupies one cpu when there is no event.
+     */
+    YIELDING(false) {
+        @Override
+        void idle(int counter) {
+            if (counter >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    };
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 100;
+    
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private static final long BLOCKING_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final boolean signalRequired;
+    
+    RingBufferWaitStrategy(boolean signalRequired) {
+        this.signalRequired = signalRequired;
+    }
+    
+    /**
+     * Whether producer should wake up the waiting consumer after publishing events.
+     *
+     * @return {@code true} if consumer waits until signaled
+     */
+    boolean isSignalRequired() {
+        return signalRequired;
+    }
+    
+    /**
+     * Wait once when there is no available event.
+     *
+     * @param counter how many times the consumer has waited for the current event
+     */
+    abstract void idle(int counter);
+    
+    /**
+     * Get wait strategy by name, ignore case.
+     *
+     * @param name name of wait strategy
+     * @return wait strategy, {@link #BLOCKING} if the name is unknown
+     */
+    public static RingBufferWaitStrategy of(String name) {
+        for (RingBufferWaitStrategy each : values()) {
+            if (each.name().equalsIgnoreCase(name)) {
+                return each;
+            }
+        }
+        return BLOCKING;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.BatchResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codec of the requests and responses in {@link BatchRequest} and {@link BatchResponse}, the types are resolved by
+ * {@link PayloadRegistry}.
+ *
+ * @author Nacos
+ */
+public class BatchPayloadCodec {
+    
+    private static final String HEADERS_FIELD = "headers";
+    
+    /**
+     * Encode request as item of batch request, the headers of request are kept out of the body, and the request itself
+     * is not modified.
+     *
+     * @param request request
+     * @return item of batch request
+     */
+    public static BatchRequest.Item encode(Request request) {
+        Map<String, String> headers = new HashMap<>(request.getHeaders());
+        JsonNode body = JacksonUtils.transferToJsonNode(request);
+        if (body instanceof ObjectNode) {
+            ((ObjectNode) body).remove(HEADERS_FIELD);
+        }
+        return new BatchRequest.Item(request.getClass().getSimpleName(), headers, JacksonUtils.toJson(body));
+    }
+    
+    /**
+     * Encode response as item of batch response.
+     *
+     * @param response response
+     * @return item of batch response
+     */
+    public static BatchResponse.Item encode(Response response) {
+        return new BatchResponse.Item(response.getClass().getSimpleName(), JacksonUtils.toJson(response));
+    }
+    
+    /**
+     * Decode request from item of batch request.
+     *
+     * @param item item of batch request
+     * @return request
+     */
+    public static Request decode(BatchRequest.Item item) {
+        Request result = (Request) JacksonUtils.toObj(item.getBody(), getClassByType(item.getType()));
+        result.putAllHeader(item.getHeaders());
+        return result;
+    }
+    
+    /**
+     * Decode response from item of batch response.
+     *
+     * @param item item of batch response
+     * @return response
+     */
+    public static Response decode(BatchResponse.Item item) {
+        return (Response) JacksonUtils.toObj(item.getBody(), getClassByType(item.getType()));
+    }
+    
+    private static Class<?> getClassByType(String type) {
+        Class<?> result = PayloadRegistry.getClassByType(type);
+        if (null == result) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload type:" + type);
+        }
+        return result;
+    }
+}
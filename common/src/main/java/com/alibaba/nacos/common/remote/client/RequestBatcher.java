@@ -0,0 +1,246 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.BatchResponse;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.remote.BatchPayloadCodec;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Coalesce the requests of the same type sent in a small time window into one {@link BatchRequest}.
+ *
+ * <p>The batches are sent asynchronously one by one by a single thread, so the requests keep their order, and a slow
+ * batch doesn't block the batches sent after it. The requests whose callers have given up waiting are dropped before
+ * sending.
+ *
+ * @author Nacos
+ */
+class RequestBatcher {
+    
+    static final long DEFAULT_WINDOW_MILLIS = 5L;
+    
+    static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger("com.alibaba.nacos.common.remote.client");
+    
+    private final RpcClient rpcClient;
+    
+    private final long windowMillis;
+    
+    private final int maxBatchSize;
+    
+    private final Map<String, List<PendingRequest>> pendingRequests = new HashMap<>(4);
+    
+    private final ScheduledExecutorService executor;
+    
+    RequestBatcher(RpcClient rpcClient, long windowMillis, int maxBatchSize) {
+        this.rpcClient = rpcClient;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                new NameThreadFactory("com.alibaba.nacos.client.remote.batcher"));
+    }
+    
+    /**
+     * Send request in the next batch of its type and wait for the response.
+     *
+     * @param request      request
+     * @param timeoutMills timeout of request
+     * @return response of request
+     * @throws NacosException if request failed or timeout
+     */
+    Response request(Request request, long timeoutMills) throws NacosException {
+        PendingRequest pendingRequest = new PendingRequest(request, timeoutMills);
+        submit(pendingRequest);
+        try {
+            return timeoutMills <= 0 ? pendingRequest.future.get()
+                    : pendingRequest.future.get(timeoutMills + windowMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof NacosException ? (NacosException) cause
+                    : new NacosException(NacosException.SERVER_ERROR, cause);
+        } catch (TimeoutException e) {
+            pendingRequest.future.cancel(false);
+            throw new NacosException(NacosException.SERVER_ERROR,
+                    "Timeout after " + timeoutMills + " milliseconds for batched request.");
+        } catch (InterruptedException e) {
+            pendingRequest.future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new NacosException(NacosException.CLIENT_ERROR, e);
+        }
+    }
+    
+    private void submit(PendingRequest pendingRequest) {
+        String type = pendingRequest.request.getClass().getSimpleName();
+        List<PendingRequest> fullBatch = null;
+        synchronized (pendingRequests) {
+            List<PendingRequest> batch = pendingRequests.computeIfAbsent(type, key -> new ArrayList<>());
+            batch.add(pendingRequest);
+            if (batch.size() >= maxBatchSize) {
+                fullBatch = pendingRequests.remove(type);
+            } else if (batch.size() == 1) {
+                executor.schedule(() -> flush(type), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (null != fullBatch) {
+            List<PendingRequest> requests = fullBatch;
+            executor.execute(() -> send(requests));
+        }
+    }
+    
+    private void flush(String type) {
+        List<PendingRequest> batch;
+        synchronized (pendingRequests) {
+            batch = pendingRequests.remove(type);
+        }
+        if (null != batch) {
+            send(batch);
+        }
+    }
+    
+    private void send(List<PendingRequest> batch) {
+        // the callers of done requests have given up waiting, no need to send them.
+        batch.removeIf(each -> each.future.isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+        long timeoutMills = 0L;
+        for (PendingRequest each : batch) {
+            timeoutMills = Math.max(timeoutMills, each.timeoutMills);
+        }
+        if (timeoutMills <= 0) {
+            timeoutMills = rpcClient.rpcClientConfig.timeOutMills();
+        }
+        if (batch.size() == 1) {
+            PendingRequest only = batch.get(0);
+            sendAsync(only.request, timeoutMills, only.future::complete, only.future::completeExceptionally);
+            return;
+        }
+        BatchRequest batchRequest = new BatchRequest();
+        for (PendingRequest each : batch) {
+            batchRequest.addItem(BatchPayloadCodec.encode(each.request));
+        }
+        sendAsync(batchRequest, timeoutMills, response -> completeBatch(batch, response), e -> {
+            LOGGER.warn("[{}] Send batch request failed, size = {}", rpcClient.getName(), batch.size(), e);
+            for (PendingRequest each : batch) {
+                each.future.completeExceptionally(e);
+            }
+        });
+    }
+    
+    private void sendAsync(Request request, long timeoutMills, Consumer<Response> onResponse,
+            Consumer<Throwable> onException) {
+        try {
+            rpcClient.asyncRequest(request, new RequestCallBack<Response>() {
+                
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public long getTimeout() {
+                    return timeoutMills;
+                }
+                
+                @Override
+                public void onResponse(Response response) {
+                    onResponse.accept(response);
+                }
+                
+                @Override
+                public void onException(Throwable e) {
+                    onException.accept(e);
+                }
+            });
+        } catch (Throwable e) {
+            onException.accept(e);
+        }
+    }
+    
+    private void completeBatch(List<PendingRequest> batch, Response response) {
+        if (!(response instanceof BatchResponse) || ((BatchResponse) response).getItems().size() != batch.size()) {
+            NacosException exception = new NacosException(NacosException.SERVER_ERROR,
+                    "Server return invalid batch response");
+            batch.forEach(each -> each.future.completeExceptionally(exception));
+            return;
+        }
+        List<BatchResponse.Item> items = ((BatchResponse) response).getItems();
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), items.get(i));
+        }
+    }
+    
+    private void complete(PendingRequest pendingRequest, BatchResponse.Item item) {
+        try {
+            Response response = BatchPayloadCodec.decode(item);
+            if (response instanceof ErrorResponse) {
+                throw new NacosException(response.getErrorCode(), response.getMessage());
+            }
+            pendingRequest.future.complete(response);
+        } catch (Throwable e) {
+            pendingRequest.future.completeExceptionally(e);
+        }
+    }
+    
+    void shutdown() {
+        ThreadUtils.shutdownThreadPool(executor, LOGGER);
+        synchronized (pendingRequests) {
+            NacosException exception = new NacosException(NacosException.CLIENT_DISCONNECT, "Client is shutdown.");
+            for (List<PendingRequest> each : pendingRequests.values()) {
+                each.forEach(pendingRequest -> pendingRequest.future.completeExceptionally(exception));
+            }
+            pendingRequests.clear();
+        }
+    }
+    
+    private static class PendingRequest {
+        
+        private final Request request;
+        
+        private final long timeoutMills;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        private PendingRequest(Request request, long timeoutMills) {
+            this.request = request;
+            this.timeoutMills = timeoutMills;
+        }
+    }
+}
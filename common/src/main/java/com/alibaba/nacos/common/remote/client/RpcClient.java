@@ -44,12 +44,12 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -91,12 +91,14 @@ public abstract class RpcClient implements Closeable {
     /**
      * listener called where connection's status changed.
      */
-    protected List<ConnectionEventListener> connectionEventListeners = new ArrayList<>();
+    protected List<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArrayList<>();
     
     /**
      * handlers to process server push request.
      */
-    protected List<ServerRequestHandler> serverRequestHandlers = new ArrayList<>();
+    protected List<ServerRequestHandler> serverRequestHandlers = new CopyOnWriteArrayList<>();
+    
+    private volatile RequestBatcher requestBatcher;
     
     private static final Pattern EXCLUDE_PROTOCOL_PATTERN = Pattern.compile("(?<=\\w{1,5}://)(.*)");
     
@@ -428,6 +430,9 @@ public abstract class RpcClient implements Closeable {
         if (clientEventExecutor != null) {
             clientEventExecutor.shutdownNow();
         }
+        if (requestBatcher != null) {
+            requestBatcher.shutdown();
+        }
         closeConnection(currentConnection);
     }
     
@@ -700,6 +705,45 @@ public abstract class RpcClient implements Closeable {
         }
     }
     
+    /**
+     * send request in batch with the other requests of the same type sent in a small time window.
+     *
+     * @param request request.
+     * @return response from server.
+     */
+    public Response requestBatched(Request request) throws NacosException {
+        return requestBatched(request, rpcClientConfig.timeOutMills());
+    }
+    
+    /**
+     * send request in batch with the other requests of the same type sent in a small time window, the request is sent
+     * alone if server doesn't support batch request.
+     *
+     * @param request      request.
+     * @param timeoutMills timeout of request.
+     * @return response from server.
+     */
+    public Response requestBatched(Request request, long timeoutMills) throws NacosException {
+        boolean batchSupported = AbilityStatus.SUPPORTED
+                .equals(getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_REQUEST));
+        if (!batchSupported || isShutdown()) {
+            return request(request, timeoutMills);
+        }
+        return getRequestBatcher().request(request, timeoutMills);
+    }
+    
+    private RequestBatcher getRequestBatcher() {
+        if (null == requestBatcher) {
+            synchronized (this) {
+                if (null == requestBatcher) {
+                    requestBatcher = new RequestBatcher(this, RequestBatcher.DEFAULT_WINDOW_MILLIS,
+                            RequestBatcher.DEFAULT_MAX_BATCH_SIZE);
+                }
+            }
+        }
+        return requestBatcher;
+    }
+    
     /**
      * send async request.
      *
@@ -862,6 +906,28 @@ public abstract class RpcClient implements Closeable {
         this.serverRequestHandlers.add(serverRequestHandler);
     }
     
+    /**
+     * Unregister connection listener, used when the client is shared and one of its users is shutdown.
+     *
+     * @param connectionEventListener connectionEventListener
+     */
+    public synchronized void unregisterConnectionListener(ConnectionEventListener connectionEventListener) {
+        LoggerUtils.printIfInfoEnabled(LOGGER, "[{}] Unregister connection listener from current client:{}",
+                rpcClientConfig.name(), connectionEventListener.getClass().getName());
+        this.connectionEventListeners.remove(connectionEventListener);
+    }
+    
+    /**
+     * Unregister serverRequestHandler, used when the client is shared and one of its users is shutdown.
+     *
+     * @param serverRequestHandler serverRequestHandler
+     */
+    public synchronized void unregisterServerRequestHandler(ServerRequestHandler serverRequestHandler) {
+        LoggerUtils.printIfInfoEnabled(LOGGER, "[{}] Unregister server push request handler:{}",
+                rpcClientConfig.name(), serverRequestHandler.getClass().getName());
+        this.serverRequestHandlers.remove(serverRequestHandler);
+    }
+    
     /**
      * Getter method for property <tt>name</tt>.
      *
@@ -0,0 +1,771 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary codec for the hot request and response types, encode them with protobuf wire format instead of json.
+ *
+ * <p>The payload body encoded by this codec is marked by {@link #TYPE_URL} in {@code Any.typeUrl}. Only the exact
+ * types registered in this codec are supported, sub classes and other types still use json. Headers of request are
+ * not part of the body, they are carried by {@code Metadata} like json payload.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodec {
+    
+    /**
+     * Type url of the {@code Any} body which is encoded by this codec.
+     */
+    public static final String TYPE_URL = "nacos/binary";
+    
+    private static final Map<Class<?>, MessageCodec<?>> CODECS = new HashMap<>(8);
+    
+    static {
+        CODECS.put(ConfigBatchListenRequest.class, new ConfigBatchListenRequestCodec());
+        CODECS.put(ConfigQueryResponse.class, new ConfigQueryResponseCodec());
+        CODECS.put(NotifySubscriberRequest.class, new NotifySubscriberRequestCodec());
+        CODECS.put(InstanceRequest.class, new InstanceRequestCodec());
+    }
+    
+    /**
+     * Whether the payload can be encoded by binary codec.
+     *
+     * @param payload request or response
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported(Object payload) {
+        return payload != null && CODECS.containsKey(payload.getClass()) && isNestedSupported(payload);
+    }
+    
+    /**
+     * Encode payload into bytes, should check by {@link #isSupported(Object)} before.
+     *
+     * @param payload request or response
+     * @return encoded bytes
+     */
+    @SuppressWarnings("unchecked")
+    public static byte[] encode(Object payload) {
+        MessageCodec<Object> codec = (MessageCodec<Object>) CODECS.get(payload.getClass());
+        byte[] result = new byte[codec.size(payload)];
+        CodedOutputStream output = CodedOutputStream.newInstance(result);
+        try {
+            codec.write(payload, output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Encode binary payload failed, type: " + payload.getClass(), e);
+        }
+        return result;
+    }
+    
+    /**
+     * Encode request into bytes without request id, should check by {@link #isSupported(Object)} before. The request is
+     * not modified, the request id is always the first field of request so that it is skipped from the encoded bytes.
+     *
+     * @param request request
+     * @return encoded bytes without request id
+     */
+    public static ByteString encodeWithoutRequestId(Request request) {
+        byte[] result = encode(request);
+        int offset = stringSize(1, request.getRequestId());
+        return UnsafeByteOperations.unsafeWrap(result, offset, result.length - offset);
+    }
+    
+    /**
+     * Decode bytes into payload of specified type.
+     *
+     * @param type  type of payload
+     * @param bytes encoded bytes
+     * @return decoded request or response
+     * @throws IOException if bytes is malformed or type is not supported
+     */
+    public static Object decode(Class<?> type, ByteString bytes) throws IOException {
+        MessageCodec<?> codec = CODECS.get(type);
+        if (codec == null) {
+            throw new IOException("Unsupported binary payload type: " + type);
+        }
+        return codec.read(bytes.newCodedInput());
+    }
+    
+    /**
+     * Encode request id as the first field of request, which can be concatenated before a body encoded without
+     * request id.
+     *
+     * @param requestId request id
+     * @return encoded bytes
+     */
+    public static byte[] encodeRequestId(String requestId) {
+        byte[] result = new byte[CodedOutputStream.computeStringSize(1, requestId)];
+        CodedOutputStream output = CodedOutputStream.newInstance(result);
+        try {
+            output.writeString(1, requestId);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Encode request id failed", e);
+        }
+        return result;
+    }
+    
+    private static boolean isNestedSupported(Object payload) {
+        if (payload instanceof NotifySubscriberRequest) {
+            NotifySubscriberRequest request = (NotifySubscriberRequest) payload;
+            ServiceInfo serviceInfo = request.getServiceInfo();
+            boolean serviceInfoSupported = serviceInfo == null || (serviceInfo.getClass() == ServiceInfo.class
+                    && isExactInstances(serviceInfo.getHosts()));
+            return serviceInfoSupported && (request.getRemovedInstances() == null || isExactInstances(
+                    request.getRemovedInstances()));
+        }
+        if (payload instanceof ConfigBatchListenRequest) {
+            return ((ConfigBatchListenRequest) payload).getConfigListenContexts() != null;
+        }
+        if (payload instanceof InstanceRequest) {
+            Instance instance = ((InstanceRequest) payload).getInstance();
+            return instance == null || instance.getClass() == Instance.class;
+        }
+        return true;
+    }
+    
+    private static boolean isExactInstances(List<Instance> instances) {
+        if (instances == null) {
+            return false;
+        }
+        for (Instance each : instances) {
+            if (each.getClass() != Instance.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Codec of one message type.
+     *
+     * @param <T> message type
+     */
+    private interface MessageCodec<T> {
+        
+        /**
+         * Compute the encoded size of message.
+         *
+         * @param message message
+         * @return encoded size in bytes
+         */
+        int size(T message);
+        
+        /**
+         * Write the fields of message.
+         *
+         * @param message message
+         * @param output  output stream
+         * @throws IOException if write failed
+         */
+        void write(T message, CodedOutputStream output) throws IOException;
+        
+        /**
+         * Read fields into a new message until end of input or current limit.
+         *
+         * @param input input stream
+         * @return message
+         * @throws IOException if input is malformed
+         */
+        T read(CodedInputStream input) throws IOException;
+    }
+    
+    private static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+    
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+    
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+    
+    private static void writeMessageHeader(CodedOutputStream output, int field, int size) throws IOException {
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+    }
+    
+    private static <T> T readMessage(CodedInputStream input, MessageCodec<T> codec) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        T result = codec.read(input);
+        input.checkLastTagWas(0);
+        input.popLimit(oldLimit);
+        return result;
+    }
+    
+    private static int responseSize(Response response) {
+        return stringSize(1, response.getRequestId()) + CodedOutputStream.computeInt32Size(2,
+                response.getResultCode()) + CodedOutputStream.computeInt32Size(3, response.getErrorCode())
+                + stringSize(4, response.getMessage());
+    }
+    
+    private static void writeResponse(Response response, CodedOutputStream output) throws IOException {
+        writeString(output, 1, response.getRequestId());
+        output.writeInt32(2, response.getResultCode());
+        output.writeInt32(3, response.getErrorCode());
+        writeString(output, 4, response.getMessage());
+    }
+    
+    /**
+     * Read the common fields of response, fields: 1 requestId, 2 resultCode, 3 errorCode, 4 message.
+     *
+     * @return {@code false} if the tag is not a common field of response
+     */
+    private static boolean readResponseField(Response response, CodedInputStream input, int tag) throws IOException {
+        switch (WireFormat.getTagFieldNumber(tag)) {
+            case 1:
+                response.setRequestId(input.readStringRequireUtf8());
+                return true;
+            case 2:
+                response.setResultCode(input.readInt32());
+                return true;
+            case 3:
+                response.setErrorCode(input.readInt32());
+                return true;
+            case 4:
+                response.setMessage(input.readStringRequireUtf8());
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static class ConfigListenContextCodec implements MessageCodec<ConfigBatchListenRequest.ConfigListenContext> {
+        
+        @Override
+        public int size(ConfigBatchListenRequest.ConfigListenContext message) {
+            return stringSize(1, message.getGroup()) + stringSize(2, message.getMd5()) + stringSize(3,
+                    message.getDataId()) + stringSize(4, message.getTenant());
+        }
+        
+        @Override
+        public void write(ConfigBatchListenRequest.ConfigListenContext message, CodedOutputStream output)
+                throws IOException {
+            writeString(output, 1, message.getGroup());
+            writeString(output, 2, message.getMd5());
+            writeString(output, 3, message.getDataId());
+            writeString(output, 4, message.getTenant());
+        }
+        
+        @Override
+        public ConfigBatchListenRequest.ConfigListenContext read(CodedInputStream input) throws IOException {
+            ConfigBatchListenRequest.ConfigListenContext result = new ConfigBatchListenRequest.ConfigListenContext();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setGroup(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setMd5(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setDataId(input.readStringRequireUtf8());
+                        break;
+                    case 4:
+                        result.setTenant(input.readStringRequireUtf8());
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static class ConfigBatchListenRequestCodec implements MessageCodec<ConfigBatchListenRequest> {
+        
+        private final ConfigListenContextCodec contextCodec = new ConfigListenContextCodec();
+        
+        @Override
+        public int size(ConfigBatchListenRequest message) {
+            int size = stringSize(1, message.getRequestId()) + stringSize(2, message.getDataId()) + stringSize(3,
+                    message.getGroup()) + stringSize(4, message.getTenant()) + CodedOutputStream.computeBoolSize(5,
+                    message.isListen());
+            for (ConfigBatchListenRequest.ConfigListenContext each : message.getConfigListenContexts()) {
+                size += messageSize(6, contextCodec.size(each));
+            }
+            return size;
+        }
+        
+        @Override
+        public void write(ConfigBatchListenRequest message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getRequestId());
+            writeString(output, 2, message.getDataId());
+            writeString(output, 3, message.getGroup());
+            writeString(output, 4, message.getTenant());
+            output.writeBool(5, message.isListen());
+            for (ConfigBatchListenRequest.ConfigListenContext each : message.getConfigListenContexts()) {
+                writeMessageHeader(output, 6, contextCodec.size(each));
+                contextCodec.write(each, output);
+            }
+        }
+        
+        @Override
+        public ConfigBatchListenRequest read(CodedInputStream input) throws IOException {
+            ConfigBatchListenRequest result = new ConfigBatchListenRequest();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setRequestId(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setDataId(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setGroup(input.readStringRequireUtf8());
+                        break;
+                    case 4:
+                        result.setTenant(input.readStringRequireUtf8());
+                        break;
+                    case 5:
+                        result.setListen(input.readBool());
+                        break;
+                    case 6:
+                        result.getConfigListenContexts().add(readMessage(input, contextCodec));
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static class ConfigQueryResponseCodec implements MessageCodec<ConfigQueryResponse> {
+        
+        @Override
+        public int size(ConfigQueryResponse message) {
+            return responseSize(message) + stringSize(5, message.getContent()) + stringSize(6,
+                    message.getEncryptedDataKey()) + stringSize(7, message.getContentType()) + stringSize(8,
+                    message.getMd5()) + CodedOutputStream.computeInt64Size(9, message.getLastModified())
+                    + CodedOutputStream.computeBoolSize(10, message.isBeta()) + stringSize(11, message.getTag());
+        }
+        
+        @Override
+        public void write(ConfigQueryResponse message, CodedOutputStream output) throws IOException {
+            writeResponse(message, output);
+            writeString(output, 5, message.getContent());
+            writeString(output, 6, message.getEncryptedDataKey());
+            writeString(output, 7, message.getContentType());
+            writeString(output, 8, message.getMd5());
+            output.writeInt64(9, message.getLastModified());
+            output.writeBool(10, message.isBeta());
+            writeString(output, 11, message.getTag());
+        }
+        
+        @Override
+        public ConfigQueryResponse read(CodedInputStream input) throws IOException {
+            ConfigQueryResponse result = new ConfigQueryResponse();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (readResponseField(result, input, tag)) {
+                    continue;
+                }
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 5:
+                        result.setContent(input.readStringRequireUtf8());
+                        break;
+                    case 6:
+                        result.setEncryptedDataKey(input.readStringRequireUtf8());
+                        break;
+                    case 7:
+                        result.setContentType(input.readStringRequireUtf8());
+                        break;
+                    case 8:
+                        result.setMd5(input.readStringRequireUtf8());
+                        break;
+                    case 9:
+                        result.setLastModified(input.readInt64());
+                        break;
+                    case 10:
+                        result.setBeta(input.readBool());
+                        break;
+                    case 11:
+                        result.setTag(input.readStringRequireUtf8());
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static class MetadataEntryCodec implements MessageCodec<Map.Entry<String, String>> {
+        
+        @Override
+        public int size(Map.Entry<String, String> message) {
+            return stringSize(1, message.getKey()) + stringSize(2, message.getValue());
+        }
+        
+        @Override
+        public void write(Map.Entry<String, String> message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getKey());
+            writeString(output, 2, message.getValue());
+        }
+        
+        @Override
+        public Map.Entry<String, String> read(CodedInputStream input) throws IOException {
+            String key = null;
+            String value = null;
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        key = input.readStringRequireUtf8();
+                        break;
+                    case 2:
+                        value = input.readStringRequireUtf8();
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return new HashMap.SimpleImmutableEntry<>(key, value);
+        }
+    }
+    
+    private static class InstanceCodec implements MessageCodec<Instance> {
+        
+        private final MetadataEntryCodec entryCodec = new MetadataEntryCodec();
+        
+        @Override
+        public int size(Instance message) {
+            int size = stringSize(1, message.getInstanceId()) + stringSize(2, message.getIp())
+                    + CodedOutputStream.computeInt32Size(3, message.getPort()) + CodedOutputStream.computeDoubleSize(4,
+                    message.getWeight()) + CodedOutputStream.computeBoolSize(5, message.isHealthy())
+                    + CodedOutputStream.computeBoolSize(6, message.isEnabled()) + CodedOutputStream.computeBoolSize(7,
+                    message.isEphemeral()) + stringSize(8, message.getClusterName()) + stringSize(9,
+                    message.getServiceName());
+            if (message.getMetadata() != null) {
+                for (Map.Entry<String, String> each : message.getMetadata().entrySet()) {
+                    size += messageSize(10, entryCodec.size(each));
+                }
+            }
+            return size;
+        }
+        
+        @Override
+        public void write(Instance message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getInstanceId());
+            writeString(output, 2, message.getIp());
+            output.writeInt32(3, message.getPort());
+            output.writeDouble(4, message.getWeight());
+            output.writeBool(5, message.isHealthy());
+            output.writeBool(6, message.isEnabled());
+            output.writeBool(7, message.isEphemeral());
+            writeString(output, 8, message.getClusterName());
+            writeString(output, 9, message.getServiceName());
+            if (message.getMetadata() != null) {
+                for (Map.Entry<String, String> each : message.getMetadata().entrySet()) {
+                    writeMessageHeader(output, 10, entryCodec.size(each));
+                    entryCodec.write(each, output);
+                }
+            }
+        }
+        
+        @Override
+        public Instance read(CodedInputStream input) throws IOException {
+            Instance result = new Instance();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setInstanceId(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setIp(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setPort(input.readInt32());
+                        break;
+                    case 4:
+                        result.setWeight(input.readDouble());
+                        break;
+                    case 5:
+                        result.setHealthy(input.readBool());
+                        break;
+                    case 6:
+                        result.setEnabled(input.readBool());
+                        break;
+                    case 7:
+                        result.setEphemeral(input.readBool());
+                        break;
+                    case 8:
+                        result.setClusterName(input.readStringRequireUtf8());
+                        break;
+                    case 9:
+                        result.setServiceName(input.readStringRequireUtf8());
+                        break;
+                    case 10:
+                        Map.Entry<String, String> entry = readMessage(input, entryCodec);
+                        result.getMetadata().put(entry.getKey(), entry.getValue());
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static class ServiceInfoCodec implements MessageCodec<ServiceInfo> {
+        
+        private final InstanceCodec instanceCodec = new InstanceCodec();
+        
+        @Override
+        public int size(ServiceInfo message) {
+            int size = stringSize(1, message.getName()) + stringSize(2, message.getGroupName()) + stringSize(3,
+                    message.getClusters()) + CodedOutputStream.computeInt64Size(4, message.getCacheMillis())
+                    + CodedOutputStream.computeInt64Size(6, message.getLastRefTime()) + stringSize(7,
+                    message.getChecksum()) + CodedOutputStream.computeBoolSize(8, message.isAllIPs())
+                    + CodedOutputStream.computeBoolSize(9, message.isReachProtectionThreshold());
+            for (Instance each : message.getHosts()) {
+                size += messageSize(5, instanceCodec.size(each));
+            }
+            return size;
+        }
+        
+        @Override
+        public void write(ServiceInfo message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getName());
+            writeString(output, 2, message.getGroupName());
+            writeString(output, 3, message.getClusters());
+            output.writeInt64(4, message.getCacheMillis());
+            for (Instance each : message.getHosts()) {
+                writeMessageHeader(output, 5, instanceCodec.size(each));
+                instanceCodec.write(each, output);
+            }
+            output.writeInt64(6, message.getLastRefTime());
+            writeString(output, 7, message.getChecksum());
+            output.writeBool(8, message.isAllIPs());
+            output.writeBool(9, message.isReachProtectionThreshold());
+        }
+        
+        @Override
+        public ServiceInfo read(CodedInputStream input) throws IOException {
+            ServiceInfo result = new ServiceInfo();
+            List<Instance> hosts = new ArrayList<>();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setName(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setGroupName(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setClusters(input.readStringRequireUtf8());
+                        break;
+                    case 4:
+                        result.setCacheMillis(input.readInt64());
+                        break;
+                    case 5:
+                        hosts.add(readMessage(input, instanceCodec));
+                        break;
+                    case 6:
+                        result.setLastRefTime(input.readInt64());
+                        break;
+                    case 7:
+                        result.setChecksum(input.readStringRequireUtf8());
+                        break;
+                    case 8:
+                        result.setAllIPs(input.readBool());
+                        break;
+                    case 9:
+                        result.setReachProtectionThreshold(input.readBool());
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            result.setHosts(hosts);
+            return result;
+        }
+    }
+    
+    private static class NotifySubscriberRequestCodec implements MessageCodec<NotifySubscriberRequest> {
+        
+        private final ServiceInfoCodec serviceInfoCodec = new ServiceInfoCodec();
+        
+        private final InstanceCodec instanceCodec = new InstanceCodec();
+        
+        @Override
+        public int size(NotifySubscriberRequest message) {
+            int size = stringSize(1, message.getRequestId()) + stringSize(2, message.getNamespace()) + stringSize(3,
+                    message.getServiceName()) + stringSize(4, message.getGroupName());
+            if (message.getServiceInfo() != null) {
+                size += messageSize(5, serviceInfoCodec.size(message.getServiceInfo()));
+            }
+            size += CodedOutputStream.computeInt64Size(6, message.getRevision()) + CodedOutputStream.computeInt64Size(
+                    7, message.getBaseRevision());
+            if (message.getRemovedInstances() != null) {
+                for (Instance each : message.getRemovedInstances()) {
+                    size += messageSize(8, instanceCodec.size(each));
+                }
+            }
+            return size;
+        }
+        
+        @Override
+        public void write(NotifySubscriberRequest message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getRequestId());
+            writeString(output, 2, message.getNamespace());
+            writeString(output, 3, message.getServiceName());
+            writeString(output, 4, message.getGroupName());
+            if (message.getServiceInfo() != null) {
+                writeMessageHeader(output, 5, serviceInfoCodec.size(message.getServiceInfo()));
+                serviceInfoCodec.write(message.getServiceInfo(), output);
+            }
+            output.writeInt64(6, message.getRevision());
+            output.writeInt64(7, message.getBaseRevision());
+            if (message.getRemovedInstances() != null) {
+                for (Instance each : message.getRemovedInstances()) {
+                    writeMessageHeader(output, 8, instanceCodec.size(each));
+                    instanceCodec.write(each, output);
+                }
+            }
+        }
+        
+        @Override
+        public NotifySubscriberRequest read(CodedInputStream input) throws IOException {
+            NotifySubscriberRequest result = new NotifySubscriberRequest();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setRequestId(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setNamespace(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setServiceName(input.readStringRequireUtf8());
+                        break;
+                    case 4:
+                        result.setGroupName(input.readStringRequireUtf8());
+                        break;
+                    case 5:
+                        result.setServiceInfo(readMessage(input, serviceInfoCodec));
+                        break;
+                    case 6:
+                        result.setRevision(input.readInt64());
+                        break;
+                    case 7:
+                        result.setBaseRevision(input.readInt64());
+                        break;
+                    case 8:
+                        if (result.getRemovedInstances() == null) {
+                            result.setRemovedInstances(new ArrayList<>());
+                        }
+                        result.getRemovedInstances().add(readMessage(input, instanceCodec));
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+    
+    private static class InstanceRequestCodec implements MessageCodec<InstanceRequest> {
+        
+        private final InstanceCodec instanceCodec = new InstanceCodec();
+        
+        @Override
+        public int size(InstanceRequest message) {
+            int size = stringSize(1, message.getRequestId()) + stringSize(2, message.getNamespace()) + stringSize(3,
+                    message.getServiceName()) + stringSize(4, message.getGroupName()) + stringSize(5,
+                    message.getType());
+            if (message.getInstance() != null) {
+                size += messageSize(6, instanceCodec.size(message.getInstance()));
+            }
+            return size;
+        }
+        
+        @Override
+        public void write(InstanceRequest message, CodedOutputStream output) throws IOException {
+            writeString(output, 1, message.getRequestId());
+            writeString(output, 2, message.getNamespace());
+            writeString(output, 3, message.getServiceName());
+            writeString(output, 4, message.getGroupName());
+            writeString(output, 5, message.getType());
+            if (message.getInstance() != null) {
+                writeMessageHeader(output, 6, instanceCodec.size(message.getInstance()));
+                instanceCodec.write(message.getInstance(), output);
+            }
+        }
+        
+        @Override
+        public InstanceRequest read(CodedInputStream input) throws IOException {
+            InstanceRequest result = new InstanceRequest();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1:
+                        result.setRequestId(input.readStringRequireUtf8());
+                        break;
+                    case 2:
+                        result.setNamespace(input.readStringRequireUtf8());
+                        break;
+                    case 3:
+                        result.setServiceName(input.readStringRequireUtf8());
+                        break;
+                    case 4:
+                        result.setGroupName(input.readStringRequireUtf8());
+                        break;
+                    case 5:
+                        result.setType(input.readStringRequireUtf8());
+                        break;
+                    case 6:
+                        result.setInstance(readMessage(input, instanceCodec));
+                        break;
+                    default:
+                        input.skipField(tag);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -26,11 +26,14 @@ import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +46,12 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    private static final int JSON_EMPTY_OBJECT_SIZE = 2;
+    
+    private static final String REQUEST_ID_FIELD = "requestId";
+    
+    private static final String HEADERS_FIELD = "headers";
+    
     /**
      * convert request to payload.
      *
@@ -73,19 +82,60 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, encode body by {@link BinaryPayloadCodec} if peer supported and type supported.
+     *
+     * @param request       request.
+     * @param binaryPayload whether peer supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binaryPayload) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
-        
         Payload.Builder builder = Payload.newBuilder();
+        if (binaryPayload && BinaryPayloadCodec.isSupported(request)) {
+            return builder.setBody(buildBinaryBody(request)).setMetadata(newMeta).build();
+        }
+        
+        byte[] jsonBytes = convertRequestToByte(request);
         
         return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
                 .setMetadata(newMeta).build();
         
     }
     
+    /**
+     * convert request to payload with a shared body built by {@link #encodeSharedBody(Request, boolean)}, only the
+     * request id is spliced into body, the other content of body is not copied.
+     *
+     * @param request    request as template, which provides type and headers, will not be modified.
+     * @param sharedBody shared body.
+     * @param requestId  request id of this payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, Any sharedBody, String requestId) {
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        if (null == requestId) {
+            return Payload.newBuilder().setBody(sharedBody).setMetadata(newMeta).build();
+        }
+        ByteString body = sharedBody.getValue();
+        if (BinaryPayloadCodec.TYPE_URL.equals(sharedBody.getTypeUrl())) {
+            // protobuf merges concatenated messages, so request id field can be simply put before shared body.
+            body = UnsafeByteOperations.unsafeWrap(BinaryPayloadCodec.encodeRequestId(requestId)).concat(body);
+        } else {
+            boolean emptyObject = body.size() <= JSON_EMPTY_OBJECT_SIZE;
+            String prefix = "{\"requestId\":" + JacksonUtils.toJson(requestId) + (emptyObject ? "" : ",");
+            body = ByteString.copyFromUtf8(prefix).concat(body.substring(1));
+        }
+        return Payload.newBuilder().setBody(sharedBody.toBuilder().setValue(body)).setMetadata(newMeta).build();
+    }
+    
     /**
      * convert response to payload.
      *
@@ -93,13 +143,54 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
+        return convert(response, false);
+    }
+    
+    /**
+     * convert response to payload, encode body by {@link BinaryPayloadCodec} if peer supported and type supported.
+     *
+     * @param response      response.
+     * @param binaryPayload whether peer supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Response response, boolean binaryPayload) {
+        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
+        if (binaryPayload && BinaryPayloadCodec.isSupported(response)) {
+            return Payload.newBuilder().setBody(buildBinaryBody(response)).setMetadata(metaBuilder.build()).build();
+        }
         byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
         
-        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
         return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    private static Any buildBinaryBody(Object payload) {
+        return Any.newBuilder().setTypeUrl(BinaryPayloadCodec.TYPE_URL)
+                .setValue(UnsafeByteOperations.unsafeWrap(BinaryPayloadCodec.encode(payload))).build();
+    }
+    
+    /**
+     * encode request body without request id, the encoded body can be shared by requests with same content but
+     * different request id, see {@link #convert(Request, Any, String)}.
+     *
+     * @param request       request as template, request id and headers of it will not be encoded.
+     * @param binaryPayload whether peer supports binary payload.
+     * @return shared body.
+     */
+    public static Any encodeSharedBody(Request request, boolean binaryPayload) {
+        // the template is shared by all subscribers and read concurrently, so it must not be modified.
+        if (binaryPayload && BinaryPayloadCodec.isSupported(request)) {
+            return Any.newBuilder().setTypeUrl(BinaryPayloadCodec.TYPE_URL)
+                    .setValue(BinaryPayloadCodec.encodeWithoutRequestId(request)).build();
+        }
+        JsonNode body = JacksonUtils.transferToJsonNode(request);
+        if (body instanceof ObjectNode) {
+            ((ObjectNode) body).remove(REQUEST_ID_FIELD);
+            ((ObjectNode) body).remove(HEADERS_FIELD);
+        }
+        return Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(JacksonUtils.toJsonBytes(body))).build();
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
@@ -118,8 +209,13 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj;
+            if (BinaryPayloadCodec.TYPE_URL.equals(payload.getBody().getTypeUrl())) {
+                obj = parseBinary(classType, byteString);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -129,4 +225,12 @@ public class GrpcUtils {
                     "Unknown payload type:" + payload.getMetadata().getType());
         }
     }
+    
+    private static Object parseBinary(Class<?> classType, ByteString byteString) {
+        try {
+            return BinaryPayloadCodec.decode(classType, byteString);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        publisher = new RingBufferPublisher();
+        assertThrows(IllegalStateException.class, () -> publisher.publish(new MockEvent()));
+    }
+    
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    void testPublishInOrder(RingBufferWaitStrategy waitStrategy) throws InterruptedException {
+        publisher = new RingBufferPublisher(waitStrategy);
+        publisher.init(MockEvent.class, 16384);
+        int total = 10000;
+        MockSubscriber subscriber = new MockSubscriber(total);
+        publisher.addSubscriber(subscriber);
+        for (int i = 0; i < total; i++) {
+            publisher.publish(new MockEvent());
+        }
+        assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        for (int i = 1; i < total; i++) {
+            assertTrue(subscriber.received.get(i - 1).sequence() < subscriber.received.get(i).sequence());
+        }
+    }
+    
+    @Test
+    void testPublishConcurrently() throws InterruptedException {
+        publisher = new RingBufferPublisher(RingBufferWaitStrategy.BLOCKING);
+        publisher.init(MockEvent.class, 16);
+        int producers = 4;
+        int eachCount = 1000;
+        MockSubscriber subscriber = new MockSubscriber(producers * eachCount);
+        publisher.addSubscriber(subscriber);
+        for (int i = 0; i < producers; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < eachCount; j++) {
+                    publisher.publish(new MockEvent());
+                }
+            }).start();
+        }
+        assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        assertEquals(producers * eachCount, subscriber.received.size());
+    }
+    
+    @Test
+    void testRemoveSubscriber() throws InterruptedException {
+        publisher = new RingBufferPublisher(RingBufferWaitStrategy.BLOCKING);
+        publisher.init(MockEvent.class, 8);
+        MockSubscriber removed = new MockSubscriber(1);
+        MockSubscriber subscriber = new MockSubscriber(1);
+        publisher.addSubscriber(removed);
+        publisher.addSubscriber(subscriber);
+        publisher.removeSubscriber(removed);
+        publisher.publish(new MockEvent());
+        assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        assertEquals(0, removed.received.size());
+    }
+    
+    @Test
+    void testIgnoreExpireEvent() throws InterruptedException {
+        publisher = new RingBufferPublisher(RingBufferWaitStrategy.BLOCKING);
+        publisher.init(MockEvent.class, 8);
+        MockSubscriber subscriber = new MockSubscriber(3);
+        MockSubscriber ignoreExpireSubscriber = new MockSubscriber(2, true);
+        publisher.addSubscriber(subscriber);
+        publisher.addSubscriber(ignoreExpireSubscriber);
+        MockEvent expired = new MockEvent();
+        MockEvent latest = new MockEvent();
+        MockEvent last = new MockEvent();
+        publisher.publish(latest);
+        publisher.publish(expired);
+        publisher.publish(last);
+        assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        assertTrue(ignoreExpireSubscriber.latch.await(10L, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(latest, expired, last), subscriber.received);
+        assertEquals(Arrays.asList(latest, last), ignoreExpireSubscriber.received);
+    }
+    
+    @Test
+    void testGetStatus() {
+        publisher = new RingBufferPublisher(RingBufferWaitStrategy.BLOCKING);
+        publisher.init(MockEvent.class, 6);
+        assertEquals("Publisher MockEvent                     : shutdown=false, queue=      0/8      ",
+                publisher.getStatus());
+    }
+    
+    @Test
+    void testWaitStrategyOf() {
+        assertEquals(RingBufferWaitStrategy.YIELDING, RingBufferWaitStrategy.of("yielding"));
+        assertEquals(RingBufferWaitStrategy.SLEEPING, RingBufferWaitStrategy.of("SLEEPING"));
+        assertEquals(RingBufferWaitStrategy.BLOCKING, RingBufferWaitStrategy.of(null));
+        assertEquals(RingBufferWaitStrategy.BLOCKING, RingBufferWaitStrategy.of("unknown"));
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = -4081244883427311461L;
+    }
+    
+    private static class MockSubscriber extends Subscriber<MockEvent> {
+        
+        private final List<MockEvent> received = new CopyOnWriteArrayList<>();
+        
+        private final CountDownLatch latch;
+        
+        private final boolean ignoreExpireEvent;
+        
+        private MockSubscriber(int expectedCount) {
+            this(expectedCount, false);
+        }
+        
+        private MockSubscriber(int expectedCount, boolean ignoreExpireEvent) {
+            this.latch = new CountDownLatch(expectedCount);
+            this.ignoreExpireEvent = ignoreExpireEvent;
+        }
+        
+        @Override
+        public void onEvent(MockEvent event) {
+            received.add(event);
+            latch.countDown();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return MockEvent.class;
+        }
+        
+        @Override
+        public boolean ignoreExpireEvent() {
+            return ignoreExpireEvent;
+        }
+    }
+}
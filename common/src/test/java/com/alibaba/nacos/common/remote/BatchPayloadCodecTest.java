@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchPayloadCodecTest {
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testEncodeRequestKeepHeaders() {
+        HealthCheckRequest request = new HealthCheckRequest();
+        request.putHeader("key", "value");
+        request.setRequestId("1");
+        BatchRequest.Item item = BatchPayloadCodec.encode(request);
+        assertEquals("value", request.getHeader("key"));
+        assertEquals("value", item.getHeaders().get("key"));
+        assertFalse(item.getBody().contains("headers"));
+        Request actual = BatchPayloadCodec.decode(item);
+        assertTrue(actual instanceof HealthCheckRequest);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("value", actual.getHeader("key"));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.response.BatchResponse;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.BatchPayloadCodec;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RequestBatcherTest {
+    
+    @Mock
+    private RpcClient rpcClient;
+    
+    private RequestBatcher batcher;
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        PayloadRegistry.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+    
+    @Test
+    void testSendSameTypeInBatch() throws Exception {
+        batcher = new RequestBatcher(rpcClient, 60000L, 2);
+        BatchResponse batchResponse = new BatchResponse();
+        batchResponse.addItem(BatchPayloadCodec.encode(new HealthCheckResponse()));
+        batchResponse.addItem(BatchPayloadCodec.encode(ErrorResponse.build(NacosException.NO_RIGHT, "no right")));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RequestCallBack.class).onResponse(batchResponse);
+            return null;
+        }).when(rpcClient).asyncRequest(any(BatchRequest.class), any(RequestCallBack.class));
+        
+        CompletableFuture<Response> first = CompletableFuture.supplyAsync(() -> request(new HealthCheckRequest()));
+        while (!isPending()) {
+            Thread.sleep(1L);
+        }
+        CompletableFuture<Response> second = CompletableFuture.supplyAsync(() -> request(new HealthCheckRequest()));
+        
+        assertTrue(first.get() instanceof HealthCheckResponse);
+        ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+        assertEquals(NacosException.NO_RIGHT, ((NacosException) exception.getCause().getCause()).getErrCode());
+    }
+    
+    @Test
+    void testSendSingleRequestAlone() throws NacosException {
+        batcher = new RequestBatcher(rpcClient, 1L, 2);
+        HealthCheckRequest request = new HealthCheckRequest();
+        HealthCheckResponse response = new HealthCheckResponse();
+        doAnswer(invocation -> {
+            RequestCallBack callBack = invocation.getArgument(1, RequestCallBack.class);
+            assertEquals(3000L, callBack.getTimeout());
+            callBack.onResponse(response);
+            return null;
+        }).when(rpcClient).asyncRequest(eq(request), any(RequestCallBack.class));
+        assertSame(response, batcher.request(request, 3000L));
+        verify(rpcClient, never()).asyncRequest(any(BatchRequest.class), any(RequestCallBack.class));
+    }
+    
+    @Test
+    void testSendAloneFailed() throws NacosException {
+        batcher = new RequestBatcher(rpcClient, 1L, 1);
+        HealthCheckRequest request = new HealthCheckRequest();
+        doThrow(new NacosException(NacosException.SERVER_ERROR, "x")).when(rpcClient)
+                .asyncRequest(eq(request), any(RequestCallBack.class));
+        NacosException exception = assertThrows(NacosException.class, () -> batcher.request(request, 3000L));
+        assertEquals(NacosException.SERVER_ERROR, exception.getErrCode());
+    }
+    
+    @Test
+    void testDropRequestGivenUp() throws Exception {
+        batcher = new RequestBatcher(rpcClient, 60000L, 2);
+        HealthCheckRequest givenUp = new HealthCheckRequest();
+        Thread caller = new Thread(() -> assertThrows(NacosException.class, () -> batcher.request(givenUp, 3000L)));
+        caller.start();
+        while (!isPending()) {
+            Thread.sleep(1L);
+        }
+        caller.interrupt();
+        caller.join();
+        HealthCheckRequest request = new HealthCheckRequest();
+        HealthCheckResponse response = new HealthCheckResponse();
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RequestCallBack.class).onResponse(response);
+            return null;
+        }).when(rpcClient).asyncRequest(eq(request), any(RequestCallBack.class));
+        assertSame(response, batcher.request(request, 3000L));
+        verify(rpcClient, never()).asyncRequest(eq(givenUp), any(RequestCallBack.class));
+        verify(rpcClient, never()).asyncRequest(any(BatchRequest.class), any(RequestCallBack.class));
+    }
+    
+    private boolean isPending() throws NoSuchFieldException, IllegalAccessException {
+        Field field = RequestBatcher.class.getDeclaredField("pendingRequests");
+        field.setAccessible(true);
+        Map<?, ?> pending = (Map<?, ?>) field.get(batcher);
+        synchronized (pending) {
+            return !pending.isEmpty();
+        }
+    }
+    
+    private Response request(HealthCheckRequest request) {
+        try {
+            return batcher.request(request, 3000L);
+        } catch (NacosException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
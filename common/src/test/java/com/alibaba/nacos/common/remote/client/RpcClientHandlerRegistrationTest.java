@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client;
+
+import com.alibaba.nacos.api.remote.request.ConnectResetRequest;
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.response.ConnectResetResponse;
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.common.remote.ConnectionType;
+import com.alibaba.nacos.common.remote.client.grpc.DefaultGrpcClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Registration of listeners and handlers for {@link RpcClient} which is not started, no reflection on final fields is
+ * needed so it runs on all supported JDKs.
+ */
+class RpcClientHandlerRegistrationTest {
+    
+    private RpcClient rpcClient;
+    
+    @BeforeEach
+    void setUp() {
+        rpcClient = new RpcClient(DefaultGrpcClientConfig.newBuilder().setName("test").build()) {
+            @Override
+            public ConnectionType getConnectionType() {
+                return ConnectionType.GRPC;
+            }
+            
+            @Override
+            public int rpcPortOffset() {
+                return 0;
+            }
+            
+            @Override
+            public Connection connectToServer(ServerInfo serverInfo) {
+                return null;
+            }
+        };
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        rpcClient.shutdown();
+    }
+    
+    @Test
+    void testUnregisterConnectionListener() {
+        ConnectionEventListener removed = mock(ConnectionEventListener.class);
+        ConnectionEventListener retained = mock(ConnectionEventListener.class);
+        rpcClient.registerConnectionListener(removed);
+        rpcClient.registerConnectionListener(retained);
+        rpcClient.unregisterConnectionListener(removed);
+        rpcClient.notifyDisConnected(null);
+        verify(removed, never()).onDisConnect(null);
+        verify(retained).onDisConnect(null);
+    }
+    
+    @Test
+    void testUnregisterServerRequestHandler() {
+        ServerRequestHandler removed = (request, connection) -> new ConnectResetResponse();
+        ServerRequestHandler retained = (request, connection) -> new HealthCheckResponse();
+        rpcClient.registerServerRequestHandler(removed);
+        rpcClient.registerServerRequestHandler(retained);
+        rpcClient.unregisterServerRequestHandler(removed);
+        assertTrue(rpcClient.handleServerRequest(new ConnectResetRequest()) instanceof HealthCheckResponse);
+        rpcClient.unregisterServerRequestHandler(retained);
+        assertNull(rpcClient.handleServerRequest(new HealthCheckRequest()));
+    }
+}
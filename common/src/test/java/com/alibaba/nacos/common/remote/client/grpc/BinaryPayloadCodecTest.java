@@ -0,0 +1,215 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecTest {
+    
+    @BeforeEach
+    void setUp() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testConfigBatchListenRequest() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setRequestId("1");
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", "tenant", "md5");
+        request.addConfigListenContext("group", "dataId2", "", "md5");
+        request.putHeader("h1", "v1");
+        Payload payload = GrpcUtils.convert(request, true);
+        assertEquals(BinaryPayloadCodec.TYPE_URL, payload.getBody().getTypeUrl());
+        assertEquals("v1", request.getHeader("h1"));
+        
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) GrpcUtils.parse(payload);
+        assertEquals("1", actual.getRequestId());
+        assertFalse(actual.isListen());
+        assertEquals("v1", actual.getHeader("h1"));
+        assertEquals(2, actual.getConfigListenContexts().size());
+        ConfigBatchListenRequest.ConfigListenContext context = actual.getConfigListenContexts().get(0);
+        assertEquals("group", context.getGroup());
+        assertEquals("dataId", context.getDataId());
+        assertEquals("tenant", context.getTenant());
+        assertEquals("md5", context.getMd5());
+        assertEquals("", actual.getConfigListenContexts().get(1).getTenant());
+    }
+    
+    @Test
+    void testConfigQueryResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content");
+        response.setRequestId("2");
+        response.setMd5("md5");
+        response.setContentType("text");
+        response.setLastModified(1000L);
+        response.setBeta(true);
+        Payload payload = GrpcUtils.convert(response, true);
+        assertEquals(BinaryPayloadCodec.TYPE_URL, payload.getBody().getTypeUrl());
+        
+        ConfigQueryResponse actual = (ConfigQueryResponse) GrpcUtils.parse(payload);
+        assertEquals("2", actual.getRequestId());
+        assertEquals(response.getResultCode(), actual.getResultCode());
+        assertEquals("content", actual.getContent());
+        assertEquals("md5", actual.getMd5());
+        assertEquals("text", actual.getContentType());
+        assertEquals(1000L, actual.getLastModified());
+        assertTrue(actual.isBeta());
+        assertNull(actual.getTag());
+        assertNull(actual.getEncryptedDataKey());
+    }
+    
+    @Test
+    void testConfigQueryErrorResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND,
+                "not found");
+        ConfigQueryResponse actual = (ConfigQueryResponse) GrpcUtils.parse(GrpcUtils.convert(response, true));
+        assertFalse(actual.isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, actual.getErrorCode());
+        assertEquals("not found", actual.getMessage());
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("service");
+        serviceInfo.setGroupName("group");
+        serviceInfo.setClusters("cluster");
+        serviceInfo.setCacheMillis(3000L);
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setReachProtectionThreshold(true);
+        serviceInfo.setHosts(Collections.singletonList(createInstance()));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setNamespace("namespace");
+        request.setServiceName("service");
+        request.setGroupName("group");
+        
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(GrpcUtils.convert(request, true));
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        ServiceInfo actualInfo = actual.getServiceInfo();
+        assertEquals("service", actualInfo.getName());
+        assertEquals("group", actualInfo.getGroupName());
+        assertEquals("cluster", actualInfo.getClusters());
+        assertEquals(3000L, actualInfo.getCacheMillis());
+        assertEquals(100L, actualInfo.getLastRefTime());
+        assertEquals("checksum", actualInfo.getChecksum());
+        assertTrue(actualInfo.isReachProtectionThreshold());
+        assertEquals(serviceInfo.getHosts(), actualInfo.getHosts());
+        assertEquals("v", actualInfo.getHosts().get(0).getMetadata().get("k"));
+    }
+    
+    @Test
+    void testDeltaNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("service");
+        serviceInfo.setGroupName("group");
+        serviceInfo.setHosts(Collections.singletonList(createInstance()));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRevision(3L);
+        request.setBaseRevision(2L);
+        request.setRemovedInstances(Collections.singletonList(createInstance()));
+        
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(GrpcUtils.convert(request, true));
+        assertTrue(actual.isDelta());
+        assertEquals(3L, actual.getRevision());
+        assertEquals(2L, actual.getBaseRevision());
+        assertEquals(request.getRemovedInstances(), actual.getRemovedInstances());
+        assertEquals(serviceInfo.getHosts(), actual.getServiceInfo().getHosts());
+    }
+    
+    @Test
+    void testInstanceRequest() {
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group",
+                NamingRemoteConstants.REGISTER_INSTANCE, createInstance());
+        InstanceRequest actual = (InstanceRequest) GrpcUtils.parse(GrpcUtils.convert(request, true));
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals(NamingRemoteConstants.REGISTER_INSTANCE, actual.getType());
+        assertEquals(request.getInstance(), actual.getInstance());
+        assertFalse(actual.getInstance().isEphemeral());
+        assertEquals(2.5D, actual.getInstance().getWeight());
+    }
+    
+    @Test
+    void testUnsupportedTypeFallbackToJson() {
+        ServiceQueryRequest request = new ServiceQueryRequest("namespace", "service", "group");
+        Payload payload = GrpcUtils.convert(request, true);
+        assertEquals("", payload.getBody().getTypeUrl());
+        assertEquals("service", ((ServiceQueryRequest) GrpcUtils.parse(payload)).getServiceName());
+    }
+    
+    @Test
+    void testNotNegotiatedUseJson() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content");
+        Payload payload = GrpcUtils.convert(response, false);
+        assertEquals("", payload.getBody().getTypeUrl());
+        assertEquals("content", ((ConfigQueryResponse) GrpcUtils.parse(payload)).getContent());
+    }
+    
+    @Test
+    void testSubClassNotSupported() {
+        assertFalse(BinaryPayloadCodec.isSupported(new ConfigQueryResponse() {
+        }));
+        assertFalse(BinaryPayloadCodec.isSupported(null));
+    }
+    
+    @Test
+    void testParseMalformedBinary() {
+        Payload payload = GrpcUtils.convert(ConfigQueryResponse.buildSuccessResponse("content"), true);
+        Payload malformed = payload.toBuilder().setBody(Any.newBuilder().setTypeUrl(BinaryPayloadCodec.TYPE_URL)
+                .setValue(ByteString.copyFrom(new byte[] {(byte) 0x2a, (byte) 0xff}))).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(malformed));
+    }
+    
+    private Instance createInstance() {
+        Instance instance = new Instance();
+        instance.setInstanceId("id");
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(2.5D);
+        instance.setHealthy(false);
+        instance.setEphemeral(false);
+        instance.setClusterName("cluster");
+        instance.setServiceName("group@@service");
+        instance.addMetadata("k", "v");
+        return instance;
+    }
+}
@@ -18,6 +18,7 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -25,12 +26,17 @@ import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.Any;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -114,6 +120,58 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testConvertWithSharedJsonBody() {
+        Any sharedBody = GrpcUtils.encodeSharedBody(request, false);
+        ServiceQueryRequest first = (ServiceQueryRequest) GrpcUtils.parse(GrpcUtils.convert(request, sharedBody, "1"));
+        ServiceQueryRequest second = (ServiceQueryRequest) GrpcUtils.parse(GrpcUtils.convert(request, sharedBody, "2"));
+        assertEquals("1", first.getRequestId());
+        assertEquals("2", second.getRequestId());
+        assertEquals(request.getCluster(), second.getCluster());
+        assertEquals(request.getNamespace(), second.getNamespace());
+        assertEquals(request.getHeaders(), second.getHeaders());
+        Payload noRequestId = GrpcUtils.convert(request, sharedBody, null);
+        assertNull(((ServiceQueryRequest) GrpcUtils.parse(noRequestId)).getRequestId());
+    }
+    
+    @Test
+    void testConvertWithSharedBinaryBody() {
+        ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setRequestId("0");
+        listenRequest.addConfigListenContext("group", "dataId", "tenant", "md5");
+        Any sharedBody = GrpcUtils.encodeSharedBody(listenRequest, true);
+        assertEquals("0", listenRequest.getRequestId());
+        Payload payload = GrpcUtils.convert(listenRequest, sharedBody, "1");
+        assertEquals(BinaryPayloadCodec.TYPE_URL, payload.getBody().getTypeUrl());
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) GrpcUtils.parse(payload);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("dataId", actual.getConfigListenContexts().get(0).getDataId());
+    }
+    
+    @Test
+    void testEncodeSharedBodyNotModifyTemplate() {
+        request.setRequestId("0");
+        final Map<String, String> headers = new HashMap<>(request.getHeaders());
+        Any jsonBody = GrpcUtils.encodeSharedBody(request, false);
+        String json = jsonBody.getValue().toStringUtf8();
+        assertFalse(json.contains("requestId"));
+        assertFalse(json.contains("headers"));
+        assertEquals("0", request.getRequestId());
+        assertEquals(headers, request.getHeaders());
+        
+        ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setRequestId("0");
+        listenRequest.putHeader("a", "b");
+        listenRequest.addConfigListenContext("group", "dataId", "tenant", "md5");
+        Any binaryBody = GrpcUtils.encodeSharedBody(listenRequest, true);
+        assertEquals("0", listenRequest.getRequestId());
+        assertEquals(Collections.singletonMap("a", "b"), listenRequest.getHeaders());
+        Payload payload = GrpcUtils.convert(listenRequest, binaryBody, null);
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) GrpcUtils.parse(payload);
+        assertNull(actual.getRequestId());
+        assertEquals("tenant", actual.getConfigListenContexts().get(0).getTenant());
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
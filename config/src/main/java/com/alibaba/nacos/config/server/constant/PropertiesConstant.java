@@ -63,5 +63,9 @@ public class PropertiesConstant {
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
     
+    public static final String COMPACT_CACHE_MD5 = "compactCacheMd5";
+    
+    public static final String DUMP_ALL_DISABLE_WAL = "dumpAllDisableWal";
+    
     
 }
@@ -46,8 +46,12 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +166,7 @@ public class ConfigServletInner {
                         isV2 ? MediaType.APPLICATION_JSON : contentTypeHeader);
                 String pullEvent;
                 String content;
+                FileChannel contentChannel = null;
                 String md5;
                 String encryptedDataKey;
                 if (isBeta) {
@@ -190,7 +195,12 @@ public class ConfigServletInner {
                             md5 = cacheItem.getConfigCache().getMd5(acceptCharset);
                             lastModified = cacheItem.getConfigCache().getLastModifiedTs();
                             encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
-                            content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+                            if (isContentTransferable(response, dataId, isV2)) {
+                                contentChannel = ConfigDiskServiceFactory.getInstance()
+                                        .openContentChannel(dataId, group, tenant);
+                            }
+                            content = null == contentChannel ? ConfigDiskServiceFactory.getInstance()
+                                    .getContent(dataId, group, tenant) : null;
                         }
                     } else {
                         md5 = cacheItem.getTagMd5(tag, acceptCharset);
@@ -202,7 +212,7 @@ public class ConfigServletInner {
                     }
                 }
                 
-                if (content == null) {
+                if (content == null && contentChannel == null) {
                     ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1, pullEvent,
                             ConfigTraceService.PULL_TYPE_NOTFOUND, -1, requestIp, notify, "http");
                     return get404Result(response, isV2);
@@ -218,19 +228,23 @@ public class ConfigServletInner {
                 if (encryptedDataKey != null) {
                     response.setHeader("Encrypted-Data-Key", encryptedDataKey);
                 }
-                PrintWriter out;
-                Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, content);
-                String decryptContent = pair.getSecond();
-                out = response.getWriter();
-                if (isV2) {
-                    out.print(JacksonUtils.toJson(Result.success(decryptContent)));
+                if (contentChannel != null) {
+                    transferContent(contentChannel, response);
                 } else {
-                    out.print(decryptContent);
+                    PrintWriter out;
+                    Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, content);
+                    String decryptContent = pair.getSecond();
+                    out = response.getWriter();
+                    if (isV2) {
+                        out.print(JacksonUtils.toJson(Result.success(decryptContent)));
+                    } else {
+                        out.print(decryptContent);
+                    }
+                    
+                    out.flush();
+                    out.close();
                 }
                 
-                out.flush();
-                out.close();
-                
                 LogUtil.PULL_CHECK_LOG.warn("{}|{}|{}|{}", groupKey, requestIp, md5, TimeUtils.getCurrentTimeStr());
                 
                 final long delayed = notify ? -1 : System.currentTimeMillis() - lastModified;
@@ -254,6 +268,33 @@ public class ConfigServletInner {
         return HttpServletResponse.SC_OK + "";
     }
     
+    /**
+     * The stored utf8 bytes can be written into response directly only if the content is not wrapped by v2 result,
+     * not encrypted and the response is also encoded in utf8.
+     */
+    private static boolean isContentTransferable(HttpServletResponse response, String dataId, boolean isV2) {
+        return !isV2 && !EncryptionHandler.checkCipher(dataId) && ENCODE_UTF8
+                .equalsIgnoreCase(response.getCharacterEncoding());
+    }
+    
+    private static void transferContent(FileChannel contentChannel, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = contentChannel) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            out.flush();
+            out.close();
+        }
+    }
+    
     private String get404Result(HttpServletResponse response, boolean isV2) throws IOException {
         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         PrintWriter writer = response.getWriter();
@@ -16,23 +16,42 @@
 
 package com.alibaba.nacos.config.server.model;
 
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.utils.StringPool;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * config cache .
  *
+ * <p>If {@link PropertyUtil#isCompactCacheMd5()} is enabled, the md5 is kept as 16 bytes binary instead of 32 chars
+ * hex string, which reduces the heap usage of large amount of configs. The md5 which is not lower case hex string is
+ * still kept as string.
+ *
  * @author shiyiyue1102
  */
 public class ConfigCache implements Serializable {
     
-    volatile String md5Gbk = Constants.NULL;
+    private static final int MD5_BYTES = 16;
+    
+    private static final int MD5_HEX_LENGTH = MD5_BYTES * 2;
     
-    volatile String md5Utf8 = Constants.NULL;
+    private static final String HEX_CHARS = "0123456789abcdef";
+    
+    /**
+     * Md5 of gbk content, the value is hex string or 16 bytes binary.
+     */
+    volatile Object md5Gbk = Constants.NULL;
+    
+    /**
+     * Md5 of utf8 content, the value is hex string or 16 bytes binary.
+     */
+    volatile Object md5Utf8 = Constants.NULL;
     
     volatile String encryptedDataKey;
     
@@ -53,12 +72,26 @@ public class ConfigCache implements Serializable {
     
     public String getMd5(String encode) {
         if (UTF_8.name().equalsIgnoreCase(encode)) {
-            return md5Utf8;
+            return getMd5Utf8();
         } else {
-            return md5Gbk;
+            return getMd5Gbk();
         }
     }
     
+    /**
+     * Whether the md5 of utf8 content is equal to the md5, without expanding the binary md5 into string.
+     *
+     * @param md5 md5 to compare
+     * @return {@code true} if equal
+     */
+    public boolean isMd5Utf8Equals(String md5) {
+        Object current = md5Utf8;
+        if (current instanceof byte[]) {
+            return isHexEquals((byte[]) current, md5);
+        }
+        return Objects.equals(current, md5);
+    }
+    
     public String getEncryptedDataKey() {
         return encryptedDataKey;
     }
@@ -68,25 +101,25 @@ public class ConfigCache implements Serializable {
     }
     
     public ConfigCache(String md5Gbk, String md5Utf8, long lastModifiedTs) {
-        this.md5Gbk = StringPool.get(md5Gbk);
-        this.md5Utf8 = StringPool.get(md5Utf8);
+        this.md5Gbk = compact(md5Gbk);
+        this.md5Utf8 = compact(md5Utf8);
         this.lastModifiedTs = lastModifiedTs;
     }
     
     public String getMd5Gbk() {
-        return md5Gbk;
+        return expand(md5Gbk);
     }
     
     public void setMd5Gbk(String md5Gbk) {
-        this.md5Gbk = StringPool.get(md5Gbk);
+        this.md5Gbk = compact(md5Gbk);
     }
     
     public String getMd5Utf8() {
-        return md5Utf8;
+        return expand(md5Utf8);
     }
     
     public void setMd5Utf8(String md5Utf8) {
-        this.md5Utf8 = StringPool.get(md5Utf8);
+        this.md5Utf8 = compact(md5Utf8);
     }
     
     public long getLastModifiedTs() {
@@ -96,4 +129,45 @@ public class ConfigCache implements Serializable {
     public void setLastModifiedTs(long lastModifiedTs) {
         this.lastModifiedTs = lastModifiedTs;
     }
-}
\ No newline at end of file
+    
+    private static Object compact(String md5) {
+        if (!PropertyUtil.isCompactCacheMd5() || null == md5 || md5.length() != MD5_HEX_LENGTH) {
+            return StringPool.get(md5);
+        }
+        byte[] result = new byte[MD5_BYTES];
+        for (int i = 0; i < MD5_BYTES; i++) {
+            int high = hexValue(md5.charAt(i * 2));
+            int low = hexValue(md5.charAt(i * 2 + 1));
+            if (high < 0 || low < 0) {
+                return StringPool.get(md5);
+            }
+            result[i] = (byte) (high << 4 | low);
+        }
+        return result;
+    }
+    
+    private static String expand(Object md5) {
+        return md5 instanceof byte[] ? MD5Utils.encodeHexString((byte[]) md5) : (String) md5;
+    }
+    
+    private static boolean isHexEquals(byte[] md5, String hex) {
+        if (null == hex || hex.length() != MD5_HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MD5_BYTES; i++) {
+            int high = md5[i] >> 4 & 0x0F;
+            int low = md5[i] & 0x0F;
+            if (hexValue(hex.charAt(i * 2)) != high || hexValue(hex.charAt(i * 2 + 1)) != low) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Only lower case hex char is accepted, so that the expanded string is same as the original one.
+     */
+    private static int hexValue(char c) {
+        return HEX_CHARS.indexOf(c);
+    }
+}
@@ -24,6 +24,9 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -32,8 +35,11 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.google.common.collect.Lists;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
@@ -91,61 +97,14 @@ public class ConfigCacheService {
         }
         
         try {
-            
-            //check timestamp
-            boolean lastModifiedOutDated = lastModifiedTs < ConfigCacheService.getLastModifiedTs(groupKey);
-            if (lastModifiedOutDated) {
-                DUMP_LOG.warn("[dump-ignore] timestamp is outdated,groupKey={}", groupKey);
-                return true;
-            }
-            
-            boolean newLastModified = lastModifiedTs > ConfigCacheService.getLastModifiedTs(groupKey);
-            
             if (md5 == null) {
                 md5 = MD5Utils.md5Hex(content, PERSIST_ENCODE);
             }
-            
-            //check md5 & update local disk cache.
-            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-            boolean md5Changed = !md5.equals(localContentMd5);
-            if (md5Changed) {
-                DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
-                        localContentMd5);
-                ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
-            } else {
-                DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
-                        groupKey, md5);
-            }
-            
-            //check  md5 and timestamp & update local jvm cache.
-            if (md5Changed) {
-                DUMP_LOG.info(
-                        "[dump] md5 changed, update md5 and timestamp in jvm cache ,groupKey={}, newMd5={},oldMd5={},lastModifiedTs={}",
-                        groupKey, md5, localContentMd5, lastModifiedTs);
-                updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
-            } else if (newLastModified) {
-                DUMP_LOG.info(
-                        "[dump] md5 consistent ,timestamp changed, update timestamp only in jvm cache ,groupKey={},lastModifiedTs={}",
-                        groupKey, lastModifiedTs);
-                updateTimeStamp(groupKey, lastModifiedTs, encryptedDataKey);
-            } else {
-                DUMP_LOG.warn(
-                        "[dump-ignore] ignore to save to jvm cache. md5 consistent and no new timestamp changed.groupKey={}",
-                        groupKey);
-            }
-            
+            dumpWithMd5Locked(groupKey, dataId, group, tenant, content, md5, lastModifiedTs, encryptedDataKey, true);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
-            if (ioe.getMessage() != null) {
-                String errMsg = ioe.getMessage();
-                if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
-                        || errMsg.contains(DISK_QUOTA_EN)) {
-                    // Protect from disk full.
-                    FATAL_LOG.error("Local Disk Full,Exit", ioe);
-                    EnvUtil.systemExit();
-                }
-            }
+            exitIfDiskFull(ioe);
             return false;
         } finally {
             releaseWriteLock(groupKey);
@@ -153,6 +112,139 @@ public class ConfigCacheService {
         
     }
     
+    /**
+     * Save a batch of config files and update md5 value in cache, used by dump all. The changed contents are saved to
+     * disk by one batch write, the write locks of all configs are held until the cache is updated.
+     *
+     * @param configInfos config infos with content.
+     * @return count of configs dumped successfully.
+     */
+    public static int batchDump(List<ConfigInfoWrapper> configInfos) {
+        List<String> groupKeys = new ArrayList<>(configInfos.size());
+        for (ConfigInfoWrapper each : configInfos) {
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+            makeSure(groupKey, each.getEncryptedDataKey()).setType(each.getType());
+            groupKeys.add(groupKey);
+        }
+        Set<String> lockedGroupKeys = tryWriteLockAll(groupKeys, "[dump-error]");
+        int result = 0;
+        try {
+            List<ConfigInfoWrapper> changed = new ArrayList<>();
+            List<String> md5s = new ArrayList<>(configInfos.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoWrapper each = configInfos.get(i);
+                String md5 = MD5Utils.md5Hex(each.getContent(), ENCODE_UTF8);
+                md5s.add(md5);
+                String groupKey = groupKeys.get(i);
+                boolean notOutdated = each.getLastModified() >= getLastModifiedTs(groupKey);
+                if (lockedGroupKeys.contains(groupKey) && notOutdated && !md5.equals(getContentMd5(groupKey))) {
+                    changed.add(each);
+                }
+            }
+            ConfigDiskServiceFactory.getInstance().batchSaveToDisk(changed);
+            DUMP_LOG.info("[dump] batch save to disk cache, size={}, changed={}", configInfos.size(), changed.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoWrapper each = configInfos.get(i);
+                if (lockedGroupKeys.contains(groupKeys.get(i))) {
+                    dumpWithMd5Locked(groupKeys.get(i), each.getDataId(), each.getGroup(), each.getTenant(),
+                            each.getContent(), md5s.get(i), each.getLastModified(), each.getEncryptedDataKey(), false);
+                    result++;
+                }
+            }
+            return result;
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-exception] batch save disk error. size=" + configInfos.size() + ", " + ioe);
+            exitIfDiskFull(ioe);
+            return 0;
+        } finally {
+            releaseWriteLockAll(lockedGroupKeys);
+        }
+    }
+    
+    /**
+     * Dump config with the write lock held, the content is saved to disk if md5 changed and saveToDisk is true,
+     * otherwise it should have been saved by caller.
+     */
+    private static void dumpWithMd5Locked(String groupKey, String dataId, String group, String tenant,
+            String content, String md5, long lastModifiedTs, String encryptedDataKey, boolean saveToDisk)
+            throws IOException {
+        //check timestamp
+        boolean lastModifiedOutDated = lastModifiedTs < ConfigCacheService.getLastModifiedTs(groupKey);
+        if (lastModifiedOutDated) {
+            DUMP_LOG.warn("[dump-ignore] timestamp is outdated,groupKey={}", groupKey);
+            return;
+        }
+        
+        boolean newLastModified = lastModifiedTs > ConfigCacheService.getLastModifiedTs(groupKey);
+        
+        //check md5 & update local disk cache.
+        String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+        boolean md5Changed = !md5.equals(localContentMd5);
+        if (md5Changed) {
+            DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
+                    localContentMd5);
+            if (saveToDisk) {
+                ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+            }
+        } else {
+            DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}", groupKey,
+                    md5);
+        }
+        
+        //check  md5 and timestamp & update local jvm cache.
+        if (md5Changed) {
+            DUMP_LOG.info(
+                    "[dump] md5 changed, update md5 and timestamp in jvm cache ,groupKey={}, newMd5={},oldMd5={},lastModifiedTs={}",
+                    groupKey, md5, localContentMd5, lastModifiedTs);
+            updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
+        } else if (newLastModified) {
+            DUMP_LOG.info(
+                    "[dump] md5 consistent ,timestamp changed, update timestamp only in jvm cache ,groupKey={},lastModifiedTs={}",
+                    groupKey, lastModifiedTs);
+            updateTimeStamp(groupKey, lastModifiedTs, encryptedDataKey);
+        } else {
+            DUMP_LOG.warn(
+                    "[dump-ignore] ignore to save to jvm cache. md5 consistent and no new timestamp changed.groupKey={}",
+                    groupKey);
+        }
+    }
+    
+    private static void exitIfDiskFull(IOException ioe) {
+        if (ioe.getMessage() != null) {
+            String errMsg = ioe.getMessage();
+            if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
+                    || errMsg.contains(DISK_QUOTA_EN)) {
+                // Protect from disk full.
+                FATAL_LOG.error("Local Disk Full,Exit", ioe);
+                EnvUtil.systemExit();
+            }
+        }
+    }
+    
+    /**
+     * Try to get the write locks of distinct group keys, the group keys failed to lock are logged and skipped.
+     */
+    private static Set<String> tryWriteLockAll(List<String> groupKeys, String logPrefix) {
+        Set<String> result = new HashSet<>(groupKeys.size() * 4 / 3 + 1);
+        for (String each : groupKeys) {
+            if (result.contains(each)) {
+                continue;
+            }
+            if (tryWriteLock(each) < 0) {
+                DUMP_LOG.warn("{} write lock failed. {}", logPrefix, each);
+                continue;
+            }
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private static void releaseWriteLockAll(Set<String> groupKeys) {
+        for (String each : groupKeys) {
+            releaseWriteLock(each);
+        }
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -194,52 +286,9 @@ public class ConfigCacheService {
         }
         
         try {
-            
-            //check timestamp
-            boolean timestampOutDated = lastModifiedTs < ConfigCacheService.getBetaLastModifiedTs(groupKey);
-            if (timestampOutDated) {
-                DUMP_LOG.warn("[dump-beta-ignore] timestamp is outdated,groupKey={}", groupKey);
-                return true;
-            }
-            
-            boolean timestampUpdated = lastModifiedTs > ConfigCacheService.getBetaLastModifiedTs(groupKey);
-            
-            String[] betaIpsArr = betaIps.split(",");
-            List<String> betaIpList = Lists.newArrayList(betaIpsArr);
             String md5 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-            
-            //md5 check & update local disk cache.
-            String localContentBetaMd5 = ConfigCacheService.getContentBetaMd5(groupKey);
-            boolean md5Changed = !md5.equals(localContentBetaMd5);
-            if (md5Changed) {
-                DUMP_LOG.info(
-                        "[dump-beta] md5 changed, update md5 in local disk cache. groupKey={}, newMd5={}, oldMd5={}",
-                        groupKey, md5, localContentBetaMd5);
-                ConfigDiskServiceFactory.getInstance().saveBetaToDisk(dataId, group, tenant, content);
-            }
-            
-            //md5 , ip list  timestamp check  and update local jvm cache.
-            boolean ipListChanged = !betaIpList.equals(ConfigCacheService.getBetaIps(groupKey));
-            if (md5Changed) {
-                DUMP_LOG.info(
-                        "[dump-beta] md5 changed, update md5 & ip list & timestamp in jvm cache. groupKey={}, newMd5={}, oldMd5={}，lastModifiedTs={}",
-                        groupKey, md5, localContentBetaMd5, lastModifiedTs);
-                updateBetaMd5(groupKey, md5, betaIpList, lastModifiedTs, encryptedDataKey);
-            } else if (ipListChanged) {
-                DUMP_LOG.warn("[dump-beta] ip list changed, update ip list & timestamp in jvm cache. groupKey={},"
-                                + " newIpList={}, oldIpList={}，lastModifiedTs={}", groupKey, betaIpList,
-                        ConfigCacheService.getBetaIps(groupKey), lastModifiedTs);
-                updateBetaIpList(groupKey, betaIpList, lastModifiedTs);
-            } else if (timestampUpdated) {
-                DUMP_LOG.warn(
-                        "[dump-beta] timestamp changed, update timestamp in jvm cache. groupKey={}, newLastModifiedTs={}, oldLastModifiedTs={}",
-                        groupKey, lastModifiedTs, ConfigCacheService.getBetaLastModifiedTs(groupKey));
-                updateBetaTimeStamp(groupKey, lastModifiedTs);
-            } else {
-                DUMP_LOG.warn(
-                        "[dump-beta-ignore] ignore to save jvm cache, md5 & ip list & timestamp no changed. groupKey={}",
-                        groupKey);
-            }
+            dumpBetaLocked(groupKey, dataId, group, tenant, content, md5, lastModifiedTs, betaIps, encryptedDataKey,
+                    true);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-beta-exception] save disk error. " + groupKey + ", " + ioe.toString(), ioe);
@@ -249,6 +298,111 @@ public class ConfigCacheService {
         }
     }
     
+    /**
+     * Save a batch of beta config files and update md5 value in cache, used by dump all beta. The changed contents are
+     * saved to disk by one batch write, the write locks of all configs are held until the cache is updated.
+     *
+     * @param configInfos beta config infos with content.
+     * @return count of configs dumped successfully.
+     */
+    public static int batchDumpBeta(List<ConfigInfoBetaWrapper> configInfos) {
+        List<String> groupKeys = new ArrayList<>(configInfos.size());
+        for (ConfigInfoBetaWrapper each : configInfos) {
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+            makeSure(groupKey, null);
+            groupKeys.add(groupKey);
+        }
+        Set<String> lockedGroupKeys = tryWriteLockAll(groupKeys, "[dump-beta-error]");
+        int result = 0;
+        try {
+            List<ConfigInfoBetaWrapper> changed = new ArrayList<>();
+            List<String> md5s = new ArrayList<>(configInfos.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoBetaWrapper each = configInfos.get(i);
+                String md5 = MD5Utils.md5Hex(each.getContent(), ENCODE_UTF8);
+                md5s.add(md5);
+                String groupKey = groupKeys.get(i);
+                boolean notOutdated = each.getLastModified() >= getBetaLastModifiedTs(groupKey);
+                if (lockedGroupKeys.contains(groupKey) && notOutdated && !md5.equals(getContentBetaMd5(groupKey))) {
+                    changed.add(each);
+                }
+            }
+            ConfigDiskServiceFactory.getInstance().batchSaveBetaToDisk(changed);
+            DUMP_LOG.info("[dump-beta] batch save to disk cache, size={}, changed={}", configInfos.size(),
+                    changed.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoBetaWrapper each = configInfos.get(i);
+                if (lockedGroupKeys.contains(groupKeys.get(i))) {
+                    dumpBetaLocked(groupKeys.get(i), each.getDataId(), each.getGroup(), each.getTenant(),
+                            each.getContent(), md5s.get(i), each.getLastModified(), each.getBetaIps(),
+                            each.getEncryptedDataKey(), false);
+                    result++;
+                }
+            }
+            return result;
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-beta-exception] batch save disk error. size=" + configInfos.size() + ", " + ioe,
+                    ioe);
+            return 0;
+        } finally {
+            releaseWriteLockAll(lockedGroupKeys);
+        }
+    }
+    
+    /**
+     * Dump beta config with the write lock held, the content is saved to disk if md5 changed and saveToDisk is true,
+     * otherwise it should have been saved by caller.
+     */
+    private static void dumpBetaLocked(String groupKey, String dataId, String group, String tenant, String content,
+            String md5, long lastModifiedTs, String betaIps, String encryptedDataKey, boolean saveToDisk)
+            throws IOException {
+        //check timestamp
+        boolean timestampOutDated = lastModifiedTs < ConfigCacheService.getBetaLastModifiedTs(groupKey);
+        if (timestampOutDated) {
+            DUMP_LOG.warn("[dump-beta-ignore] timestamp is outdated,groupKey={}", groupKey);
+            return;
+        }
+        
+        boolean timestampUpdated = lastModifiedTs > ConfigCacheService.getBetaLastModifiedTs(groupKey);
+        
+        String[] betaIpsArr = betaIps.split(",");
+        List<String> betaIpList = Lists.newArrayList(betaIpsArr);
+        
+        //md5 check & update local disk cache.
+        String localContentBetaMd5 = ConfigCacheService.getContentBetaMd5(groupKey);
+        boolean md5Changed = !md5.equals(localContentBetaMd5);
+        if (md5Changed) {
+            DUMP_LOG.info("[dump-beta] md5 changed, update md5 in local disk cache. groupKey={}, newMd5={}, oldMd5={}",
+                    groupKey, md5, localContentBetaMd5);
+            if (saveToDisk) {
+                ConfigDiskServiceFactory.getInstance().saveBetaToDisk(dataId, group, tenant, content);
+            }
+        }
+        
+        //md5 , ip list  timestamp check  and update local jvm cache.
+        boolean ipListChanged = !betaIpList.equals(ConfigCacheService.getBetaIps(groupKey));
+        if (md5Changed) {
+            DUMP_LOG.info(
+                    "[dump-beta] md5 changed, update md5 & ip list & timestamp in jvm cache. groupKey={}, newMd5={}, oldMd5={}，lastModifiedTs={}",
+                    groupKey, md5, localContentBetaMd5, lastModifiedTs);
+            updateBetaMd5(groupKey, md5, betaIpList, lastModifiedTs, encryptedDataKey);
+        } else if (ipListChanged) {
+            DUMP_LOG.warn("[dump-beta] ip list changed, update ip list & timestamp in jvm cache. groupKey={},"
+                            + " newIpList={}, oldIpList={}，lastModifiedTs={}", groupKey, betaIpList,
+                    ConfigCacheService.getBetaIps(groupKey), lastModifiedTs);
+            updateBetaIpList(groupKey, betaIpList, lastModifiedTs);
+        } else if (timestampUpdated) {
+            DUMP_LOG.warn(
+                    "[dump-beta] timestamp changed, update timestamp in jvm cache. groupKey={}, newLastModifiedTs={}, oldLastModifiedTs={}",
+                    groupKey, lastModifiedTs, ConfigCacheService.getBetaLastModifiedTs(groupKey));
+            updateBetaTimeStamp(groupKey, lastModifiedTs);
+        } else {
+            DUMP_LOG.warn(
+                    "[dump-beta-ignore] ignore to save jvm cache, md5 & ip list & timestamp no changed. groupKey={}",
+                    groupKey);
+        }
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -273,42 +427,9 @@ public class ConfigCacheService {
         }
         
         try {
-            
-            //check timestamp
-            long localTagLastModifiedTs = ConfigCacheService.getTagLastModifiedTs(groupKey, tag);
-            
-            boolean timestampOutdated = lastModifiedTs < localTagLastModifiedTs;
-            if (timestampOutdated) {
-                DUMP_LOG.warn("[dump-tag-ignore] timestamp is outdated,groupKey={}", groupKey);
-                return true;
-            }
-            
-            boolean timestampChanged = lastModifiedTs > localTagLastModifiedTs;
-            
             final String md5 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-            
-            String localContentTagMd5 = ConfigCacheService.getContentTagMd5(groupKey, tag);
-            boolean md5Changed = !md5.equals(localContentTagMd5);
-            
-            if (md5Changed) {
-                ConfigDiskServiceFactory.getInstance().saveTagToDisk(dataId, group, tenant, tag, content);
-            }
-            
-            if (md5Changed) {
-                DUMP_LOG.warn(
-                        "[dump-tag] md5 changed, update local jvm cache, groupKey={},tag={}, newMd5={},oldMd5={},lastModifiedTs={}",
-                        groupKey, tag, md5, localContentTagMd5, lastModifiedTs);
-                updateTagMd5(groupKey, tag, md5, lastModifiedTs, encryptedDataKey4Tag);
-            } else if (timestampChanged) {
-                DUMP_LOG.warn(
-                        "[dump-tag] timestamp changed, update last modified in local jvm cache, groupKey={},tag={},"
-                                + "tagLastModifiedTs={},oldTagLastModifiedTs={}", groupKey, tag, lastModifiedTs,
-                        localTagLastModifiedTs);
-                updateTagTimeStamp(groupKey, tag, lastModifiedTs);
-                
-            } else {
-                DUMP_LOG.warn("[dump-tag-ignore] md5 & timestamp not changed. groupKey={},tag={}", groupKey, tag);
-            }
+            dumpTagLocked(groupKey, dataId, group, tenant, tag, content, md5, lastModifiedTs, encryptedDataKey4Tag,
+                    true);
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-tag-exception] save disk error. " + groupKey + ", " + ioe.toString(), ioe);
@@ -318,6 +439,99 @@ public class ConfigCacheService {
         }
     }
     
+    /**
+     * Save a batch of tag config files and update md5 value in cache, used by dump all tag. The changed contents are
+     * saved to disk by one batch write, the write locks of all configs are held until the cache is updated.
+     *
+     * @param configInfos tag config infos with content.
+     * @return count of configs dumped successfully.
+     */
+    public static int batchDumpTag(List<ConfigInfoTagWrapper> configInfos) {
+        List<String> groupKeys = new ArrayList<>(configInfos.size());
+        for (ConfigInfoTagWrapper each : configInfos) {
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+            makeSure(groupKey, null);
+            groupKeys.add(groupKey);
+        }
+        Set<String> lockedGroupKeys = tryWriteLockAll(groupKeys, "[dump-tag-error]");
+        int result = 0;
+        try {
+            List<ConfigInfoTagWrapper> changed = new ArrayList<>();
+            List<String> md5s = new ArrayList<>(configInfos.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoTagWrapper each = configInfos.get(i);
+                String md5 = MD5Utils.md5Hex(each.getContent(), ENCODE_UTF8);
+                md5s.add(md5);
+                String groupKey = groupKeys.get(i);
+                boolean notOutdated = each.getLastModified() >= getTagLastModifiedTs(groupKey, each.getTag());
+                boolean md5Changed = !md5.equals(getContentTagMd5(groupKey, each.getTag()));
+                if (lockedGroupKeys.contains(groupKey) && notOutdated && md5Changed) {
+                    changed.add(each);
+                }
+            }
+            ConfigDiskServiceFactory.getInstance().batchSaveTagToDisk(changed);
+            DUMP_LOG.info("[dump-tag] batch save to disk cache, size={}, changed={}", configInfos.size(),
+                    changed.size());
+            for (int i = 0; i < configInfos.size(); i++) {
+                ConfigInfoTagWrapper each = configInfos.get(i);
+                if (lockedGroupKeys.contains(groupKeys.get(i))) {
+                    dumpTagLocked(groupKeys.get(i), each.getDataId(), each.getGroup(), each.getTenant(),
+                            each.getTag(), each.getContent(), md5s.get(i), each.getLastModified(),
+                            each.getEncryptedDataKey(), false);
+                    result++;
+                }
+            }
+            return result;
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-tag-exception] batch save disk error. size=" + configInfos.size() + ", " + ioe,
+                    ioe);
+            return 0;
+        } finally {
+            releaseWriteLockAll(lockedGroupKeys);
+        }
+    }
+    
+    /**
+     * Dump tag config with the write lock held, the content is saved to disk if md5 changed and saveToDisk is true,
+     * otherwise it should have been saved by caller.
+     */
+    private static void dumpTagLocked(String groupKey, String dataId, String group, String tenant, String tag,
+            String content, String md5, long lastModifiedTs, String encryptedDataKey4Tag, boolean saveToDisk)
+            throws IOException {
+        //check timestamp
+        long localTagLastModifiedTs = ConfigCacheService.getTagLastModifiedTs(groupKey, tag);
+        
+        boolean timestampOutdated = lastModifiedTs < localTagLastModifiedTs;
+        if (timestampOutdated) {
+            DUMP_LOG.warn("[dump-tag-ignore] timestamp is outdated,groupKey={}", groupKey);
+            return;
+        }
+        
+        boolean timestampChanged = lastModifiedTs > localTagLastModifiedTs;
+        
+        String localContentTagMd5 = ConfigCacheService.getContentTagMd5(groupKey, tag);
+        boolean md5Changed = !md5.equals(localContentTagMd5);
+        
+        if (md5Changed && saveToDisk) {
+            ConfigDiskServiceFactory.getInstance().saveTagToDisk(dataId, group, tenant, tag, content);
+        }
+        
+        if (md5Changed) {
+            DUMP_LOG.warn(
+                    "[dump-tag] md5 changed, update local jvm cache, groupKey={},tag={}, newMd5={},oldMd5={},lastModifiedTs={}",
+                    groupKey, tag, md5, localContentTagMd5, lastModifiedTs);
+            updateTagMd5(groupKey, tag, md5, lastModifiedTs, encryptedDataKey4Tag);
+        } else if (timestampChanged) {
+            DUMP_LOG.warn("[dump-tag] timestamp changed, update last modified in local jvm cache, groupKey={},tag={},"
+                            + "tagLastModifiedTs={},oldTagLastModifiedTs={}", groupKey, tag, lastModifiedTs,
+                    localTagLastModifiedTs);
+            updateTagTimeStamp(groupKey, tag, lastModifiedTs);
+            
+        } else {
+            DUMP_LOG.warn("[dump-tag-ignore] md5 & timestamp not changed. groupKey={},tag={}", groupKey, tag);
+        }
+    }
+    
     /**
      * Delete config file, and delete cache.
      *
@@ -508,23 +722,31 @@ public class ConfigCacheService {
     }
     
     public static String getContentMd5(String groupKey, String ip, String tag) {
+        ConfigCache configCache = getVisibleConfigCache(groupKey, ip, tag);
+        return (null != configCache) ? configCache.getMd5(ENCODE_UTF8) : Constants.NULL;
+    }
+    
+    /**
+     * Get the config cache which is visible to the client ip and tag.
+     */
+    private static ConfigCache getVisibleConfigCache(String groupKey, String ip, String tag) {
         CacheItem item = CACHE.get(groupKey);
         if (item != null && item.isBeta && item.ips4Beta != null && item.ips4Beta.contains(ip)
                 && item.getConfigCacheBeta() != null) {
-            return item.getConfigCacheBeta().getMd5(ENCODE_UTF8);
+            return item.getConfigCacheBeta();
         }
         
         if (item != null && StringUtils.isNotBlank(tag) && item.getConfigCacheTags() != null
                 && item.getConfigCacheTags().containsKey(tag)) {
-            return item.getConfigCacheTags().get(tag).getMd5(ENCODE_UTF8);
+            return item.getConfigCacheTags().get(tag);
         }
         
         if (item != null && item.isBatch && item.delimiter >= InternetAddressUtil.ipToInt(ip)
                 && item.getConfigCacheBatch() != null) {
-            return item.getConfigCacheBatch().getMd5(ENCODE_UTF8);
+            return item.getConfigCacheBatch();
         }
         
-        return (null != item) ? item.getConfigCache().getMd5(ENCODE_UTF8) : Constants.NULL;
+        return (null != item) ? item.getConfigCache() : null;
     }
     
     /**
@@ -615,8 +837,8 @@ public class ConfigCacheService {
     }
     
     public static boolean isUptodate(String groupKey, String md5, String ip, String tag) {
-        String serverMd5 = ConfigCacheService.getContentMd5(groupKey, ip, tag);
-        return StringUtils.equals(md5, serverMd5);
+        ConfigCache configCache = getVisibleConfigCache(groupKey, ip, tag);
+        return (null != configCache) ? configCache.isMd5Utf8Equals(md5) : StringUtils.equals(md5, Constants.NULL);
     }
     
     /**
@@ -676,7 +898,8 @@ public class ConfigCacheService {
             return item;
         }
         CacheItem tmp = new CacheItem(groupKey, encryptedDataKey);
-        item = CACHE.putIfAbsent(groupKey, tmp);
+        // use the pooled group key of item as map key, so that the key is not duplicated in memory.
+        item = CACHE.putIfAbsent(tmp.getGroupKey(), tmp);
         return (null == item) ? tmp : item;
     }
     
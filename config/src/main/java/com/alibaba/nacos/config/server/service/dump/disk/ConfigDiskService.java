@@ -16,7 +16,12 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfo4Tag;
+
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * config disk service.
@@ -59,6 +64,42 @@ public interface ConfigDiskService {
      */
     void saveTagToDisk(String dataId, String group, String tenant, String tag, String content) throws IOException;
     
+    /**
+     * Save a batch of configuration information to disk, used by dump all.
+     *
+     * @param configInfos config infos with content.
+     * @throws IOException io exception.
+     */
+    default void batchSaveToDisk(List<? extends ConfigInfo> configInfos) throws IOException {
+        for (ConfigInfo each : configInfos) {
+            saveToDisk(each.getDataId(), each.getGroup(), each.getTenant(), each.getContent());
+        }
+    }
+    
+    /**
+     * Save a batch of beta information to disk, used by dump all beta.
+     *
+     * @param configInfos beta config infos with content.
+     * @throws IOException io exception.
+     */
+    default void batchSaveBetaToDisk(List<? extends ConfigInfo> configInfos) throws IOException {
+        for (ConfigInfo each : configInfos) {
+            saveBetaToDisk(each.getDataId(), each.getGroup(), each.getTenant(), each.getContent());
+        }
+    }
+    
+    /**
+     * Save a batch of tag information to disk, used by dump all tag.
+     *
+     * @param configInfos tag config infos with content.
+     * @throws IOException io exception.
+     */
+    default void batchSaveTagToDisk(List<? extends ConfigInfo4Tag> configInfos) throws IOException {
+        for (ConfigInfo4Tag each : configInfos) {
+            saveTagToDisk(each.getDataId(), each.getGroup(), each.getTenant(), each.getTag(), each.getContent());
+        }
+    }
+    
     /**
      * Deletes configuration files on disk.
      *
@@ -98,6 +139,20 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Open the channel of the cache file in server, so that the stored utf8 bytes of content can be transferred
+     * without decoding into string. The caller should close the channel after used.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @return channel of content, null if not exist or the storage is not file based.
+     * @throws IOException io exception.
+     */
+    default FileChannel openContentChannel(String dataId, String group, String tenant) throws IOException {
+        return null;
+    }
+    
     /**
      * Returns the beta content of cache file in server.
      *
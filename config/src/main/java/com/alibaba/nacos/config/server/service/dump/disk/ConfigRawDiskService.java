@@ -27,6 +27,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 
@@ -201,6 +204,15 @@ public class ConfigRawDiskService implements ConfigDiskService {
         }
     }
     
+    @Override
+    public FileChannel openContentChannel(String dataId, String group, String tenant) throws IOException {
+        try {
+            return FileChannel.open(targetFile(dataId, group, tenant).toPath(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+    
     /**
      * Clear all config file.
      */
@@ -17,7 +17,10 @@
 package com.alibaba.nacos.config.server.service.dump.disk;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfo4Tag;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.ColumnFamilyOptions;
@@ -25,10 +28,13 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
@@ -157,6 +163,42 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
     }
     
+    @Override
+    public void batchSaveToDisk(List<? extends ConfigInfo> configInfos) throws IOException {
+        batchSaveToDiskInner(BASE_DIR, configInfos);
+    }
+    
+    @Override
+    public void batchSaveBetaToDisk(List<? extends ConfigInfo> configInfos) throws IOException {
+        batchSaveToDiskInner(BETA_DIR, configInfos);
+    }
+    
+    @Override
+    public void batchSaveTagToDisk(List<? extends ConfigInfo4Tag> configInfos) throws IOException {
+        batchSaveToDiskInner(TAG_DIR, configInfos);
+    }
+    
+    /**
+     * save a batch of configs to disk by one write, the write ahead log is skipped if dump all disable wal is enabled,
+     * the configs lost by crash will be dumped again at start up.
+     */
+    private void batchSaveToDiskInner(String type, List<? extends ConfigInfo> configInfos) throws IOException {
+        if (configInfos.isEmpty()) {
+            return;
+        }
+        try (WriteBatch writeBatch = new WriteBatch(); WriteOptions writeOptions = new WriteOptions()) {
+            for (ConfigInfo each : configInfos) {
+                String tag = each instanceof ConfigInfo4Tag ? ((ConfigInfo4Tag) each).getTag() : null;
+                writeBatch.put(getKeyByte(each.getDataId(), each.getGroup(), each.getTenant(), tag),
+                        each.getContent().getBytes(ENCODE_UTF8));
+            }
+            writeOptions.setDisableWAL(PropertyUtil.isDumpAllDisableWal());
+            initAndGetDB(type).write(writeOptions, writeBatch);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+    
     /**
      * Deletes configuration files on disk.
      */
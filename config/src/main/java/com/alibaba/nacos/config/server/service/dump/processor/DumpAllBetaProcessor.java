@@ -21,7 +21,6 @@ import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
-import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
@@ -50,13 +49,9 @@ public class DumpAllBetaProcessor implements NacosTaskProcessor {
             Page<ConfigInfoBetaWrapper> page = configInfoBetaPersistService.findAllConfigInfoBetaForDumpAll(pageNo,
                     PAGE_SIZE);
             if (page != null) {
-                for (ConfigInfoBetaWrapper cf : page.getPageItems()) {
-                    boolean result = ConfigCacheService.dumpBeta(cf.getDataId(), cf.getGroup(), cf.getTenant(),
-                            cf.getContent(), cf.getLastModified(), cf.getBetaIps(), cf.getEncryptedDataKey());
-                    LogUtil.DUMP_LOG.info("[dump-all-beta-ok] result={}, {}, {}, length={}, md5={}", result,
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
-                            cf.getContent().length(), cf.getMd5());
-                }
+                int successCount = ConfigCacheService.batchDumpBeta(page.getPageItems());
+                LogUtil.DUMP_LOG.info("[dump-all-beta-ok] batch dump {} configs, success={}",
+                        page.getPageItems().size(), successCount);
                 
                 actualRowCount += page.getPageItems().size();
                 DEFAULT_LOG.info("[all-dump-beta] {} / {}", actualRowCount, rowCount);
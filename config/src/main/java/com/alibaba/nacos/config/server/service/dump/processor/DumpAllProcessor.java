@@ -31,7 +31,10 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -61,30 +64,22 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
         long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        }
+        ThreadPoolExecutor executorService = createExecutor(dumpAllTask.isStartUp());
         
         DEFAULT_LOG.info("start dump all config-info...");
         
         while (lastMaxId < currentMaxId) {
             
-            long start = System.currentTimeMillis();
+            final long start = System.currentTimeMillis();
             
             Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
                     PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
+            final long dbTimeStamp = System.currentTimeMillis();
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
                 break;
             }
             
+            List<ConfigInfoWrapper> startUpBatch = new ArrayList<>(page.getPageItems().size());
             for (ConfigInfoWrapper cf : page.getPageItems()) {
                 lastMaxId = Math.max(cf.getId(), lastMaxId);
                 //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
@@ -118,6 +113,12 @@ public class DumpAllProcessor implements NacosTaskProcessor {
                     SwitchService.load(cf.getContent());
                 }
                 
+                //on start up, the whole page is dumped by one batch to reduce disk writes.
+                if (dumpAllTask.isStartUp()) {
+                    startUpBatch.add(cf);
+                    continue;
+                }
+                
                 final String content = cf.getContent();
                 final String dataId = cf.getDataId();
                 final String group = cf.getGroup();
@@ -141,20 +142,26 @@ public class DumpAllProcessor implements NacosTaskProcessor {
                 
             }
             
+            if (!startUpBatch.isEmpty()) {
+                executorService.execute(() -> {
+                    int successCount = ConfigCacheService.batchDump(startUpBatch);
+                    LogUtil.DUMP_LOG.info("[dump-all-ok] batch dump {} configs, success={}", startUpBatch.size(),
+                            successCount);
+                });
+            }
+            
             long diskStamp = System.currentTimeMillis();
             DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
                     (dbTimeStamp - start), (diskStamp - dbTimeStamp));
         }
         
-        //wait all task are finished and then shutdown executor.
+        //shutdown executor and wait all submitted tasks are finished.
         try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
-            }
             executorService.shutdown();
-            
+            while (!executorService.awaitTermination(1L, TimeUnit.SECONDS)) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished",
+                        executorService.getQueue().size() + executorService.getActiveCount());
+            }
         } catch (Exception e) {
             DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
@@ -162,5 +169,30 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         return true;
     }
     
+    /**
+     * On start up, each task dumps a whole page, pages are read by the caller thread and dumped by all processors.
+     * The queue is bounded by the worker count and the caller is blocked if the queue is full, so that the pages in
+     * memory are limited while reading and dumping are overlapped.
+     */
+    private ThreadPoolExecutor createExecutor(boolean startUp) {
+        if (!startUp) {
+            return new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(parallelism), r -> new Thread(r, "dump all executor"),
+                DumpAllProcessor::waitForQueue);
+    }
+    
+    private static void waitForQueue(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+    }
+    
     final ConfigInfoPersistService configInfoPersistService;
 }
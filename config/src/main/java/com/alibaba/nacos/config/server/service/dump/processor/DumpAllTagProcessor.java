@@ -22,7 +22,6 @@ import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoTagPersistService;
-import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -48,14 +47,9 @@ public class DumpAllTagProcessor implements NacosTaskProcessor {
         for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
             Page<ConfigInfoTagWrapper> page = configInfoTagPersistService.findAllConfigInfoTagForDumpAll(pageNo, PAGE_SIZE);
             if (page != null) {
-                for (ConfigInfoTagWrapper cf : page.getPageItems()) {
-                    boolean result = ConfigCacheService
-                            .dumpTag(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getTag(), cf.getContent(),
-                                    cf.getLastModified(), cf.getEncryptedDataKey());
-                    LogUtil.DUMP_LOG.info("[dump-all-Tag-ok] result={}, {}, {}, length={}, md5={}", result,
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
-                            cf.getContent().length(), cf.getMd5());
-                }
+                int successCount = ConfigCacheService.batchDumpTag(page.getPageItems());
+                LogUtil.DUMP_LOG.info("[dump-all-Tag-ok] batch dump {} configs, success={}",
+                        page.getPageItems().size(), successCount);
                 
                 actualRowCount += page.getPageItems().size();
                 DEFAULT_LOG.info("[all-dump-tag] {} / {}", actualRowCount, rowCount);
@@ -106,6 +106,16 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Keep md5 of config cache as 16 bytes binary instead of hex string.
+     */
+    private static boolean compactCacheMd5 = false;
+    
+    /**
+     * Skip the write ahead log of rocksdb disk cache when dump all, the disk cache is rebuilt by dump all at start up.
+     */
+    private static boolean dumpAllDisableWal = false;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -122,6 +132,22 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static boolean isCompactCacheMd5() {
+        return compactCacheMd5;
+    }
+    
+    public static void setCompactCacheMd5(boolean compactCacheMd5) {
+        PropertyUtil.compactCacheMd5 = compactCacheMd5;
+    }
+    
+    public static boolean isDumpAllDisableWal() {
+        return dumpAllDisableWal;
+    }
+    
+    public static void setDumpAllDisableWal(boolean dumpAllDisableWal) {
+        PropertyUtil.dumpAllDisableWal = dumpAllDisableWal;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -278,6 +304,8 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setCompactCacheMd5(getBoolean(PropertiesConstant.COMPACT_CACHE_MD5, compactCacheMd5));
+            setDumpAllDisableWal(getBoolean(PropertiesConstant.DUMP_ALL_DISABLE_WAL, dumpAllDisableWal));
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
             throw e;
@@ -47,6 +47,11 @@ import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +61,7 @@ import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static com.alibaba.nacos.config.server.constant.Constants.CONTENT_MD5;
 import static com.alibaba.nacos.config.server.utils.RequestUtil.CLIENT_APPNAME_HEADER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -274,6 +280,39 @@ class ConfigServletInnerTest {
         
     }
     
+    @Test
+    void testDoGetConfigFormalByChannel() throws Exception {
+        String dataId = "dataId1234552333Channel";
+        String group = "group";
+        String tenant = "tenant";
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryConfigReadLock(GroupKey2.getKey(dataId, group, tenant)))
+                .thenReturn(1);
+        
+        //mock cache item .
+        CacheItem cacheItem = new CacheItem("test");
+        cacheItem.setBeta(false);
+        String md5 = "md5wertyui";
+        cacheItem.getConfigCache().setMd5Utf8(md5);
+        cacheItem.getConfigCache().setLastModifiedTs(System.currentTimeMillis());
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataId, group, tenant)))
+                .thenReturn(cacheItem);
+        String content = "content345678测试";
+        File file = File.createTempFile("config", ".tmp");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        when(configRocksDbDiskService.openContentChannel(dataId, group, tenant)).thenReturn(channel);
+        
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, null, "true", "localhost");
+        assertEquals(content, response.getContentAsString());
+        assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+        assertEquals(md5, response.getHeader(CONTENT_MD5));
+        assertFalse(channel.isOpen());
+        Mockito.verify(configRocksDbDiskService, Mockito.never()).getContent(dataId, group, tenant);
+    }
+    
     @Test
     void testDoGetConfigFormalV2() throws Exception {
         String dataId = "dataId1234552333V2";
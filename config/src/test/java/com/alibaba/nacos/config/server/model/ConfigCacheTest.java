@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigCacheTest {
+    
+    @BeforeEach
+    void setUp() {
+        PropertyUtil.setCompactCacheMd5(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        PropertyUtil.setCompactCacheMd5(false);
+    }
+    
+    @Test
+    void testCompactMd5() {
+        String md5 = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8);
+        ConfigCache configCache = new ConfigCache(md5, md5, 1L);
+        assertTrue(configCache.md5Utf8 instanceof byte[]);
+        assertEquals(md5, configCache.getMd5Utf8());
+        assertEquals(md5, configCache.getMd5(Constants.ENCODE_UTF8));
+        assertTrue(configCache.isMd5Utf8Equals(md5));
+        assertFalse(configCache.isMd5Utf8Equals(MD5Utils.md5Hex("content2", Constants.ENCODE_UTF8)));
+        assertFalse(configCache.isMd5Utf8Equals(md5.toUpperCase()));
+        assertFalse(configCache.isMd5Utf8Equals(null));
+        assertFalse(configCache.isMd5Utf8Equals(Constants.NULL));
+    }
+    
+    @Test
+    void testNonHexMd5NotCompacted() {
+        ConfigCache configCache = new ConfigCache();
+        assertTrue(configCache.isMd5Utf8Equals(Constants.NULL));
+        String upperCase = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8).toUpperCase();
+        configCache.setMd5Utf8(upperCase);
+        assertTrue(configCache.md5Utf8 instanceof String);
+        assertEquals(upperCase, configCache.getMd5Utf8());
+        assertTrue(configCache.isMd5Utf8Equals(upperCase));
+    }
+    
+    @Test
+    void testCompactDisabled() {
+        PropertyUtil.setCompactCacheMd5(false);
+        String md5 = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8);
+        ConfigCache configCache = new ConfigCache(md5, md5, 1L);
+        assertTrue(configCache.md5Utf8 instanceof String);
+        assertTrue(configCache.isMd5Utf8Equals(md5));
+    }
+}
@@ -23,10 +23,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -77,6 +83,40 @@ class ConfigChangeListenContextTest {
         assertEquals(1, groupKey.size());
     }
     
+    @Test
+    void testGetListenKeysUnmodifiable() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        Map<String, String> listenKeys = configChangeListenContext.getListenKeys("connectionId");
+        assertThrows(UnsupportedOperationException.class, () -> listenKeys.put("groupKey2", "md5"));
+        configChangeListenContext.addListen("groupKey2", null, "connectionId");
+        assertEquals(2, listenKeys.size());
+        assertEquals("", configChangeListenContext.getListenKeyMd5("connectionId", "groupKey2"));
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            String connectionId = "connectionId" + i;
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    configChangeListenContext.addListen("groupKey" + j % 10, "md5", connectionId);
+                    configChangeListenContext.removeListen("groupKey" + (j + 5) % 10, connectionId);
+                }
+                configChangeListenContext.clearContextForConnectionId(connectionId);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        for (int i = 0; i < 10; i++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + i));
+        }
+        assertEquals(0, configChangeListenContext.getConnectionCount());
+    }
+    
     @Test
     void testGetListenKeyMd5() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
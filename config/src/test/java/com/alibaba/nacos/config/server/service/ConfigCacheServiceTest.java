@@ -19,6 +19,8 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigInfoTagWrapper;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -33,11 +35,13 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.beans.BeanUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -308,6 +312,67 @@ class ConfigCacheServiceTest {
         assertNull(configCacheTags);
     }
     
+    @Test
+    void testBatchDump() throws Exception {
+        long ts = System.currentTimeMillis();
+        ConfigInfoWrapper configInfo1 = new ConfigInfoWrapper();
+        configInfo1.setDataId("dataIdtestBatchDump1");
+        configInfo1.setGroup("group11");
+        configInfo1.setTenant("tenant112");
+        configInfo1.setContent("mockContent1");
+        configInfo1.setLastModified(ts);
+        configInfo1.setType("json");
+        ConfigInfoWrapper configInfo2 = new ConfigInfoWrapper();
+        BeanUtils.copyProperties(configInfo1, configInfo2);
+        configInfo2.setDataId("dataIdtestBatchDump2");
+        configInfo2.setContent("mockContent2");
+        List<ConfigInfoWrapper> configInfos = Arrays.asList(configInfo1, configInfo2);
+        
+        assertEquals(2, ConfigCacheService.batchDump(configInfos));
+        Mockito.verify(configDiskService, times(1)).batchSaveToDisk(eq(configInfos));
+        CacheItem contentCache1 = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(configInfo1.getDataId(), configInfo1.getGroup(), configInfo1.getTenant()));
+        assertEquals(MD5Utils.md5Hex(configInfo1.getContent(), "UTF-8"), contentCache1.getConfigCache().getMd5Utf8());
+        assertEquals(ts, contentCache1.getConfigCache().getLastModifiedTs());
+        assertEquals("json", contentCache1.getType());
+        
+        //md5 not changed, only timestamp update, nothing saved to disk.
+        configInfo1.setLastModified(ts + 1);
+        assertEquals(2, ConfigCacheService.batchDump(configInfos));
+        Mockito.verify(configDiskService, times(1)).batchSaveToDisk(eq(Collections.emptyList()));
+        assertEquals(ts + 1, contentCache1.getConfigCache().getLastModifiedTs());
+        Mockito.verify(configDiskService, times(0)).saveToDisk(anyString(), anyString(), anyString(), anyString());
+    }
+    
+    @Test
+    void testBatchDumpTag() throws Exception {
+        long ts = System.currentTimeMillis();
+        ConfigInfoTagWrapper configInfo1 = new ConfigInfoTagWrapper();
+        configInfo1.setDataId("dataIdtestBatchDumpTag");
+        configInfo1.setGroup("group11");
+        configInfo1.setTenant("tenant112");
+        configInfo1.setTag("tag1");
+        configInfo1.setContent("mockContent1");
+        configInfo1.setLastModified(ts);
+        ConfigInfoTagWrapper configInfo2 = new ConfigInfoTagWrapper();
+        BeanUtils.copyProperties(configInfo1, configInfo2);
+        configInfo2.setTag("tag2");
+        configInfo2.setContent("mockContent2");
+        List<ConfigInfoTagWrapper> configInfos = Arrays.asList(configInfo1, configInfo2);
+        
+        //tags of same config share the write lock.
+        assertEquals(2, ConfigCacheService.batchDumpTag(configInfos));
+        Mockito.verify(configDiskService, times(1)).batchSaveTagToDisk(eq(configInfos));
+        CacheItem contentCache = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(configInfo1.getDataId(), configInfo1.getGroup(), configInfo1.getTenant()));
+        assertEquals(MD5Utils.md5Hex(configInfo1.getContent(), "UTF-8"),
+                contentCache.getConfigCacheTags().get("tag1").getMd5Utf8());
+        assertEquals(MD5Utils.md5Hex(configInfo2.getContent(), "UTF-8"),
+                contentCache.getConfigCacheTags().get("tag2").getMd5Utf8());
+        assertEquals(1, ConfigCacheService.tryConfigReadLock(contentCache.getGroupKey()));
+        ConfigCacheService.releaseReadLock(contentCache.getGroupKey());
+    }
+    
     @Test
     void testTryConfigReadLock() throws Exception {
         String dataId = "123testTryConfigReadLock";
@@ -43,6 +43,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -178,6 +179,38 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapper2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpMultiPages() throws Exception {
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        int pageCount = 3;
+        List<List<ConfigInfoWrapper>> pages = new ArrayList<>();
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < pageCount; i++) {
+            List<ConfigInfoWrapper> pageItems = new ArrayList<>();
+            for (int j = 1; j <= 2; j++) {
+                ConfigInfoWrapper configInfoWrapper = createNewConfig(i * 2 + j);
+                configInfoWrapper.setLastModified(timestamp);
+                pageItems.add(configInfoWrapper);
+            }
+            Page<ConfigInfoWrapper> page = new Page<>();
+            page.setPageItems(pageItems);
+            Mockito.when(configInfoPersistService.findAllConfigInfoFragment(i * 2L, pageSize, true)).thenReturn(page);
+            pages.add(pageItems);
+        }
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(pageCount * 2L);
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        for (List<ConfigInfoWrapper> each : pages) {
+            for (ConfigInfoWrapper configInfoWrapper : each) {
+                CacheItem contentCache = ConfigCacheService.getContentCache(
+                        GroupKey2.getKey(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(), configInfoWrapper.getTenant()));
+                assertEquals(MD5Utils.md5Hex(configInfoWrapper.getContent(), "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+                assertEquals(timestamp, contentCache.getConfigCache().getLastModifiedTs());
+            }
+        }
+    }
+    
     /**
      * test dump all for all check task.
      */
@@ -45,5 +45,13 @@ public enum DataOperation {
     /**
      * Data query.
      */
-    QUERY;
+    QUERY,
+    /**
+     * Data verify by digest.
+     */
+    DIGEST,
+    /**
+     * Batch of data sync.
+     */
+    BATCH;
 }
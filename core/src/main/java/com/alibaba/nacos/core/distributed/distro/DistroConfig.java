@@ -36,14 +36,26 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private boolean syncBatchEnabled = DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED;
+    
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
+    private long syncBatchDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
+    private int verifyDigestBuckets = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkSize = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +69,26 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+        syncBatchDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS, Long.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
+        verifyDigestBuckets = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_BUCKETS, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +119,30 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public boolean isSyncBatchEnabled() {
+        return syncBatchEnabled;
+    }
+    
+    public void setSyncBatchEnabled(boolean syncBatchEnabled) {
+        this.syncBatchEnabled = syncBatchEnabled;
+    }
+    
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
+    public long getSyncBatchDelayMillis() {
+        return syncBatchDelayMillis;
+    }
+    
+    public void setSyncBatchDelayMillis(long syncBatchDelayMillis) {
+        this.syncBatchDelayMillis = syncBatchDelayMillis;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +159,22 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
+    public int getVerifyDigestBuckets() {
+        return verifyDigestBuckets;
+    }
+    
+    public void setVerifyDigestBuckets(int verifyDigestBuckets) {
+        this.verifyDigestBuckets = verifyDigestBuckets;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +191,23 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkSize() {
+        return loadDataChunkSize;
+    }
+    
+    public void setLoadDataChunkSize(int loadDataChunkSize) {
+        this.loadDataChunkSize = loadDataChunkSize;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchEnabled=" + syncBatchEnabled
+                + ", syncBatchSize=" + syncBatchSize + ", syncBatchDelayMillis=" + syncBatchDelayMillis
+                + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestEnabled=" + verifyDigestEnabled
+                + ", verifyDigestBuckets=" + verifyDigestBuckets + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataChunkSize=" + loadDataChunkSize
+                + '}';
     }
 }
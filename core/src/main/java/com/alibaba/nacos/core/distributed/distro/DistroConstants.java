@@ -43,6 +43,24 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_ENABLED = "nacos.core.protocol.distro.data.sync.batchEnabled";
+    
+    public static final String DATA_SYNC_BATCH_ENABLED_STATE = "data_sync_batchEnabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_BATCH_ENABLED = false;
+    
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batchSize";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batchSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.sync.batchDelayMs";
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS_STATE = "data_sync_batchDelayMs";
+    
+    public static final long DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS = 100L;
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,6 +73,18 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digestEnabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digestEnabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
+    public static final String DATA_VERIFY_DIGEST_BUCKETS = "nacos.core.protocol.distro.data.verify.digestBuckets";
+    
+    public static final String DATA_VERIFY_DIGEST_BUCKETS_STATE = "data_verify_digestBuckets";
+    
+    public static final int DEFAULT_DATA_VERIFY_DIGEST_BUCKETS = 1024;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +97,10 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_SIZE = "nacos.core.protocol.distro.data.load.chunkSize";
+    
+    public static final String DATA_LOAD_CHUNK_SIZE_STATE = "data_load_chunkSize";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_SIZE = 0;
+    
 }
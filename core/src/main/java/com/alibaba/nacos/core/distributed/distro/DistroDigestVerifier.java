@@ -0,0 +1,125 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro;
+
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestProcessor;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigest;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigestResult;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verify distro digest sent from other servers.
+ *
+ * <p>The keys of datum verified from each source server are recorded, so that the local digests of datum synced from
+ * the source server can be computed and compared with the received digests. The datum in matched buckets are renewed
+ * directly, and only the unmatched buckets need to be verified key by key in the second round.
+ *
+ * @author Nacos
+ */
+public class DistroDigestVerifier {
+    
+    /**
+     * Records not verified for these rounds will be removed, such as the source server has left the cluster.
+     */
+    private static final int EXPIRED_VERIFY_ROUNDS = 10;
+    
+    private final Map<String, VerifiedKeys> verifiedKeysMap = new ConcurrentHashMap<>(8);
+    
+    /**
+     * Verify the digest sent from source server.
+     *
+     * @param type          resource type
+     * @param digest        digest from source server
+     * @param sourceAddress address of source server
+     * @param processor     digest processor of resource type
+     * @return verify result
+     */
+    public DistroDigestResult verify(String type, DistroDigest digest, String sourceAddress,
+            DistroDigestProcessor processor) {
+        removeExpiredKeys();
+        VerifiedKeys verifiedKeys = verifiedKeysMap.computeIfAbsent(type + "@" + sourceAddress,
+                key -> new VerifiedKeys());
+        synchronized (verifiedKeys) {
+            verifiedKeys.lastVerifyTime = System.currentTimeMillis();
+            return null != digest.getDigests() ? verifyDigests(digest, verifiedKeys.keys, processor)
+                    : verifyVersions(digest, verifiedKeys.keys, processor);
+        }
+    }
+    
+    private DistroDigestResult verifyDigests(DistroDigest digest, Set<String> keys, DistroDigestProcessor processor) {
+        int bucketCount = digest.getBucketCount();
+        Map<String, Long> localVersions = new HashMap<>(keys.size());
+        keys.removeIf(each -> {
+            Long version = processor.getSyncedVersion(each);
+            if (null == version) {
+                return true;
+            }
+            localVersions.put(each, version);
+            return false;
+        });
+        long[] localDigests = DistroDigest.computeDigests(localVersions, bucketCount);
+        DistroDigestResult result = new DistroDigestResult();
+        Set<Integer> unmatchedBuckets = new HashSet<>();
+        for (int i = 0; i < bucketCount; i++) {
+            if (i >= digest.getDigests().length || localDigests[i] != digest.getDigests()[i]) {
+                unmatchedBuckets.add(i);
+                result.getUnmatchedBuckets().add(i);
+            }
+        }
+        for (Map.Entry<String, Long> entry : localVersions.entrySet()) {
+            if (!unmatchedBuckets.contains(DistroDigest.bucketOf(entry.getKey(), bucketCount))) {
+                processor.verifyVersion(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private DistroDigestResult verifyVersions(DistroDigest digest, Set<String> keys, DistroDigestProcessor processor) {
+        DistroDigestResult result = new DistroDigestResult();
+        if (null == digest.getBuckets() || null == digest.getVersions()) {
+            return result;
+        }
+        Set<Integer> buckets = new HashSet<>(digest.getBuckets());
+        // keys of these buckets will be rebuilt by the versions from source server.
+        keys.removeIf(each -> buckets.contains(DistroDigest.bucketOf(each, digest.getBucketCount())));
+        for (Map.Entry<String, Long> entry : digest.getVersions().entrySet()) {
+            keys.add(entry.getKey());
+            if (!processor.verifyVersion(entry.getKey(), entry.getValue())) {
+                result.getFailedKeys().add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    private void removeExpiredKeys() {
+        long expiredTime = System.currentTimeMillis()
+                - EXPIRED_VERIFY_ROUNDS * DistroConfig.getInstance().getVerifyIntervalMillis();
+        verifiedKeysMap.values().removeIf(each -> each.lastVerifyTime < expiredTime);
+    }
+    
+    private static class VerifiedKeys {
+        
+        private final Set<String> keys = new HashSet<>();
+        
+        private volatile long lastVerifyTime = System.currentTimeMillis();
+    }
+}
@@ -16,16 +16,23 @@
 
 package com.alibaba.nacos.core.distributed.distro;
 
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroChunkedSnapshotStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigest;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigestResult;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
@@ -33,8 +40,11 @@ import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyTimedTa
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -49,6 +59,8 @@ public class DistroProtocol {
     
     private final DistroTaskEngineHolder distroTaskEngineHolder;
     
+    private final DistroDigestVerifier digestVerifier = new DistroDigestVerifier();
+    
     private volatile boolean isInitialized = false;
     
     public DistroProtocol(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
@@ -85,8 +97,10 @@ public class DistroProtocol {
     }
     
     private void startVerifyTask() {
-        GlobalExecutor.schedulePartitionDataTimedSync(new DistroVerifyTimedTask(memberManager, distroComponentHolder,
-                        distroTaskEngineHolder.getExecuteWorkersManager()),
+        GlobalExecutor.schedulePartitionDataTimedSync(
+                new DistroVerifyTimedTask(memberManager, distroComponentHolder,
+                        distroTaskEngineHolder.getExecuteWorkersManager(),
+                        distroTaskEngineHolder.getDelayTaskExecuteEngine()),
                 DistroConfig.getInstance().getVerifyIntervalMillis());
     }
     
@@ -170,9 +184,31 @@ public class DistroProtocol {
             Loggers.DISTRO.warn("[DISTRO] Can't find data process for received data {}", resourceType);
             return false;
         }
+        if (DataOperation.BATCH == distroData.getType()) {
+            return processBatchData(distroData, dataProcessor);
+        }
         return dataProcessor.processData(distroData);
     }
     
+    private boolean processBatchData(DistroData batchData, DistroDataProcessor dataProcessor) {
+        List<DistroData> items;
+        try {
+            items = JacksonUtils.toObj(IoUtils.tryDecompress(batchData.getContent()),
+                    new TypeReference<List<DistroData>>() {
+                    });
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Can't parse batch data {}", batchData.getDistroKey(), e);
+            return false;
+        }
+        boolean result = true;
+        for (DistroData each : items) {
+            if (!dataProcessor.processData(each)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+    
     /**
      * Receive verify data, find processor to process.
      *
@@ -194,6 +230,28 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, find digest processor to verify.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return verify result, {@code null} if the resource type can't be verified by digest
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (!(dataProcessor instanceof DistroDigestProcessor)) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find digest processor for received digest {}", resourceType);
+            return null;
+        }
+        DistroDigest digest = JacksonUtils.toObj(distroData.getContent(), DistroDigest.class);
+        DistroDigestResult result = digestVerifier.verify(resourceType, digest, sourceAddress,
+                (DistroDigestProcessor) dataProcessor);
+        DistroData resultData = new DistroData(distroData.getDistroKey(), JacksonUtils.toJsonBytes(result));
+        resultData.setType(DataOperation.DIGEST);
+        return resultData;
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +282,32 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of datum snapshot.
+     *
+     * @param chunkData request of snapshot chunk
+     * @param requester identity of the loading server
+     * @return snapshot chunk, or whole snapshot if the data storage can't send snapshot by chunk
+     */
+    public DistroData onSnapshotChunk(DistroData chunkData, String requester) {
+        String type = chunkData.getDistroKey().getResourceType();
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (!(distroDataStorage instanceof DistroChunkedSnapshotStorage)) {
+            return onSnapshot(type);
+        }
+        DistroChunkedSnapshotStorage snapshotStorage = (DistroChunkedSnapshotStorage) distroDataStorage;
+        DistroSnapshotChunk chunk = JacksonUtils.toObj(chunkData.getContent(), DistroSnapshotChunk.class);
+        if (chunk.getPartitionCount() <= 0) {
+            int chunkSize = Math.max(1, chunk.getChunkSize());
+            chunk.setPartitionCount(Math.max(1, (snapshotStorage.getDatumCount() + chunkSize - 1) / chunkSize));
+        }
+        DistroData snapshot = snapshotStorage.getDatumSnapshot(requester, chunk.getPartition(),
+                chunk.getPartitionCount());
+        chunk.setContent(snapshot.getContent());
+        DistroData result = new DistroData(new DistroKey(DistroSnapshotChunk.CHUNK_KEY, type),
+                JacksonUtils.toJsonBytes(chunk));
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.component;
+
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+
+/**
+ * Distro chunked snapshot storage, the data storage which implements it can send snapshot chunk by chunk instead of
+ * the whole snapshot at once.
+ *
+ * @author Nacos
+ */
+public interface DistroChunkedSnapshotStorage {
+    
+    /**
+     * Get the count of all datum, used to decide the partition count of snapshot.
+     *
+     * @return count of datum
+     */
+    int getDatumCount();
+    
+    /**
+     * Get the snapshot of datum in one partition, which can be processed by
+     * {@link DistroDataProcessor#processSnapshot(DistroData)}.
+     *
+     * <p>The chunks of one load are requested by the same requester in order, the storage can keep state for each
+     * requester between chunks, several servers may load from this server at the same time.
+     *
+     * @param requester      identity of the loading server
+     * @param partition      index of partition
+     * @param partitionCount count of partitions
+     * @return snapshot of datum in the partition
+     * @see com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk#partitionOf(String, int)
+     */
+    DistroData getDatumSnapshot(String requester, int partition, int partitionCount);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.component;
+
+import java.util.Map;
+
+/**
+ * Distro digest processor, the data storage and processor which implements it can be verified by bucketed digest
+ * instead of sending verify data of each datum.
+ *
+ * @author Nacos
+ */
+public interface DistroDigestProcessor {
+    
+    /**
+     * Get the versions of datum which current server is responsible for.
+     *
+     * @return versions of datum, key is resource key
+     */
+    Map<String, Long> getVerifyVersions();
+    
+    /**
+     * Get the version of datum synced from other server.
+     *
+     * @param key resource key
+     * @return version of datum, {@code null} if not existed or current server is responsible for it
+     */
+    Long getSyncedVersion(String key);
+    
+    /**
+     * Verify the datum synced from other server, the datum should be renewed if verified successfully.
+     *
+     * @param key     resource key
+     * @param version version of datum in source server
+     * @return {@code true} if the datum existed with the same version, otherwise {@code false}
+     */
+    boolean verifyVersion(String key, long version);
+}
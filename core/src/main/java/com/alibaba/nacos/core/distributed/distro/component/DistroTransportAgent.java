@@ -73,6 +73,17 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Sync verify digest and get the verify result from target server.
+     *
+     * @param digestData   verify digest
+     * @param targetServer target server
+     * @return verify result, {@code null} if target server can't verify by digest or failed
+     */
+    default DistroData syncVerifyDigest(DistroData digestData, String targetServer) {
+        return null;
+    }
+    
     /**
      * get Data from target server.
      *
@@ -89,4 +100,15 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * @param chunkData    request of snapshot chunk
+     * @param targetServer target server.
+     * @return distro data of snapshot chunk, or whole snapshot if target server can't send snapshot by chunk
+     */
+    default DistroData getDatumSnapshotChunk(DistroData chunkData, String targetServer) {
+        return getDatumSnapshot(targetServer);
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bucketed digest of distro datum for verifying.
+ *
+ * <p>Each resource key is mapped into one of {@code bucketCount} buckets, and the digest of a bucket is the sum of
+ * hashes of all key and version pairs in it, so it is independent of the iteration order. Verifying is done in two
+ * rounds: the first round only carries {@code digests} of all buckets, and the second round carries the
+ * {@code versions} of keys in {@code buckets} which are unmatched in the first round.
+ *
+ * @author Nacos
+ */
+public class DistroDigest {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final long MIX_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    
+    private static final long MIX_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    
+    private static final int MIX_SHIFT = 33;
+    
+    private static final int BYTE_MASK = 0xff;
+    
+    private int bucketCount;
+    
+    private long[] digests;
+    
+    private List<Integer> buckets;
+    
+    private Map<String, Long> versions;
+    
+    public DistroDigest() {
+    }
+    
+    public DistroDigest(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public long[] getDigests() {
+        return digests;
+    }
+    
+    public void setDigests(long[] digests) {
+        this.digests = digests;
+    }
+    
+    public List<Integer> getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(List<Integer> buckets) {
+        this.buckets = buckets;
+    }
+    
+    public Map<String, Long> getVersions() {
+        return versions;
+    }
+    
+    public void setVersions(Map<String, Long> versions) {
+        this.versions = versions;
+    }
+    
+    /**
+     * Compute the digests of all buckets.
+     *
+     * @param versions    versions of datum, key is resource key
+     * @param bucketCount count of buckets
+     * @return digests of buckets
+     */
+    public static long[] computeDigests(Map<String, Long> versions, int bucketCount) {
+        long[] result = new long[bucketCount];
+        for (Map.Entry<String, Long> entry : versions.entrySet()) {
+            long keyHash = hashKey(entry.getKey());
+            result[bucketOf(keyHash, bucketCount)] += mix(keyHash ^ mix(entry.getValue()));
+        }
+        return result;
+    }
+    
+    /**
+     * Get the bucket of resource key.
+     *
+     * @param key         resource key
+     * @param bucketCount count of buckets
+     * @return index of bucket
+     */
+    public static int bucketOf(String key, int bucketCount) {
+        return bucketOf(hashKey(key), bucketCount);
+    }
+    
+    private static int bucketOf(long keyHash, int bucketCount) {
+        return (int) ((keyHash >>> 1) % bucketCount);
+    }
+    
+    private static long hashKey(String key) {
+        long result = FNV_OFFSET_BASIS;
+        for (byte each : key.getBytes(StandardCharsets.UTF_8)) {
+            result ^= each & BYTE_MASK;
+            result *= FNV_PRIME;
+        }
+        return result;
+    }
+    
+    private static long mix(long value) {
+        long result = value;
+        result ^= result >>> MIX_SHIFT;
+        result *= MIX_MULTIPLIER_1;
+        result ^= result >>> MIX_SHIFT;
+        result *= MIX_MULTIPLIER_2;
+        result ^= result >>> MIX_SHIFT;
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Result of verifying distro digest.
+ *
+ * @author Nacos
+ */
+public class DistroDigestResult {
+    
+    /**
+     * Buckets whose digest is different from the source server, only returned by the first round.
+     */
+    private List<Integer> unmatchedBuckets = new LinkedList<>();
+    
+    /**
+     * Keys which are missing or of different version in target server, only returned by the second round.
+     */
+    private List<String> failedKeys = new LinkedList<>();
+    
+    public List<Integer> getUnmatchedBuckets() {
+        return unmatchedBuckets;
+    }
+    
+    public void setUnmatchedBuckets(List<Integer> unmatchedBuckets) {
+        this.unmatchedBuckets = unmatchedBuckets;
+    }
+    
+    public List<String> getFailedKeys() {
+        return failedKeys;
+    }
+    
+    public void setFailedKeys(List<String> failedKeys) {
+        this.failedKeys = failedKeys;
+    }
+}
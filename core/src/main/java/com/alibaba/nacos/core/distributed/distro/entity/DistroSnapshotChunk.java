@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+/**
+ * Chunk of distro datum snapshot.
+ *
+ * <p>The datum are partitioned by the hash of resource key, and each chunk contains the datum of one partition, so the
+ * snapshot can be loaded and processed chunk by chunk, and continued from the failed chunk with another server. The
+ * partition count is decided by the source server with chunk size for the first chunk, and kept for later chunks.
+ *
+ * @author Nacos
+ */
+public class DistroSnapshotChunk {
+    
+    /**
+     * Resource key of the chunk response, which is different from the full snapshot of old version servers.
+     */
+    public static final String CHUNK_KEY = "SNAPSHOT_CHUNK";
+    
+    private int partition;
+    
+    private int partitionCount;
+    
+    private int chunkSize;
+    
+    private byte[] content;
+    
+    public DistroSnapshotChunk() {
+    }
+    
+    public DistroSnapshotChunk(int partition, int partitionCount, int chunkSize) {
+        this.partition = partition;
+        this.partitionCount = partitionCount;
+        this.chunkSize = chunkSize;
+    }
+    
+    public int getPartition() {
+        return partition;
+    }
+    
+    public void setPartition(int partition) {
+        this.partition = partition;
+    }
+    
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+    
+    public void setPartitionCount(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    public byte[] getContent() {
+        return content;
+    }
+    
+    public void setContent(byte[] content) {
+        this.content = content;
+    }
+    
+    /**
+     * Get the partition of resource key.
+     *
+     * @param key            resource key
+     * @param partitionCount count of partitions
+     * @return index of partition
+     */
+    public static int partitionOf(String key, int partitionCount) {
+        return (key.hashCode() & Integer.MAX_VALUE) % partitionCount;
+    }
+}
@@ -18,6 +18,8 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
@@ -48,6 +50,11 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
         }
         DistroDelayTask distroDelayTask = (DistroDelayTask) task;
         DistroKey distroKey = distroDelayTask.getDistroKey();
+        if (DistroConfig.getInstance().isSyncBatchEnabled() && isSyncAction(distroDelayTask.getAction())) {
+            distroTaskEngineHolder.getExecuteWorkersManager()
+                    .addSyncBatchTask(distroKey, distroDelayTask.getAction(), distroComponentHolder);
+            return true;
+        }
         switch (distroDelayTask.getAction()) {
             case DELETE:
                 DistroSyncDeleteTask syncDeleteTask = new DistroSyncDeleteTask(distroKey, distroComponentHolder);
@@ -62,4 +69,8 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private boolean isSyncAction(DataOperation action) {
+        return DataOperation.DELETE == action || DataOperation.CHANGE == action || DataOperation.ADD == action;
+    }
 }
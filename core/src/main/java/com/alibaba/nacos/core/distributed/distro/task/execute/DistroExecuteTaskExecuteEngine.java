@@ -17,8 +17,16 @@
 package com.alibaba.nacos.core.distributed.distro.task.execute;
 
 import com.alibaba.nacos.common.task.engine.NacosExecuteTaskExecuteEngine;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Distro execute task execute engine.
  *
@@ -26,7 +34,58 @@ import com.alibaba.nacos.core.utils.Loggers;
  */
 public class DistroExecuteTaskExecuteEngine extends NacosExecuteTaskExecuteEngine {
     
+    private final Map<String, DistroSyncBatchTask> syncBatches = new HashMap<>(8);
+    
     public DistroExecuteTaskExecuteEngine() {
         super(DistroExecuteTaskExecuteEngine.class.getSimpleName(), Loggers.DISTRO);
     }
+    
+    /**
+     * Add sync data into the batch of its target server and resource type. The batch will be executed when it is
+     * full or after the batch delay since the first data added.
+     *
+     * @param distroKey             key of data with target server
+     * @param action                operation of data
+     * @param distroComponentHolder distro component holder
+     */
+    public void addSyncBatchTask(DistroKey distroKey, DataOperation action,
+            DistroComponentHolder distroComponentHolder) {
+        String batchKey = distroKey.getTargetServer() + distroKey.getResourceType();
+        DistroSyncBatchTask fullBatch = null;
+        DistroSyncBatchTask newBatch = null;
+        synchronized (syncBatches) {
+            DistroSyncBatchTask batch = syncBatches.get(batchKey);
+            if (null == batch) {
+                batch = new DistroSyncBatchTask(distroKey.getTargetServer(), distroKey.getResourceType(),
+                        distroComponentHolder, this);
+                syncBatches.put(batchKey, batch);
+                newBatch = batch;
+            }
+            batch.add(distroKey, action);
+            if (batch.size() >= DistroConfig.getInstance().getSyncBatchSize()) {
+                fullBatch = syncBatches.remove(batchKey);
+            }
+        }
+        if (null != fullBatch) {
+            addTask(batchKey, fullBatch);
+        } else if (null != newBatch) {
+            DistroSyncBatchTask delayedBatch = newBatch;
+            GlobalExecutor.scheduleByCommon(() -> flushSyncBatch(batchKey, delayedBatch),
+                    DistroConfig.getInstance().getSyncBatchDelayMillis());
+        }
+    }
+    
+    /**
+     * Flush the batch when its delay expired, the batch may be executed already because it was full, and the current
+     * batch of the key is a later one which should wait for its own delay.
+     */
+    void flushSyncBatch(String batchKey, DistroSyncBatchTask batch) {
+        boolean removed;
+        synchronized (syncBatches) {
+            removed = syncBatches.remove(batchKey, batch);
+        }
+        if (removed) {
+            addTask(batchKey, batch);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distro sync batch task, sync the changed and deleted data of the same target server and resource type by one
+ * compressed request.
+ *
+ * <p>If the batch is failed, such as the target server of old version can't process batch data, each data of the
+ * batch will be synced by {@link DistroSyncChangeTask} or {@link DistroSyncDeleteTask} again.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchTask extends AbstractExecuteTask {
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    private final DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    private final Map<DistroKey, DataOperation> operations = new LinkedHashMap<>();
+    
+    public DistroSyncBatchTask(String targetServer, String resourceType, DistroComponentHolder distroComponentHolder,
+            DistroExecuteTaskExecuteEngine executeTaskExecuteEngine) {
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+        this.distroComponentHolder = distroComponentHolder;
+        this.executeTaskExecuteEngine = executeTaskExecuteEngine;
+    }
+    
+    /**
+     * Add data operation into this batch, the latest operation of the same key is kept.
+     *
+     * @param distroKey key of data
+     * @param action    operation of data
+     */
+    public void add(DistroKey distroKey, DataOperation action) {
+        operations.remove(distroKey);
+        operations.put(distroKey, action);
+    }
+    
+    public int size() {
+        return operations.size();
+    }
+    
+    @Override
+    public void run() {
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
+        if (null == transportAgent) {
+            Loggers.DISTRO.warn("No found transport agent for type [{}]", resourceType);
+            return;
+        }
+        DistroData batchData = buildBatchData();
+        if (null == batchData) {
+            return;
+        }
+        Loggers.DISTRO.info("[DISTRO-START] {}", toString());
+        if (transportAgent.supportCallbackTransport()) {
+            transportAgent.syncData(batchData, targetServer, new DistroBatchCallback());
+            return;
+        }
+        try {
+            if (transportAgent.syncData(batchData, targetServer)) {
+                onSuccess();
+            } else {
+                onFailed(null);
+            }
+        } catch (Exception e) {
+            onFailed(e);
+        }
+    }
+    
+    private DistroData buildBatchData() {
+        DistroDataStorage dataStorage = distroComponentHolder.findDataStorage(resourceType);
+        List<DistroData> items = new LinkedList<>();
+        for (Map.Entry<DistroKey, DataOperation> entry : operations.entrySet()) {
+            DistroData item;
+            if (DataOperation.DELETE == entry.getValue()) {
+                item = new DistroData();
+                item.setDistroKey(entry.getKey());
+            } else {
+                item = dataStorage.getDistroData(entry.getKey());
+                if (null == item) {
+                    continue;
+                }
+            }
+            item.setType(DataOperation.DELETE == entry.getValue() ? DataOperation.DELETE : DataOperation.CHANGE);
+            items.add(item);
+        }
+        if (items.isEmpty()) {
+            return null;
+        }
+        byte[] content = IoUtils.tryCompress(JacksonUtils.toJson(items), StandardCharsets.UTF_8.name());
+        DistroData result = new DistroData(new DistroKey(DataOperation.BATCH.name(), resourceType, targetServer),
+                content);
+        result.setType(DataOperation.BATCH);
+        return result;
+    }
+    
+    private void onSuccess() {
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+        for (int i = 0; i < operations.size(); i++) {
+            distroRecord.syncSuccess();
+        }
+        Loggers.DISTRO.info("[DISTRO-END] {} result: true", toString());
+    }
+    
+    private void onFailed(Throwable throwable) {
+        DistroRecordsHolder.getInstance().getRecord(resourceType).syncFail();
+        if (null == throwable) {
+            Loggers.DISTRO.info("[DISTRO-END] {} result: false, sync one by one", toString());
+        } else {
+            Loggers.DISTRO.warn("[DISTRO] {} failed, sync one by one", toString(), throwable);
+        }
+        for (Map.Entry<DistroKey, DataOperation> entry : operations.entrySet()) {
+            AbstractDistroExecuteTask task = DataOperation.DELETE == entry.getValue()
+                    ? new DistroSyncDeleteTask(entry.getKey(), distroComponentHolder)
+                    : new DistroSyncChangeTask(entry.getKey(), distroComponentHolder);
+            executeTaskExecuteEngine.addTask(entry.getKey(), task);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchTask for " + resourceType + " to " + targetServer + " with " + operations.size()
+                + " data";
+    }
+    
+    private class DistroBatchCallback implements DistroCallback {
+        
+        @Override
+        public void onSuccess() {
+            DistroSyncBatchTask.this.onSuccess();
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            DistroSyncBatchTask.this.onFailed(throwable);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,6 +26,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -48,6 +52,12 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    /**
+     * Progress of loading snapshot by chunk for each resource type, so that the loading can be continued from the
+     * failed chunk.
+     */
+    private final Map<String, DistroSnapshotChunk> loadProgressMap;
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +65,7 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        loadProgressMap = new HashMap<>(1);
     }
     
     @Override
@@ -101,14 +112,11 @@ public class DistroLoadDataTask implements Runnable {
             long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
-                Loggers.DISTRO
-                        .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
-                                result);
+                boolean result = distroConfig.getLoadDataChunkSize() > 0
+                        ? loadSnapshotByChunk(resourceType, each.getAddress(), transportAgent, dataProcessor)
+                        : loadSnapshot(resourceType, each.getAddress(), transportAgent, dataProcessor);
+                Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {} result: {}, it took {} ms", resourceType,
+                        each.getAddress(), result, System.currentTimeMillis() - startTime);
                 if (result) {
                     distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
@@ -120,6 +128,47 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    private boolean loadSnapshot(String resourceType, String targetServer, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        DistroData distroData = transportAgent.getDatumSnapshot(targetServer);
+        Loggers.DISTRO.info("[DISTRO-INIT] snapshot {} from {} size is {}.", resourceType, targetServer,
+                getDistroDataLength(distroData));
+        return dataProcessor.processSnapshot(distroData);
+    }
+    
+    private boolean loadSnapshotByChunk(String resourceType, String targetServer, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        DistroSnapshotChunk progress = loadProgressMap.computeIfAbsent(resourceType,
+                key -> new DistroSnapshotChunk(0, 0, distroConfig.getLoadDataChunkSize()));
+        while (progress.getPartitionCount() <= 0 || progress.getPartition() < progress.getPartitionCount()) {
+            DistroData request = new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), resourceType),
+                    JacksonUtils.toJsonBytes(progress));
+            request.setType(DataOperation.SNAPSHOT);
+            DistroData response = transportAgent.getDatumSnapshotChunk(request, targetServer);
+            if (!isSnapshotChunk(response)) {
+                Loggers.DISTRO.info("[DISTRO-INIT] {} can't send snapshot {} by chunk, load whole snapshot",
+                        targetServer, resourceType);
+                return dataProcessor.processSnapshot(response);
+            }
+            DistroSnapshotChunk chunk = JacksonUtils.toObj(response.getContent(), DistroSnapshotChunk.class);
+            DistroData chunkData = new DistroData(response.getDistroKey(), chunk.getContent());
+            if (!dataProcessor.processSnapshot(chunkData)) {
+                return false;
+            }
+            Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} chunk {}/{} from {}, size is {}.", resourceType,
+                    chunk.getPartition() + 1, chunk.getPartitionCount(), targetServer,
+                    getDistroDataLength(chunkData));
+            progress.setPartitionCount(chunk.getPartitionCount());
+            progress.setPartition(chunk.getPartition() + 1);
+        }
+        return true;
+    }
+    
+    private static boolean isSnapshotChunk(DistroData distroData) {
+        return null != distroData && null != distroData.getDistroKey() && DistroSnapshotChunk.CHUNK_KEY
+                .equals(distroData.getDistroKey().getResourceKey());
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
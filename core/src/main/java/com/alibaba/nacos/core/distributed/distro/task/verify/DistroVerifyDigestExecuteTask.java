@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigest;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigestResult;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTaskExecuteEngine;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Execute distro verify task by bucketed digest.
+ *
+ * <p>The digests of all buckets are sent at first, and only the versions of datum in unmatched buckets are sent
+ * again. The datum failed to verify are synced to target server directly. If target server can't verify by digest,
+ * such as the old version server, fall back to send the verify data of each datum.
+ *
+ * @author Nacos
+ */
+public class DistroVerifyDigestExecuteTask extends AbstractExecuteTask {
+    
+    /**
+     * Max count of versions sent in one request of second round, the unmatched buckets will be split into requests.
+     */
+    private static final int MAX_VERSIONS_PER_REQUEST = 1000;
+    
+    private final DistroTransportAgent transportAgent;
+    
+    private final DistroDataStorage dataStorage;
+    
+    private final DistroDelayTaskExecuteEngine delayTaskExecuteEngine;
+    
+    private final DistroDigest digest;
+    
+    private final Map<String, Long> versions;
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    public DistroVerifyDigestExecuteTask(DistroTransportAgent transportAgent, DistroDataStorage dataStorage,
+            DistroDelayTaskExecuteEngine delayTaskExecuteEngine, DistroDigest digest, Map<String, Long> versions,
+            String targetServer, String resourceType) {
+        this.transportAgent = transportAgent;
+        this.dataStorage = dataStorage;
+        this.delayTaskExecuteEngine = delayTaskExecuteEngine;
+        this.digest = digest;
+        this.versions = versions;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            DistroDigestResult result = syncVerifyDigest(digest);
+            if (null == result) {
+                verifyByData();
+                return;
+            }
+            if (!result.getUnmatchedBuckets().isEmpty()) {
+                verifyUnmatchedBuckets(result.getUnmatchedBuckets());
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType,
+                    targetServer, e);
+        }
+    }
+    
+    private void verifyByData() {
+        if (Loggers.DISTRO.isDebugEnabled()) {
+            Loggers.DISTRO.debug("[DISTRO] {} can't verify type {} by digest, verify by data", targetServer,
+                    resourceType);
+        }
+        List<DistroData> verifyData = dataStorage.getVerifyData();
+        if (null == verifyData || verifyData.isEmpty()) {
+            return;
+        }
+        new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, resourceType).run();
+    }
+    
+    private void verifyUnmatchedBuckets(List<Integer> unmatchedBuckets) {
+        int bucketCount = digest.getBucketCount();
+        Set<Integer> unmatched = new HashSet<>(unmatchedBuckets);
+        Map<Integer, Map<String, Long>> bucketVersions = new HashMap<>(unmatched.size());
+        for (Map.Entry<String, Long> entry : versions.entrySet()) {
+            int bucket = DistroDigest.bucketOf(entry.getKey(), bucketCount);
+            if (unmatched.contains(bucket)) {
+                bucketVersions.computeIfAbsent(bucket, key -> new HashMap<>(4)).put(entry.getKey(), entry.getValue());
+            }
+        }
+        DistroDigest request = newVersionsRequest();
+        for (Integer each : unmatched) {
+            request.getBuckets().add(each);
+            request.getVersions().putAll(bucketVersions.getOrDefault(each, Collections.emptyMap()));
+            if (request.getVersions().size() >= MAX_VERSIONS_PER_REQUEST) {
+                verifyVersions(request);
+                request = newVersionsRequest();
+            }
+        }
+        if (!request.getBuckets().isEmpty()) {
+            verifyVersions(request);
+        }
+    }
+    
+    private DistroDigest newVersionsRequest() {
+        DistroDigest result = new DistroDigest(digest.getBucketCount());
+        result.setBuckets(new LinkedList<>());
+        result.setVersions(new HashMap<>(MAX_VERSIONS_PER_REQUEST));
+        return result;
+    }
+    
+    private void verifyVersions(DistroDigest request) {
+        DistroDigestResult result = syncVerifyDigest(request);
+        if (null == result) {
+            DistroRecordsHolder.getInstance().getRecord(resourceType).verifyFail();
+            Loggers.DISTRO.warn("[DISTRO-FAILED] verify {} versions of type {} to {} failed.",
+                    request.getVersions().size(), resourceType, targetServer);
+            return;
+        }
+        for (String each : result.getFailedKeys()) {
+            Loggers.DISTRO.info("Target {} verify {} failed, sync new data", targetServer, each);
+            DistroRecordsHolder.getInstance().getRecord(resourceType).verifyFail();
+            DistroKey distroKey = new DistroKey(each, resourceType, targetServer);
+            delayTaskExecuteEngine.addTask(distroKey, new DistroDelayTask(distroKey, DataOperation.ADD, 0L));
+        }
+    }
+    
+    private DistroDigestResult syncVerifyDigest(DistroDigest request) {
+        DistroData digestData = new DistroData(new DistroKey(DataOperation.DIGEST.name(), resourceType),
+                JacksonUtils.toJsonBytes(request));
+        digestData.setType(DataOperation.DIGEST);
+        DistroData response = transportAgent.syncVerifyDigest(digestData, targetServer);
+        if (null == response || null == response.getContent()) {
+            return null;
+        }
+        return JacksonUtils.toObj(response.getContent(), DistroDigestResult.class);
+    }
+}
@@ -18,14 +18,19 @@ package com.alibaba.nacos.core.distributed.distro.task.verify;
 
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigest;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTaskExecuteEngine;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
 import com.alibaba.nacos.core.utils.Loggers;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Timed to start distro verify task.
@@ -40,11 +45,15 @@ public class DistroVerifyTimedTask implements Runnable {
     
     private final DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
     
+    private final DistroDelayTaskExecuteEngine delayTaskExecuteEngine;
+    
     public DistroVerifyTimedTask(ServerMemberManager serverMemberManager, DistroComponentHolder distroComponentHolder,
-            DistroExecuteTaskExecuteEngine executeTaskExecuteEngine) {
+            DistroExecuteTaskExecuteEngine executeTaskExecuteEngine,
+            DistroDelayTaskExecuteEngine delayTaskExecuteEngine) {
         this.serverMemberManager = serverMemberManager;
         this.distroComponentHolder = distroComponentHolder;
         this.executeTaskExecuteEngine = executeTaskExecuteEngine;
+        this.delayTaskExecuteEngine = delayTaskExecuteEngine;
     }
     
     @Override
@@ -69,6 +78,10 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
+        if (DistroConfig.getInstance().isVerifyDigestEnabled() && dataStorage instanceof DistroDigestProcessor) {
+            verifyByDigest(type, dataStorage, targetServer);
+            return;
+        }
         List<DistroData> verifyData = dataStorage.getVerifyData();
         if (null == verifyData || verifyData.isEmpty()) {
             return;
@@ -82,4 +95,22 @@ public class DistroVerifyTimedTask implements Runnable {
                     new DistroVerifyExecuteTask(agent, verifyData, member.getAddress(), type));
         }
     }
+    
+    private void verifyByDigest(String type, DistroDataStorage dataStorage, List<Member> targetServer) {
+        Map<String, Long> versions = ((DistroDigestProcessor) dataStorage).getVerifyVersions();
+        if (null == versions || versions.isEmpty()) {
+            return;
+        }
+        DistroDigest digest = new DistroDigest(DistroConfig.getInstance().getVerifyDigestBuckets());
+        digest.setDigests(DistroDigest.computeDigests(versions, digest.getBucketCount()));
+        for (Member member : targetServer) {
+            DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
+            if (null == agent) {
+                continue;
+            }
+            executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                    new DistroVerifyDigestExecuteTask(agent, dataStorage, delayTaskExecuteEngine, digest, versions,
+                            member.getAddress(), type));
+        }
+    }
 }
@@ -16,6 +16,10 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
 
 import java.util.Map;
@@ -63,6 +67,31 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * get the status of an ability of the client side of this connection.
+     *
+     * @param abilityKey ability key
+     * @return ability status, {@link AbilityStatus#UNKNOWN} if client not report it
+     */
+    public AbilityStatus getConnectionAbility(AbilityKey abilityKey) {
+        Map<String, Boolean> abilities = this.abilityTable;
+        if (abilities == null || !abilities.containsKey(abilityKey.getName())) {
+            return AbilityStatus.UNKNOWN;
+        }
+        return abilities.get(abilityKey.getName()) ? AbilityStatus.SUPPORTED : AbilityStatus.NOT_SUPPORTED;
+    }
+    
+    /**
+     * Send a shared push payload asynchronously, implementations can reuse the encoded body of the payload.
+     *
+     * @param payload         shared push payload
+     * @param requestCallBack callback of request
+     * @throws NacosException exception throw
+     */
+    public void asyncRequest(SharedPushPayload payload, RequestCallBack requestCallBack) throws NacosException {
+        asyncRequest(payload.newRequest(), requestCallBack);
+    }
+    
     /**
      * check is connected.
      *
@@ -0,0 +1,139 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary indexes of connections by client ip, app name and labels.
+ *
+ * <p>The indexes are maintained when connections are registered and unregistered, so that querying the connections of
+ * one client ip or counting the connections with some labels needn't scan all connections. Modifications should be
+ * serialized by the caller, and queries are thread safe.
+ *
+ * @author Nacos
+ */
+class ConnectionIndex {
+    
+    private final Map<String, Set<String>> ipIndex = new ConcurrentHashMap<>(16);
+    
+    private final Map<String, Set<String>> appNameIndex = new ConcurrentHashMap<>(16);
+    
+    private final Map<String, Map<String, Set<String>>> labelIndex = new ConcurrentHashMap<>(16);
+    
+    void add(String connectionId, ConnectionMeta metaInfo) {
+        addIndex(ipIndex, metaInfo.clientIp, connectionId);
+        addIndex(appNameIndex, metaInfo.appName, connectionId);
+        if (null == metaInfo.labels) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : metaInfo.labels.entrySet()) {
+            if (null != entry.getKey()) {
+                addIndex(labelIndex.computeIfAbsent(entry.getKey(), key -> new ConcurrentHashMap<>(4)),
+                        entry.getValue(), connectionId);
+            }
+        }
+    }
+    
+    void remove(String connectionId, ConnectionMeta metaInfo) {
+        removeIndex(ipIndex, metaInfo.clientIp, connectionId);
+        removeIndex(appNameIndex, metaInfo.appName, connectionId);
+        if (null == metaInfo.labels) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : metaInfo.labels.entrySet()) {
+            Map<String, Set<String>> valueIndex = null == entry.getKey() ? null : labelIndex.get(entry.getKey());
+            if (null != valueIndex) {
+                removeIndex(valueIndex, entry.getValue(), connectionId);
+            }
+        }
+    }
+    
+    Set<String> getByIp(String clientIp) {
+        return getIndex(ipIndex, clientIp);
+    }
+    
+    Set<String> getByAppName(String appName) {
+        return getIndex(appNameIndex, appName);
+    }
+    
+    Set<String> getByLabel(String labelKey, String labelValue) {
+        return null == labelKey ? Collections.emptySet()
+                : getIndex(labelIndex.getOrDefault(labelKey, Collections.emptyMap()), labelValue);
+    }
+    
+    /**
+     * Count the connections which match all the labels.
+     *
+     * <p>Only the connections of the label with least connections are checked against other labels.
+     *
+     * @param filterLabels labels to match, should not be empty
+     * @return count of matched connections
+     */
+    int countByLabels(Map<String, String> filterLabels) {
+        Set<String> candidates = null;
+        for (Map.Entry<String, String> entry : filterLabels.entrySet()) {
+            Set<String> each = getByLabel(entry.getKey(), entry.getValue());
+            if (null == candidates || each.size() < candidates.size()) {
+                candidates = each;
+            }
+        }
+        if (null == candidates || candidates.isEmpty() || 1 == filterLabels.size()) {
+            return null == candidates ? 0 : candidates.size();
+        }
+        int count = 0;
+        for (String connectionId : candidates) {
+            if (matchAll(connectionId, filterLabels)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private boolean matchAll(String connectionId, Map<String, String> filterLabels) {
+        for (Map.Entry<String, String> entry : filterLabels.entrySet()) {
+            if (!getByLabel(entry.getKey(), entry.getValue()).contains(connectionId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void addIndex(Map<String, Set<String>> index, String key, String connectionId) {
+        if (null != key) {
+            index.computeIfAbsent(key, each -> ConcurrentHashMap.newKeySet()).add(connectionId);
+        }
+    }
+    
+    private static void removeIndex(Map<String, Set<String>> index, String key, String connectionId) {
+        if (null == key) {
+            return;
+        }
+        Set<String> connectionIds = index.get(key);
+        if (null != connectionIds && connectionIds.remove(connectionId) && connectionIds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+    
+    private static Set<String> getIndex(Map<String, Set<String>> index, String key) {
+        Set<String> result = null == key ? null : index.get(key);
+        return null == result ? Collections.emptySet() : Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bucketed deadlines of connections' last active time.
+ *
+ * <p>Connections are put into the bucket of the tick which their last active time belongs to. Refreshing a connection
+ * in the same tick only compares the tick, and moving it to a new tick only touches two buckets, so the cost is O(1).
+ * Finding the connections which may be outdated only visits the buckets before the deadline, instead of all
+ * connections.
+ *
+ * <p>Concurrent refreshes of one connection may leave it in an older bucket, these stale entries are dropped when the
+ * buckets are visited. The last active time of candidates should be checked by caller.
+ *
+ * @author Nacos
+ */
+class ConnectionKeepAliveTracker {
+    
+    static final long DEFAULT_TICK_MILLIS = 1000L;
+    
+    private final long tickMillis;
+    
+    private final Map<String, Long> connectionTicks = new ConcurrentHashMap<>(16);
+    
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>(32);
+    
+    ConnectionKeepAliveTracker() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+    
+    ConnectionKeepAliveTracker(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+    
+    /**
+     * Track the connection with its last active time.
+     *
+     * @param connectionId   connection id
+     * @param lastActiveTime last active time of connection
+     */
+    void refresh(String connectionId, long lastActiveTime) {
+        Long tick = lastActiveTime / tickMillis;
+        Long oldTick = connectionTicks.put(connectionId, tick);
+        if (tick.equals(oldTick)) {
+            return;
+        }
+        if (null != oldTick) {
+            removeFromBucket(oldTick, connectionId);
+        }
+        buckets.compute(tick, (key, connectionIds) -> {
+            Set<String> result = null == connectionIds ? new HashSet<>() : connectionIds;
+            result.add(connectionId);
+            return result;
+        });
+    }
+    
+    /**
+     * Stop tracking the connection.
+     *
+     * @param connectionId connection id
+     */
+    void remove(String connectionId) {
+        Long oldTick = connectionTicks.remove(connectionId);
+        if (null != oldTick) {
+            removeFromBucket(oldTick, connectionId);
+        }
+    }
+    
+    /**
+     * Get the connections which last active time may be before the deadline.
+     *
+     * @param deadline deadline of last active time
+     * @return candidate connection ids, including some connections active in the tick of deadline
+     */
+    Set<String> getCandidates(long deadline) {
+        long deadlineTick = deadline / tickMillis;
+        Set<String> result = new HashSet<>();
+        for (Long each : buckets.keySet()) {
+            if (each > deadlineTick) {
+                continue;
+            }
+            for (String connectionId : copyBucket(each)) {
+                if (each.equals(connectionTicks.get(connectionId))) {
+                    result.add(connectionId);
+                } else {
+                    removeFromBucket(each, connectionId);
+                }
+            }
+        }
+        return result;
+    }
+    
+    int size() {
+        return connectionTicks.size();
+    }
+    
+    private Set<String> copyBucket(Long tick) {
+        Set<String> result = new HashSet<>();
+        buckets.computeIfPresent(tick, (key, connectionIds) -> {
+            result.addAll(connectionIds);
+            return connectionIds;
+        });
+        return result;
+    }
+    
+    private void removeFromBucket(Long tick, String connectionId) {
+        buckets.computeIfPresent(tick, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
+    }
+}
@@ -40,6 +40,7 @@ import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,6 +63,10 @@ public class ConnectionManager {
     
     Map<String, Connection> connections = new ConcurrentHashMap<>();
     
+    private final ConnectionIndex connectionIndex = new ConnectionIndex();
+    
+    private final ConnectionKeepAliveTracker keepAliveTracker = new ConnectionKeepAliveTracker();
+    
     private RuntimeConnectionEjector runtimeConnectionEjector;
     
     private ClientConnectionEventListenerRegistry clientConnectionEventListenerRegistry;
@@ -113,6 +118,8 @@ public class ConnectionManager {
                 connection.setTraced(true);
             }
             connections.put(connectionId, connection);
+            connectionIndex.add(connectionId, connection.getMetaInfo());
+            keepAliveTracker.refresh(connectionId, connection.getMetaInfo().getLastActiveTime());
             connectionForClientIp.computeIfAbsent(clientIp, k -> new AtomicInteger(0)).getAndIncrement();
             
             clientConnectionEventListenerRegistry.notifyClientConnected(connection);
@@ -147,6 +154,8 @@ public class ConnectionManager {
     public synchronized void unregister(String connectionId) {
         Connection remove = this.connections.remove(connectionId);
         if (remove != null) {
+            connectionIndex.remove(connectionId, remove.getMetaInfo());
+            keepAliveTracker.remove(connectionId);
             String clientIp = remove.getMetaInfo().clientIp;
             AtomicInteger atomicInteger = connectionForClientIp.get(clientIp);
             if (atomicInteger != null) {
@@ -178,15 +187,28 @@ public class ConnectionManager {
      * @return connections of the client ip.
      */
     public List<Connection> getConnectionByIp(String clientIp) {
-        Set<Map.Entry<String, Connection>> entries = connections.entrySet();
-        List<Connection> connections = new ArrayList<>();
-        for (Map.Entry<String, Connection> entry : entries) {
-            Connection value = entry.getValue();
-            if (clientIp.equals(value.getMetaInfo().clientIp)) {
-                connections.add(value);
+        return getConnections(connectionIndex.getByIp(clientIp));
+    }
+    
+    /**
+     * get by app name.
+     *
+     * @param appName app name of client.
+     * @return connections of the app name.
+     */
+    public List<Connection> getConnectionByAppName(String appName) {
+        return getConnections(connectionIndex.getByAppName(appName));
+    }
+    
+    private List<Connection> getConnections(Set<String> connectionIds) {
+        List<Connection> result = new ArrayList<>(connectionIds.size());
+        for (String each : connectionIds) {
+            Connection connection = connections.get(each);
+            if (connection != null) {
+                result.add(connection);
             }
         }
-        return connections;
+        return result;
     }
     
     /**
@@ -235,9 +257,29 @@ public class ConnectionManager {
         Connection connection = connections.get(connectionId);
         if (connection != null) {
             connection.freshActiveTime();
+            keepAliveTracker.refresh(connectionId, connection.getMetaInfo().getLastActiveTime());
         }
     }
     
+    /**
+     * get the connections which are not active since the deadline.
+     *
+     * @param deadline deadline of last active time.
+     * @return outdated connection ids.
+     */
+    Set<String> getOutdatedConnectionIds(long deadline) {
+        Set<String> result = new HashSet<>();
+        for (String each : keepAliveTracker.getCandidates(deadline)) {
+            Connection connection = connections.get(each);
+            if (connection == null) {
+                keepAliveTracker.remove(each);
+            } else if (connection.getMetaInfo().getLastActiveTime() <= deadline) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Start Task：Expel the connection which active Time expire.
      */
@@ -318,21 +360,10 @@ public class ConnectionManager {
      * @return count with the specific filter labels.
      */
     public int currentClientsCount(Map<String, String> filterLabels) {
-        int count = 0;
-        for (Connection connection : connections.values()) {
-            Map<String, String> labels = connection.getMetaInfo().labels;
-            boolean disMatchFound = false;
-            for (Map.Entry<String, String> entry : filterLabels.entrySet()) {
-                if (!entry.getValue().equals(labels.get(entry.getKey()))) {
-                    disMatchFound = true;
-                    break;
-                }
-            }
-            if (!disMatchFound) {
-                count++;
-            }
+        if (filterLabels.isEmpty()) {
+            return connections.size();
         }
-        return count;
+        return connectionIndex.countByLabels(filterLabels);
     }
     
     /**
@@ -341,9 +372,17 @@ public class ConnectionManager {
      * @return sdk client count.
      */
     public int currentSdkClientCount() {
-        Map<String, String> filter = new HashMap<>(2);
-        filter.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
-        return currentClientsCount(filter);
+        return connectionIndex.getByLabel(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK).size();
+    }
+    
+    /**
+     * get connection ids from sdk.
+     *
+     * @return snapshot of sdk connection ids.
+     */
+    Set<String> getSdkConnectionIds() {
+        return new HashSet<>(
+                connectionIndex.getByLabel(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK));
     }
     
     public Map<String, Connection> currentClients() {
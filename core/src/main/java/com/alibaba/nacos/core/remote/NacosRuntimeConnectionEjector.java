@@ -22,15 +22,12 @@ import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.request.ClientDetectionRequest;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.plugin.control.Loggers;
 
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * nacos runtime connection ejector.
@@ -39,6 +36,15 @@ import java.util.concurrent.TimeUnit;
  */
 public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
     
+    /**
+     * Max count of connections detecting at the same time, the rest outdated connections are detected in next round.
+     */
+    private static final int MAX_DETECTING_COUNT = 1000;
+    
+    private static final long DETECTION_TIMEOUT = 5000L;
+    
+    private final Set<String> detectingConnections = ConcurrentHashMap.newKeySet();
+    
     public NacosRuntimeConnectionEjector() {
     
     }
@@ -68,76 +74,27 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
             Loggers.CONNECTION.info("Long connection metrics detail ,Total count ={}, sdkCount={},clusterCount={}",
                     totalCount, currentSdkClientCount, (totalCount - currentSdkClientCount));
             
-            Set<String> outDatedConnections = new HashSet<>();
             long now = System.currentTimeMillis();
-            //outdated connections collect.
+            //outdated connections collect, only the connections expiring are visited.
+            Set<String> outDatedConnections = connectionManager.getOutdatedConnectionIds(now - KEEP_ALIVE_TIME);
             for (Map.Entry<String, Connection> entry : connections.entrySet()) {
-                Connection client = entry.getValue();
-                if (now - client.getMetaInfo().getLastActiveTime() >= KEEP_ALIVE_TIME) {
-                    outDatedConnections.add(client.getMetaInfo().getConnectionId());
-                } else if (client.getMetaInfo().pushQueueBlockTimesLastOver(300 * 1000)) {
-                    outDatedConnections.add(client.getMetaInfo().getConnectionId());
+                if (entry.getValue().getMetaInfo().pushQueueBlockTimesLastOver(300 * 1000)) {
+                    outDatedConnections.add(entry.getKey());
                 }
             }
             
             // check out date connection
-            Loggers.CONNECTION.info("Out dated connection ,size={}", outDatedConnections.size());
-            if (CollectionUtils.isNotEmpty(outDatedConnections)) {
-                Set<String> successConnections = new HashSet<>();
-                final CountDownLatch latch = new CountDownLatch(outDatedConnections.size());
-                for (String outDateConnectionId : outDatedConnections) {
-                    try {
-                        Connection connection = connectionManager.getConnection(outDateConnectionId);
-                        if (connection != null) {
-                            ClientDetectionRequest clientDetectionRequest = new ClientDetectionRequest();
-                            connection.asyncRequest(clientDetectionRequest, new RequestCallBack() {
-                                @Override
-                                public Executor getExecutor() {
-                                    return null;
-                                }
-                                
-                                @Override
-                                public long getTimeout() {
-                                    return 5000L;
-                                }
-                                
-                                @Override
-                                public void onResponse(Response response) {
-                                    latch.countDown();
-                                    if (response != null && response.isSuccess()) {
-                                        connection.freshActiveTime();
-                                        successConnections.add(outDateConnectionId);
-                                    }
-                                }
-                                
-                                @Override
-                                public void onException(Throwable e) {
-                                    latch.countDown();
-                                }
-                            });
-                            
-                            Loggers.CONNECTION.info("[{}]send connection active request ", outDateConnectionId);
-                        } else {
-                            latch.countDown();
-                        }
-                        
-                    } catch (ConnectionAlreadyClosedException e) {
-                        latch.countDown();
-                    } catch (Exception e) {
-                        Loggers.CONNECTION.error("[{}]Error occurs when check client active detection ,error={}",
-                                outDateConnectionId, e);
-                        latch.countDown();
-                    }
+            Loggers.CONNECTION.info("Out dated connection ,size={}, detecting={}", outDatedConnections.size(),
+                    detectingConnections.size());
+            int quota = MAX_DETECTING_COUNT - detectingConnections.size();
+            for (String outDateConnectionId : outDatedConnections) {
+                if (quota <= 0) {
+                    // the rest are still outdated and will be detected in next round.
+                    break;
                 }
-                
-                latch.await(5000L, TimeUnit.MILLISECONDS);
-                Loggers.CONNECTION.info("Out dated connection check successCount={}", successConnections.size());
-                
-                for (String outDateConnectionId : outDatedConnections) {
-                    if (!successConnections.contains(outDateConnectionId)) {
-                        Loggers.CONNECTION.info("[{}]Unregister Out dated connection....", outDateConnectionId);
-                        connectionManager.unregister(outDateConnectionId);
-                    }
+                if (detectingConnections.add(outDateConnectionId)) {
+                    quota--;
+                    detectConnection(outDateConnectionId);
                 }
             }
             
@@ -148,6 +105,61 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
         }
     }
     
+    /**
+     * send detection request to connection asynchronously, and unregister it if no success response.
+     */
+    private void detectConnection(String outDateConnectionId) {
+        Connection connection = connectionManager.getConnection(outDateConnectionId);
+        if (connection == null) {
+            detectingConnections.remove(outDateConnectionId);
+            return;
+        }
+        try {
+            connection.asyncRequest(new ClientDetectionRequest(), new RequestCallBack() {
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public long getTimeout() {
+                    return DETECTION_TIMEOUT;
+                }
+                
+                @Override
+                public void onResponse(Response response) {
+                    if (response != null && response.isSuccess()) {
+                        connectionManager.refreshActiveTime(outDateConnectionId);
+                        detectingConnections.remove(outDateConnectionId);
+                    } else {
+                        unregisterOutdatedConnection(outDateConnectionId);
+                    }
+                }
+                
+                @Override
+                public void onException(Throwable e) {
+                    unregisterOutdatedConnection(outDateConnectionId);
+                }
+            });
+            Loggers.CONNECTION.info("[{}]send connection active request ", outDateConnectionId);
+        } catch (ConnectionAlreadyClosedException e) {
+            unregisterOutdatedConnection(outDateConnectionId);
+        } catch (Exception e) {
+            Loggers.CONNECTION.error("[{}]Error occurs when check client active detection ,error={}",
+                    outDateConnectionId, e);
+            unregisterOutdatedConnection(outDateConnectionId);
+        }
+    }
+    
+    private void unregisterOutdatedConnection(String outDateConnectionId) {
+        try {
+            Loggers.CONNECTION.info("[{}]Unregister Out dated connection....", outDateConnectionId);
+            connectionManager.unregister(outDateConnectionId);
+        } finally {
+            detectingConnections.remove(outDateConnectionId);
+        }
+    }
+    
     /**
      * eject the over limit connection.
      */
@@ -162,9 +174,9 @@ public class NacosRuntimeConnectionEjector extends RuntimeConnectionEjector {
                 int ejectingCount = currentConnectionCount - getLoadClient();
                 // if overload
                 if (ejectingCount > 0) {
-                    // we may modify the connection map when connection reset
-                    // avoid concurrent modified exception, create new set for ids snapshot
-                    Set<String> ids = new HashSet<>(connectionManager.connections.keySet());
+                    // only sdk connections can be ejected, and we may modify the connection map when connection
+                    // reset, so use the snapshot of sdk connection ids from index.
+                    Set<String> ids = connectionManager.getSdkConnectionIds();
                     for (String id : ids) {
                         if (ejectingCount > 0) {
                             // check sdk
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -52,27 +53,7 @@ public class RpcPushService {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
-                    
-                    @Override
-                    public Executor getExecutor() {
-                        return executor;
-                    }
-                    
-                    @Override
-                    public void onResponse(Response response) {
-                        if (response.isSuccess()) {
-                            requestCallBack.onSuccess();
-                        } else {
-                            requestCallBack.onFail(new NacosException(response.getErrorCode(), response.getMessage()));
-                        }
-                    }
-                    
-                    @Override
-                    public void onException(Throwable e) {
-                        requestCallBack.onFail(e);
-                    }
-                });
+                connection.asyncRequest(request, buildRequestCallBack(requestCallBack, executor));
             } catch (ConnectionAlreadyClosedException e) {
                 connectionManager.unregister(connectionId);
                 requestCallBack.onSuccess();
@@ -87,6 +68,57 @@ public class RpcPushService {
         }
     }
     
+    /**
+     * push shared payload with no ack, the encoded body of payload is reused by all connections.
+     *
+     * @param connectionId    connectionId.
+     * @param payload         shared push payload.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushSharedPayloadWithCallback(String connectionId, SharedPushPayload payload,
+            PushCallBack requestCallBack, Executor executor) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        if (connection != null) {
+            try {
+                connection.asyncRequest(payload, buildRequestCallBack(requestCallBack, executor));
+            } catch (ConnectionAlreadyClosedException e) {
+                connectionManager.unregister(connectionId);
+                requestCallBack.onSuccess();
+            } catch (Exception e) {
+                Loggers.REMOTE_DIGEST
+                        .error("error to send push response to connectionId ={},push response={}", connectionId,
+                                payload.getTemplate(), e);
+                requestCallBack.onFail(e);
+            }
+        } else {
+            requestCallBack.onSuccess();
+        }
+    }
+    
+    private RequestCallBack buildRequestCallBack(PushCallBack requestCallBack, Executor executor) {
+        return new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+            
+            @Override
+            public Executor getExecutor() {
+                return executor;
+            }
+            
+            @Override
+            public void onResponse(Response response) {
+                if (response.isSuccess()) {
+                    requestCallBack.onSuccess();
+                } else {
+                    requestCallBack.onFail(new NacosException(response.getErrorCode(), response.getMessage()));
+                }
+            }
+            
+            @Override
+            public void onException(Throwable e) {
+                requestCallBack.onFail(e);
+            }
+        };
+    }
+    
     /**
      * push response with no ack.
      *
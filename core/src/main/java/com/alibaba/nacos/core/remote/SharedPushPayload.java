@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Push payload shared by the connections which receive the same server request.
+ *
+ * <p>The request is encoded at most once for each codec, and the encoded body is reused by all connections, only the
+ * request id is different for each push.
+ *
+ * @author Nacos
+ */
+public class SharedPushPayload {
+    
+    private final Supplier<? extends ServerRequest> requestFactory;
+    
+    private final ServerRequest template;
+    
+    private final Map<String, Object> encodedBodies = new ConcurrentHashMap<>(2);
+    
+    public SharedPushPayload(Supplier<? extends ServerRequest> requestFactory) {
+        this.requestFactory = requestFactory;
+        this.template = requestFactory.get();
+    }
+    
+    /**
+     * Get the template request, it is shared and should not be modified.
+     *
+     * @return template request
+     */
+    public ServerRequest getTemplate() {
+        return template;
+    }
+    
+    /**
+     * Build a new request with same content, for connections which can't reuse the encoded body.
+     *
+     * @return new request
+     */
+    public ServerRequest newRequest() {
+        return requestFactory.get();
+    }
+    
+    /**
+     * Get the encoded body of template request for the codec, encode it by encoder if absent.
+     *
+     * @param codec   codec name
+     * @param encoder encoder of template request
+     * @param <T>     type of encoded body
+     * @return encoded body
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getEncodedBody(String codec, Function<ServerRequest, T> encoder) {
+        return (T) encodedBodies.computeIfAbsent(codec, key -> encoder.apply(template));
+    }
+}
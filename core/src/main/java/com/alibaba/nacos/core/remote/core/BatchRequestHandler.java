@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.core;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.BatchResponse;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.BatchPayloadCodec;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
+import com.alibaba.nacos.core.utils.Loggers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request handler to handle batch request, each request in batch is handled by the handler of its type, including the
+ * filters such as auth and tps control.
+ *
+ * @author Nacos
+ */
+@Component
+public class BatchRequestHandler extends RequestHandler<BatchRequest, BatchResponse> {
+    
+    @Autowired
+    private RequestHandlerRegistry requestHandlerRegistry;
+    
+    @Override
+    public BatchResponse handle(BatchRequest request, RequestMeta meta) throws NacosException {
+        BatchResponse result = new BatchResponse();
+        for (BatchRequest.Item each : request.getItems()) {
+            result.addItem(BatchPayloadCodec.encode(handleItem(each, meta)));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Response handleItem(BatchRequest.Item item, RequestMeta meta) {
+        RequestHandler requestHandler = requestHandlerRegistry.getByRequestType(item.getType());
+        // nested batch request is not allowed.
+        if (null == requestHandler || requestHandler instanceof BatchRequestHandler) {
+            Loggers.REMOTE_DIGEST.warn("[batch] No handler for request type : {}", item.getType());
+            return ErrorResponse.build(NacosException.NO_HANDLER, "RequestHandler Not Found");
+        }
+        try {
+            Request request = BatchPayloadCodec.decode(item);
+            return requestHandler.handleRequest(request, meta);
+        } catch (Throwable e) {
+            Loggers.REMOTE_DIGEST.error("[batch] Fail to handle request type : {}", item.getType(), e);
+            return ErrorResponse.build(e);
+        }
+    }
+}
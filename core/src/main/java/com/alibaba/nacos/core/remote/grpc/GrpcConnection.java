@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -30,10 +32,12 @@ import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
+import com.alibaba.nacos.core.remote.SharedPushPayload;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.tps.TpsControlManager;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
+import com.google.protobuf.Any;
 import io.grpc.StatusRuntimeException;
 import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
@@ -41,6 +45,7 @@ import io.grpc.stub.StreamObserver;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * grpc connection.
@@ -50,6 +55,10 @@ import java.util.concurrent.Future;
  */
 public class GrpcConnection extends Connection {
     
+    private static final String GRPC_JSON_CODEC = "grpc-json";
+    
+    private static final String GRPC_BINARY_CODEC = "grpc-binary";
+    
     private StreamObserver streamObserver;
     
     private Channel channel;
@@ -69,12 +78,20 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendPayloadNoAck(() -> GrpcUtils.convert(request, isBinaryPayloadSupported()));
+    }
+    
+    private boolean isBinaryPayloadSupported() {
+        return AbilityStatus.SUPPORTED.equals(getConnectionAbility(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD));
+    }
+    
+    private void sendPayloadNoAck(Supplier<Payload> payloadSupplier) throws NacosException {
         sendQueueBlockCheck();
         Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = payloadSupplier.get();
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -145,11 +162,16 @@ public class GrpcConnection extends Connection {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
+        DefaultRequestFuture defaultPushFuture = syncRequestFuture(requestId, callBack);
+        sendRequestNoAck(request);
+        return defaultPushFuture;
+    }
+    
+    private DefaultRequestFuture syncRequestFuture(String requestId, RequestCallBack callBack) throws NacosException {
         DefaultRequestFuture defaultPushFuture = new DefaultRequestFuture(getMetaInfo().getConnectionId(), requestId,
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
         return defaultPushFuture;
     }
     
@@ -175,6 +197,16 @@ public class GrpcConnection extends Connection {
         sendRequestInner(request, requestCallBack);
     }
     
+    @Override
+    public void asyncRequest(SharedPushPayload payload, RequestCallBack requestCallBack) throws NacosException {
+        final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
+        final boolean binaryPayload = isBinaryPayloadSupported();
+        Any body = payload.getEncodedBody(binaryPayload ? GRPC_BINARY_CODEC : GRPC_JSON_CODEC,
+                template -> GrpcUtils.encodeSharedBody(template, binaryPayload));
+        syncRequestFuture(requestId, requestCallBack);
+        sendPayloadNoAck(() -> GrpcUtils.convert(payload.getTemplate(), body, requestId));
+    }
+    
     @Override
     public void close() {
         String connectionId = null;
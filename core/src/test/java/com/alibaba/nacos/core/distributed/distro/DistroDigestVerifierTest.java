@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro;
+
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestProcessor;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigest;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroDigestResult;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroDigestVerifierTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String SOURCE = "1.1.1.1";
+    
+    private static final int BUCKET_COUNT = 16;
+    
+    private final Map<String, Long> localVersions = new HashMap<>();
+    
+    private final List<String> renewedKeys = new LinkedList<>();
+    
+    private DistroDigestVerifier verifier;
+    
+    private DistroDigestProcessor processor;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        verifier = new DistroDigestVerifier();
+        processor = new DistroDigestProcessor() {
+            @Override
+            public Map<String, Long> getVerifyVersions() {
+                return Collections.emptyMap();
+            }
+            
+            @Override
+            public Long getSyncedVersion(String key) {
+                return localVersions.get(key);
+            }
+            
+            @Override
+            public boolean verifyVersion(String key, long version) {
+                Long local = localVersions.get(key);
+                if (null != local && local == version) {
+                    renewedKeys.add(key);
+                    return true;
+                }
+                return false;
+            }
+        };
+        localVersions.put("a", 1L);
+        localVersions.put("b", 2L);
+    }
+    
+    @Test
+    void testVerifyUnknownKeysByTwoRounds() {
+        Map<String, Long> sourceVersions = new HashMap<>(localVersions);
+        sourceVersions.put("b", 3L);
+        DistroDigestResult result = verifier.verify(TYPE, digestsOf(sourceVersions), SOURCE, processor);
+        assertEquals(bucketsOf(sourceVersions), new HashSet<>(result.getUnmatchedBuckets()));
+        assertTrue(renewedKeys.isEmpty());
+        
+        DistroDigest versions = new DistroDigest(BUCKET_COUNT);
+        versions.setBuckets(result.getUnmatchedBuckets());
+        versions.setVersions(sourceVersions);
+        result = verifier.verify(TYPE, versions, SOURCE, processor);
+        assertEquals(Collections.singletonList("b"), result.getFailedKeys());
+        assertEquals(Collections.singletonList("a"), renewedKeys);
+    }
+    
+    @Test
+    void testVerifyKnownKeysByDigests() {
+        DistroDigest versions = new DistroDigest(BUCKET_COUNT);
+        versions.setBuckets(new LinkedList<>(bucketsOf(localVersions)));
+        versions.setVersions(localVersions);
+        verifier.verify(TYPE, versions, SOURCE, processor);
+        renewedKeys.clear();
+        
+        DistroDigestResult result = verifier.verify(TYPE, digestsOf(localVersions), SOURCE, processor);
+        assertTrue(result.getUnmatchedBuckets().isEmpty());
+        assertEquals(2, renewedKeys.size());
+        
+        // removed datum should be found by digest.
+        Map<String, Long> sourceVersions = new HashMap<>(localVersions);
+        localVersions.remove("a");
+        result = verifier.verify(TYPE, digestsOf(sourceVersions), SOURCE, processor);
+        assertEquals(Collections.singletonList(DistroDigest.bucketOf("a", BUCKET_COUNT)),
+                result.getUnmatchedBuckets());
+    }
+    
+    private DistroDigest digestsOf(Map<String, Long> versions) {
+        DistroDigest result = new DistroDigest(BUCKET_COUNT);
+        result.setDigests(DistroDigest.computeDigests(versions, BUCKET_COUNT));
+        return result;
+    }
+    
+    private Set<Integer> bucketsOf(Map<String, Long> versions) {
+        Set<Integer> result = new HashSet<>();
+        for (String each : versions.keySet()) {
+            result.add(DistroDigest.bucketOf(each, BUCKET_COUNT));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DistroExecuteTaskExecuteEngineTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    private static final String BATCH_KEY = TARGET + TYPE;
+    
+    private DistroExecuteTaskExecuteEngine executeEngine;
+    
+    private DistroComponentHolder componentHolder;
+    
+    private int syncBatchSize;
+    
+    private long syncBatchDelayMillis;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        syncBatchSize = DistroConfig.getInstance().getSyncBatchSize();
+        syncBatchDelayMillis = DistroConfig.getInstance().getSyncBatchDelayMillis();
+        DistroConfig.getInstance().setSyncBatchSize(2);
+        // flush the batches by test only.
+        DistroConfig.getInstance().setSyncBatchDelayMillis(TimeUnit.HOURS.toMillis(1L));
+        componentHolder = new DistroComponentHolder();
+        executeEngine = spy(new DistroExecuteTaskExecuteEngine());
+        doNothing().when(executeEngine).addTask(any(), any());
+    }
+    
+    @AfterEach
+    void tearDown() throws NacosException {
+        DistroConfig.getInstance().setSyncBatchSize(syncBatchSize);
+        DistroConfig.getInstance().setSyncBatchDelayMillis(syncBatchDelayMillis);
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void testStaleDelayNotFlushLaterBatch() {
+        executeEngine.addSyncBatchTask(new DistroKey("1", TYPE, TARGET), DataOperation.CHANGE, componentHolder);
+        executeEngine.addSyncBatchTask(new DistroKey("2", TYPE, TARGET), DataOperation.CHANGE, componentHolder);
+        ArgumentCaptor<DistroSyncBatchTask> captor = ArgumentCaptor.forClass(DistroSyncBatchTask.class);
+        verify(executeEngine).addTask(eq(BATCH_KEY), captor.capture());
+        DistroSyncBatchTask fullBatch = captor.getValue();
+        assertEquals(2, fullBatch.size());
+        
+        executeEngine.addSyncBatchTask(new DistroKey("3", TYPE, TARGET), DataOperation.CHANGE, componentHolder);
+        // the delay of full batch expired, the later batch should not be flushed.
+        executeEngine.flushSyncBatch(BATCH_KEY, fullBatch);
+        verify(executeEngine, times(1)).addTask(eq(BATCH_KEY), any());
+    }
+    
+    @Test
+    void testFlushBatchWhenDelayExpired() throws Exception {
+        executeEngine.addSyncBatchTask(new DistroKey("1", TYPE, TARGET), DataOperation.CHANGE, componentHolder);
+        DistroSyncBatchTask pendingBatch = getSyncBatches().get(BATCH_KEY);
+        executeEngine.flushSyncBatch(BATCH_KEY, pendingBatch);
+        verify(executeEngine).addTask(BATCH_KEY, pendingBatch);
+        assertTrue(getSyncBatches().isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, DistroSyncBatchTask> getSyncBatches() throws Exception {
+        Field field = DistroExecuteTaskExecuteEngine.class.getDeclaredField("syncBatches");
+        field.setAccessible(true);
+        return (Map<String, DistroSyncBatchTask>) field.get(executeEngine);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    private DistroSyncBatchTask batchTask;
+    
+    private DistroKey changeKey;
+    
+    private DistroKey deleteKey;
+    
+    @BeforeEach
+    void setUp() {
+        DistroComponentHolder componentHolder = new DistroComponentHolder();
+        componentHolder.registerDataStorage(TYPE, dataStorage);
+        componentHolder.registerTransportAgent(TYPE, transportAgent);
+        batchTask = new DistroSyncBatchTask(TARGET, TYPE, componentHolder, executeTaskExecuteEngine);
+        changeKey = new DistroKey("change", TYPE, TARGET);
+        deleteKey = new DistroKey("delete", TYPE, TARGET);
+        batchTask.add(changeKey, DataOperation.ADD);
+        batchTask.add(deleteKey, DataOperation.CHANGE);
+        batchTask.add(deleteKey, DataOperation.DELETE);
+        when(dataStorage.getDistroData(changeKey)).thenReturn(new DistroData(changeKey, new byte[] {1}));
+    }
+    
+    @Test
+    void testRunSuccess() throws Exception {
+        when(transportAgent.syncData(any(DistroData.class), eq(TARGET))).thenReturn(true);
+        batchTask.run();
+        ArgumentCaptor<DistroData> captor = ArgumentCaptor.forClass(DistroData.class);
+        verify(transportAgent).syncData(captor.capture(), eq(TARGET));
+        assertEquals(DataOperation.BATCH, captor.getValue().getType());
+        List<DistroData> items = JacksonUtils.toObj(IoUtils.tryDecompress(captor.getValue().getContent()),
+                new TypeReference<List<DistroData>>() {
+                });
+        assertEquals(2, items.size());
+        assertEquals(changeKey, items.get(0).getDistroKey());
+        assertEquals(DataOperation.CHANGE, items.get(0).getType());
+        assertEquals(deleteKey, items.get(1).getDistroKey());
+        assertEquals(DataOperation.DELETE, items.get(1).getType());
+        verify(executeTaskExecuteEngine, never()).addTask(any(), any());
+    }
+    
+    @Test
+    void testRunFailedAndSyncOneByOne() {
+        when(transportAgent.syncData(any(DistroData.class), eq(TARGET))).thenReturn(false);
+        batchTask.run();
+        verify(executeTaskExecuteEngine).addTask(eq(changeKey), any(DistroSyncChangeTask.class));
+        verify(executeTaskExecuteEngine).addTask(eq(deleteKey), any(DistroSyncDeleteTask.class));
+    }
+}
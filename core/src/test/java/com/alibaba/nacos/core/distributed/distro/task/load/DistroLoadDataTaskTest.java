@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -26,11 +28,15 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
+import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.env.MockEnvironment;
@@ -40,9 +46,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +106,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +119,32 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunByChunkContinueWithAnotherServer() {
+        when(distroConfig.getLoadDataChunkSize()).thenReturn(1);
+        when(distroTransportAgent.getDatumSnapshotChunk(any(DistroData.class), eq("2.2.2.2:8848")))
+                .thenReturn(mockChunk(0, 2)).thenThrow(new DistroException("test"));
+        when(distroTransportAgent.getDatumSnapshotChunk(any(DistroData.class), eq("1.1.1.1:8848")))
+                .thenReturn(mockChunk(1, 2));
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
+        assertTrue(loadCompletedMap.get(type));
+        verify(distroDataProcessor, times(2)).processSnapshot(any(DistroData.class));
+        ArgumentCaptor<DistroData> captor = ArgumentCaptor.forClass(DistroData.class);
+        verify(distroTransportAgent).getDatumSnapshotChunk(captor.capture(), eq("1.1.1.1:8848"));
+        DistroSnapshotChunk progress = JacksonUtils.toObj(captor.getValue().getContent(), DistroSnapshotChunk.class);
+        assertEquals(1, progress.getPartition());
+        assertEquals(2, progress.getPartitionCount());
+    }
+    
+    private DistroData mockChunk(int partition, int partitionCount) {
+        DistroSnapshotChunk chunk = new DistroSnapshotChunk(partition, partitionCount, 1);
+        chunk.setContent(new byte[] {(byte) partition});
+        DistroData result = new DistroData(new DistroKey(DistroSnapshotChunk.CHUNK_KEY, type),
+                JacksonUtils.toJsonBytes(chunk));
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
 }
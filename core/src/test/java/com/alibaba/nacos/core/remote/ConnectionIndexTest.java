@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionIndexTest {
+    
+    private ConnectionIndex connectionIndex;
+    
+    private ConnectionMeta sdkMeta;
+    
+    private ConnectionMeta clusterMeta;
+    
+    @BeforeEach
+    void setUp() {
+        connectionIndex = new ConnectionIndex();
+        sdkMeta = buildMeta("1", "1.1.1.1", "app", RemoteConstants.LABEL_SOURCE_SDK);
+        clusterMeta = buildMeta("2", "1.1.1.1", null, RemoteConstants.LABEL_SOURCE_CLUSTER);
+        connectionIndex.add("1", sdkMeta);
+        connectionIndex.add("2", clusterMeta);
+    }
+    
+    private ConnectionMeta buildMeta(String connectionId, String clientIp, String appName, String source) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put(RemoteConstants.LABEL_SOURCE, source);
+        labels.put(RemoteConstants.LABEL_MODULE, RemoteConstants.LABEL_MODULE_NAMING);
+        return new ConnectionMeta(connectionId, clientIp, clientIp, 8848, 9848, "GRPC", "2.4.0", appName, labels);
+    }
+    
+    @Test
+    void testGetByIpAndAppName() {
+        assertEquals(2, connectionIndex.getByIp("1.1.1.1").size());
+        assertTrue(connectionIndex.getByAppName("app").contains("1"));
+        assertTrue(connectionIndex.getByIp("2.2.2.2").isEmpty());
+        assertTrue(connectionIndex.getByAppName(null).isEmpty());
+    }
+    
+    @Test
+    void testCountByLabels() {
+        Map<String, String> filter = new HashMap<>();
+        filter.put(RemoteConstants.LABEL_MODULE, RemoteConstants.LABEL_MODULE_NAMING);
+        assertEquals(2, connectionIndex.countByLabels(filter));
+        filter.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
+        assertEquals(1, connectionIndex.countByLabels(filter));
+        filter.put("unknown", "value");
+        assertEquals(0, connectionIndex.countByLabels(filter));
+    }
+    
+    @Test
+    void testRemove() {
+        connectionIndex.remove("1", sdkMeta);
+        assertEquals(1, connectionIndex.getByIp("1.1.1.1").size());
+        assertTrue(connectionIndex.getByAppName("app").isEmpty());
+        assertTrue(connectionIndex.getByLabel(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK)
+                .isEmpty());
+        connectionIndex.remove("2", clusterMeta);
+        assertTrue(connectionIndex.getByIp("1.1.1.1").isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionKeepAliveTrackerTest {
+    
+    private ConnectionKeepAliveTracker tracker;
+    
+    @BeforeEach
+    void setUp() {
+        tracker = new ConnectionKeepAliveTracker(1000L);
+        tracker.refresh("1", 1000L);
+        tracker.refresh("2", 5000L);
+    }
+    
+    @Test
+    void testGetCandidates() {
+        assertTrue(tracker.getCandidates(999L).isEmpty());
+        Set<String> candidates = tracker.getCandidates(1000L);
+        assertEquals(1, candidates.size());
+        assertTrue(candidates.contains("1"));
+        assertEquals(2, tracker.getCandidates(5500L).size());
+    }
+    
+    @Test
+    void testRefresh() {
+        tracker.refresh("1", 1500L);
+        assertTrue(tracker.getCandidates(1000L).contains("1"));
+        tracker.refresh("1", 6000L);
+        assertFalse(tracker.getCandidates(5999L).contains("1"));
+        assertTrue(tracker.getCandidates(6000L).contains("1"));
+        assertEquals(2, tracker.size());
+    }
+    
+    @Test
+    void testRemove() {
+        tracker.remove("1");
+        assertTrue(tracker.getCandidates(1000L).isEmpty());
+        assertEquals(1, tracker.size());
+    }
+}
@@ -154,6 +154,13 @@ class ConnectionManagerTest {
         }
     }
     
+    @Test
+    void testGetOutdatedConnectionIds() {
+        Mockito.when(connectionMeta.getLastActiveTime()).thenReturn(1000L);
+        assertFalse(connectionManager.getOutdatedConnectionIds(999L).contains(connectId));
+        assertTrue(connectionManager.getOutdatedConnectionIds(1000L).contains(connectId));
+    }
+    
     @Test
     void testLoadSingle() throws NacosException {
         Mockito.when(connectionMeta.isSdkSource()).thenReturn(true);
@@ -18,7 +18,9 @@
 package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import org.junit.jupiter.api.Test;
@@ -79,6 +81,21 @@ class RpcPushServiceTest {
         }
     }
     
+    @Test
+    void testPushSharedPayloadWithCallback() throws NacosException {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
+        SharedPushPayload payload = new SharedPushPayload(NotifySubscriberRequest::new);
+        PushCallBack callBack = Mockito.mock(PushCallBack.class);
+        rpcPushService.pushSharedPayloadWithCallback(connectId, payload, callBack, null);
+        Mockito.verify(grpcConnection).asyncRequest(Mockito.eq(payload), Mockito.any(RequestCallBack.class));
+        
+        Mockito.doThrow(ConnectionAlreadyClosedException.class).when(grpcConnection)
+                .asyncRequest(Mockito.eq(payload), Mockito.any(RequestCallBack.class));
+        rpcPushService.pushSharedPayloadWithCallback(connectId, payload, callBack, null);
+        Mockito.verify(connectionManager).unregister(connectId);
+        Mockito.verify(callBack).onSuccess();
+    }
+    
     @Test
     void testPushWithoutAck() {
         Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
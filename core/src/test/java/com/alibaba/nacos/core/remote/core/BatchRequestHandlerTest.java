@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.core;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.BatchRequest;
+import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.BatchResponse;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.BatchPayloadCodec;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchRequestHandlerTest {
+    
+    @InjectMocks
+    private BatchRequestHandler handler;
+    
+    @Mock
+    private RequestHandlerRegistry requestHandlerRegistry;
+    
+    @Mock
+    private RequestHandler healthCheckHandler;
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHandle() throws NacosException {
+        when(requestHandlerRegistry.getByRequestType("HealthCheckRequest")).thenReturn(healthCheckHandler);
+        when(requestHandlerRegistry.getByRequestType("BatchRequest")).thenReturn(handler);
+        when(healthCheckHandler.handleRequest(any(), any())).thenReturn(new HealthCheckResponse());
+        HealthCheckRequest healthCheckRequest = new HealthCheckRequest();
+        healthCheckRequest.putHeader("accessToken", "token");
+        BatchRequest request = new BatchRequest();
+        request.addItem(BatchPayloadCodec.encode(healthCheckRequest));
+        request.addItem(BatchPayloadCodec.encode(new BatchRequest()));
+        RequestMeta meta = new RequestMeta();
+        
+        BatchResponse response = handler.handle(request, meta);
+        
+        assertEquals(2, response.getItems().size());
+        assertTrue(BatchPayloadCodec.decode(response.getItems().get(0)) instanceof HealthCheckResponse);
+        Response nested = BatchPayloadCodec.decode(response.getItems().get(1));
+        assertTrue(nested instanceof ErrorResponse);
+        assertEquals(NacosException.NO_HANDLER, nested.getErrorCode());
+        ArgumentCaptor<HealthCheckRequest> captor = ArgumentCaptor.forClass(HealthCheckRequest.class);
+        verify(healthCheckHandler).handleRequest(captor.capture(), eq(meta));
+        assertEquals("token", captor.getValue().getHeader("accessToken"));
+    }
+}
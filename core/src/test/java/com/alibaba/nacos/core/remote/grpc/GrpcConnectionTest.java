@@ -16,14 +16,21 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
+import com.alibaba.nacos.core.remote.SharedPushPayload;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.tps.TpsControlManager;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
@@ -36,6 +43,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -44,10 +52,15 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -176,6 +189,32 @@ class GrpcConnectionTest {
         }
     }
     
+    @Test
+    void testAsyncRequestSharedPushPayload() throws Exception {
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(true).when(streamObserver).isReady();
+        connection.setAbilityTable(Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_BINARY_PAYLOAD.getName(), true));
+        PayloadRegistry.init();
+        AtomicInteger buildCount = new AtomicInteger();
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        SharedPushPayload payload = new SharedPushPayload(() -> {
+            buildCount.incrementAndGet();
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        });
+        RequestCallBack callBack = Mockito.mock(RequestCallBack.class);
+        connection.asyncRequest(payload, callBack);
+        connection.asyncRequest(payload, callBack);
+        ArgumentCaptor<Payload> captor = ArgumentCaptor.forClass(Payload.class);
+        Mockito.verify(streamObserver, Mockito.times(2)).onNext(captor.capture());
+        NotifySubscriberRequest first = (NotifySubscriberRequest) GrpcUtils.parse(captor.getAllValues().get(0));
+        NotifySubscriberRequest second = (NotifySubscriberRequest) GrpcUtils.parse(captor.getAllValues().get(1));
+        assertNotEquals(first.getRequestId(), second.getRequestId());
+        assertEquals("S", second.getServiceInfo().getName());
+        assertEquals(1, buildCount.get());
+        assertNull(payload.getTemplate().getRequestId());
+        RpcAckCallbackSynchronizer.clearContext(connection.getMetaInfo().getConnectionId());
+    }
+    
     @Test
     void testBusy() {
         controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
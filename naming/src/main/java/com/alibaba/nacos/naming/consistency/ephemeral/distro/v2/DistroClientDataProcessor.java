@@ -21,10 +21,13 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.component.DistroChunkedSnapshotStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestProcessor;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,26 +48,40 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Distro processor for v2.
  *
  * @author xiweng.yy
  */
-public class DistroClientDataProcessor extends SmartSubscriber implements DistroDataStorage, DistroDataProcessor {
+public class DistroClientDataProcessor extends SmartSubscriber
+        implements DistroDataStorage, DistroDataProcessor, DistroDigestProcessor, DistroChunkedSnapshotStorage {
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    private static final long SNAPSHOT_PARTITIONS_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
     private volatile boolean isFinishInitial;
     
+    /**
+     * requester -> client ids of partitions built for the loading of the requester.
+     */
+    private final Map<String, SnapshotPartitions> snapshotPartitions = new HashMap<>(4);
+    
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
@@ -256,8 +273,62 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
-        List<ClientSyncData> datum = new LinkedList<>();
+        return buildDatumSnapshot(clientManager.allClientId());
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(String requester, int partition, int partitionCount) {
+        return buildDatumSnapshot(getSnapshotPartition(requester, partition, partitionCount));
+    }
+    
+    @Override
+    public int getDatumCount() {
+        return clientManager.allClientId().size();
+    }
+    
+    /**
+     * Get the client ids of partition. The client ids of all partitions are built once for each requester when the
+     * first chunk of a load is requested, and reused by the later chunks of the same requester, so each chunk only
+     * visits its own clients. The clients created after building are synced by distro sync tasks to the loading server.
+     */
+    private synchronized Collection<String> getSnapshotPartition(String requester, int partition, int partitionCount) {
+        if (partition < 0 || partition >= partitionCount) {
+            return Collections.emptyList();
+        }
+        long now = System.currentTimeMillis();
+        // release the partitions of the loads which are given up.
+        snapshotPartitions.values().removeIf(each -> now - each.buildTime > SNAPSHOT_PARTITIONS_EXPIRE_MILLIS);
+        SnapshotPartitions partitions = snapshotPartitions.get(requester);
+        if (!isSnapshotPartitionsReusable(partitions, partition, partitionCount)) {
+            partitions = new SnapshotPartitions(buildSnapshotPartitions(partitionCount), now);
+            snapshotPartitions.put(requester, partitions);
+        }
+        List<String> result = partitions.clientIds.get(partition);
+        if (partition == partitionCount - 1) {
+            // the last chunk has been requested, release the partitions.
+            snapshotPartitions.remove(requester);
+        }
+        return result;
+    }
+    
+    private boolean isSnapshotPartitionsReusable(SnapshotPartitions partitions, int partition, int partitionCount) {
+        return 0 != partition && null != partitions && partitions.clientIds.size() == partitionCount;
+    }
+    
+    private List<List<String>> buildSnapshotPartitions(int partitionCount) {
+        List<List<String>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new ArrayList<>());
+        }
         for (String each : clientManager.allClientId()) {
+            result.get(DistroSnapshotChunk.partitionOf(each, partitionCount)).add(each);
+        }
+        return result;
+    }
+    
+    private DistroData buildDatumSnapshot(Collection<String> clientIds) {
+        List<ClientSyncData> datum = new LinkedList<>();
+        for (String each : clientIds) {
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -293,4 +364,45 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         return result;
     }
+    
+    @Override
+    public Map<String, Long> getVerifyVersions() {
+        Map<String, Long> result = new HashMap<>(16);
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral()) {
+                continue;
+            }
+            if (clientManager.isResponsibleClient(client)) {
+                result.put(client.getClientId(), client.getRevision());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Long getSyncedVersion(String key) {
+        Client client = clientManager.getClient(key);
+        if (null == client || !client.isEphemeral() || clientManager.isResponsibleClient(client)) {
+            return null;
+        }
+        return client.getRevision();
+    }
+    
+    @Override
+    public boolean verifyVersion(String key, long version) {
+        return clientManager.verifyClient(new DistroClientVerifyInfo(key, version));
+    }
+    
+    private static class SnapshotPartitions {
+        
+        private final List<List<String>> clientIds;
+        
+        private final long buildTime;
+        
+        private SnapshotPartitions(List<List<String>> clientIds, long buildTime) {
+            this.clientIds = clientIds;
+            this.buildTime = buildTime;
+        }
+    }
 }
@@ -155,6 +155,29 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData syncVerifyDigest(DistroData digestData, String targetServer) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            return null;
+        }
+        DistroDataRequest request = new DistroDataRequest(digestData, DataOperation.DIGEST);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getVerifyTimeoutMillis());
+            if (checkResponse(response)) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                return ((DistroDataResponse) response).getDistroData();
+            }
+            Loggers.DISTRO.warn("[DISTRO] Verify digest to {} failed, code: {}, message: {}", targetServer,
+                    response.getErrorCode(), response.getMessage());
+        } catch (NacosException e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Verify distro digest to {} failed! ", targetServer, e);
+        }
+        NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+        return null;
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -206,6 +229,29 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData getDatumSnapshotChunk(DistroData chunkData, String targetServer) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest(chunkData, DataOperation.SNAPSHOT);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            } else {
+                throw new DistroException(
+                        String.format("[DISTRO-FAILED] Get snapshot chunk request to %s failed, code: %d, message: %s",
+                                targetServer, response.getErrorCode(), response.getMessage()));
+            }
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot chunk failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
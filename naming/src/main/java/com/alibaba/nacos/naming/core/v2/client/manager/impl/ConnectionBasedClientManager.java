@@ -58,7 +58,8 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     @Override
     public void clientConnected(Connection connect) {
-        if (!RemoteConstants.LABEL_MODULE_NAMING.equals(connect.getMetaInfo().getLabel(RemoteConstants.LABEL_MODULE))) {
+        String module = connect.getMetaInfo().getLabel(RemoteConstants.LABEL_MODULE);
+        if (!RemoteConstants.LABEL_MODULE_NAMING.equals(module) && !RemoteConstants.LABEL_MODULE_SHARED.equals(module)) {
             return;
         }
         ClientAttributes attributes = new ClientAttributes();
@@ -19,6 +19,8 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.RingBufferPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,13 +32,20 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * The naming events like {@code ClientOperationEvent} and {@code ServiceEvent} are published with high frequency,
+ * they can be published by {@link RingBufferPublisher} when {@code nacos.naming.notify.ring-buffer.enabled} is true.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
+    private static final String RING_BUFFER_ENABLED_PROPERTY = "nacos.naming.notify.ring-buffer.enabled";
+    
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,7 +61,8 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            ShardedEventPublisher result = Boolean.getBoolean(RING_BUFFER_ENABLED_PROPERTY) ? new RingBufferPublisher()
+                    : new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
@@ -60,9 +70,16 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            result.append('\t').append(getStatus(each)).append('\n');
         }
         return result.toString();
     }
+    
+    private String getStatus(ShardedEventPublisher eventPublisher) {
+        if (eventPublisher instanceof RingBufferPublisher) {
+            return ((RingBufferPublisher) eventPublisher).getStatus();
+        }
+        return ((NamingEventPublisher) eventPublisher).getStatus();
+    }
 }
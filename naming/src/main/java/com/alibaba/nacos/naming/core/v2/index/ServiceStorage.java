@@ -28,6 +28,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.ServicePushRevision;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
@@ -60,6 +61,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServicePushRevision> pushRevisionIndexes;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +71,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.pushRevisionIndexes = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +93,25 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Get the revisions of service info pushed to subscribers of service.
+     *
+     * @param service service
+     * @return revisions of pushed service info
+     */
+    public ServicePushRevision getPushRevision(Service service) {
+        return pushRevisionIndexes.computeIfAbsent(service, key -> new ServicePushRevision());
+    }
+    
+    /**
+     * Remove the cached data of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        pushRevisionIndexes.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.pojo;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +47,16 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * Whether the subscriber can apply delta push, which is negotiated by connection ability.
+     */
+    private transient boolean deltaPushSupported;
+    
+    /**
+     * The latest revision of service info which is pushed to subscriber successfully, 0 means unknown.
+     */
+    private transient volatile long pushedRevision;
+    
     public Subscriber() {
     }
     
@@ -130,6 +141,24 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public boolean isDeltaPushSupported() {
+        return deltaPushSupported;
+    }
+    
+    public void setDeltaPushSupported(boolean deltaPushSupported) {
+        this.deltaPushSupported = deltaPushSupported;
+    }
+    
+    @JsonIgnore
+    public long getPushedRevision() {
+        return pushedRevision;
+    }
+    
+    public void setPushedRevision(long pushedRevision) {
+        this.pushedRevision = pushedRevision;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
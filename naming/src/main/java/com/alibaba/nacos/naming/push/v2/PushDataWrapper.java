@@ -34,11 +34,19 @@ public class PushDataWrapper {
     
     private final ServiceInfo originalData;
     
+    private final ServicePushRevision pushRevision;
+    
     private final Map<String, Object> processedDatum;
     
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData, null);
+    }
+    
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData,
+            ServicePushRevision pushRevision) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.pushRevision = pushRevision;
         processedDatum = new HashMap<>(1);
     }
     
@@ -50,6 +58,15 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    /**
+     * Get the revisions of pushed data, which is used to build delta push.
+     *
+     * @return revisions of pushed data, empty if delta push is not used
+     */
+    public Optional<ServicePushRevision> getPushRevision() {
+        return Optional.ofNullable(pushRevision);
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revisions of the service info pushed to subscribers of one service, used to build delta push.
+ *
+ * <p>The pushed service info is different for subscribers of different clusters, so the revision is recorded for
+ * each cluster. The revision only increases when the pushed service info is changed, and the delta between the
+ * latest revision and the previous one is kept.
+ *
+ * @author Nacos
+ */
+public class ServicePushRevision {
+    
+    private static final AtomicLong REVISION_GENERATOR = new AtomicLong();
+    
+    private final Map<String, Revision> revisions = new ConcurrentHashMap<>(4);
+    
+    /**
+     * Update the pushed service info of cluster, generate a new revision if service info changed.
+     *
+     * @param cluster     cluster of subscribers
+     * @param serviceInfo service info pushed to subscribers of cluster
+     * @return latest revision of cluster
+     */
+    public synchronized Revision update(String cluster, ServiceInfo serviceInfo) {
+        Revision current = revisions.get(cluster);
+        Revision result = null == current ? new Revision(serviceInfo) : current.next(serviceInfo);
+        revisions.put(cluster, result);
+        return result;
+    }
+    
+    /**
+     * One revision of pushed service info.
+     */
+    public static class Revision {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final Map<String, Instance> hosts;
+        
+        private final long baseRevision;
+        
+        private final List<Instance> changedHosts;
+        
+        private final List<Instance> removedHosts;
+        
+        private Revision(ServiceInfo serviceInfo) {
+            this(serviceInfo, indexHosts(serviceInfo), 0L, Collections.emptyList(), Collections.emptyList());
+        }
+        
+        private Revision(ServiceInfo serviceInfo, Map<String, Instance> hosts, long baseRevision,
+                List<Instance> changedHosts, List<Instance> removedHosts) {
+            this.revision = REVISION_GENERATOR.incrementAndGet();
+            this.serviceInfo = serviceInfo;
+            this.hosts = hosts;
+            this.baseRevision = baseRevision;
+            this.changedHosts = changedHosts;
+            this.removedHosts = removedHosts;
+        }
+        
+        private Revision next(ServiceInfo newServiceInfo) {
+            Map<String, Instance> newHosts = indexHosts(newServiceInfo);
+            List<Instance> changed = new ArrayList<>();
+            for (Map.Entry<String, Instance> entry : newHosts.entrySet()) {
+                if (!entry.getValue().equals(hosts.get(entry.getKey()))) {
+                    changed.add(entry.getValue());
+                }
+            }
+            List<Instance> removed = new ArrayList<>();
+            for (Map.Entry<String, Instance> entry : hosts.entrySet()) {
+                if (!newHosts.containsKey(entry.getKey())) {
+                    removed.add(entry.getValue());
+                }
+            }
+            if (changed.isEmpty() && removed.isEmpty() && isSameHeader(newServiceInfo)) {
+                return this;
+            }
+            return new Revision(newServiceInfo, newHosts, revision, changed, removed);
+        }
+        
+        private boolean isSameHeader(ServiceInfo newServiceInfo) {
+            return serviceInfo.getCacheMillis() == newServiceInfo.getCacheMillis()
+                    && serviceInfo.isReachProtectionThreshold() == newServiceInfo.isReachProtectionThreshold();
+        }
+        
+        private static Map<String, Instance> indexHosts(ServiceInfo serviceInfo) {
+            Map<String, Instance> result = new HashMap<>(serviceInfo.getHosts().size() * 4 / 3 + 1);
+            for (Instance each : serviceInfo.getHosts()) {
+                result.put(each.toInetAddr() + "#" + each.getClusterName(), each);
+            }
+            return result;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public ServiceInfo getServiceInfo() {
+            return serviceInfo;
+        }
+        
+        public long getBaseRevision() {
+            return baseRevision;
+        }
+        
+        public List<Instance> getChangedHosts() {
+            return changedHosts;
+        }
+        
+        public List<Instance> getRemovedHosts() {
+            return removedHosts;
+        }
+    }
+}
@@ -16,16 +16,26 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.core.remote.SharedPushPayload;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.ServicePushRevision;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Optional;
+
 /**
  * Push execute service for rpc.
  *
@@ -34,6 +44,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String SHARED_PAYLOAD_KEY_PREFIX = "rpc@@";
+    
+    private static final String REVISION_KEY_PREFIX = "revision@@";
+    
+    private static final String DELTA_PAYLOAD_KEY_PREFIX = "delta@@";
+    
     private final RpcPushService pushService;
     
     public PushExecutorRpcImpl(RpcPushService pushService) {
@@ -49,10 +65,118 @@ public class PushExecutorRpcImpl implements PushExecutor {
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        if (!isSubscriberIpIndependent(data)) {
+            ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
+            callBack.setActualServiceInfo(actualServiceInfo);
+            pushService.pushWithCallback(clientId,
+                    NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        if (subscriber.isDeltaPushSupported() && data.getPushRevision().isPresent()) {
+            doDeltaPushWithCallback(clientId, subscriber, data, callBack);
+            return;
+        }
+        SharedPushPayload payload = getSharedPayload(data, subscriber);
+        callBack.setActualServiceInfo(((NotifySubscriberRequest) payload.getTemplate()).getServiceInfo());
+        pushService.pushSharedPayloadWithCallback(clientId, payload, callBack, GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * Push only the changed instances if subscriber has received the base revision, otherwise push full service info
+     * with revision. The revision of subscriber is recorded after client acked, and reset if push failed, so that
+     * the retry push is full service info.
+     */
+    private void doDeltaPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
+            NamingPushCallback callBack) {
+        ServicePushRevision.Revision revision = getRevision(data, subscriber);
+        long pushedRevision = subscriber.getPushedRevision();
+        boolean canDelta = pushedRevision == revision.getRevision() || pushedRevision == revision.getBaseRevision();
+        long baseRevision = pushedRevision > 0 && canDelta ? pushedRevision : 0L;
+        SharedPushPayload payload = getRevisionPayload(data, subscriber, revision, baseRevision);
+        callBack.setActualServiceInfo(revision.getServiceInfo());
+        pushService.pushSharedPayloadWithCallback(clientId, payload,
+                new RevisionPushCallback(callBack, subscriber, revision.getRevision()),
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    /**
+     * Without selector, the pushed data only depends on the cluster of subscriber, so that subscribers with same
+     * cluster can share the same payload, which is encoded only once for each push of service.
+     */
+    private boolean isSubscriberIpIndependent(PushDataWrapper data) {
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    private SharedPushPayload getSharedPayload(PushDataWrapper data, Subscriber subscriber) {
+        String key = SHARED_PAYLOAD_KEY_PREFIX + getClusterKey(subscriber);
+        Optional<SharedPushPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServiceInfo serviceInfo = getServiceInfo(data, subscriber);
+        SharedPushPayload result = new SharedPushPayload(
+                () -> NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    private ServicePushRevision.Revision getRevision(PushDataWrapper data, Subscriber subscriber) {
+        String cluster = getClusterKey(subscriber);
+        String key = REVISION_KEY_PREFIX + cluster;
+        Optional<ServicePushRevision.Revision> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServicePushRevision.Revision result = data.getPushRevision().get()
+                .update(cluster, getServiceInfo(data, subscriber));
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    private SharedPushPayload getRevisionPayload(PushDataWrapper data, Subscriber subscriber,
+            ServicePushRevision.Revision revision, long baseRevision) {
+        String key = DELTA_PAYLOAD_KEY_PREFIX + baseRevision + Constants.SERVICE_INFO_SPLITER + getClusterKey(
+                subscriber);
+        Optional<SharedPushPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        SharedPushPayload result = new SharedPushPayload(() -> buildRevisionRequest(revision, baseRevision));
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    private NotifySubscriberRequest buildRevisionRequest(ServicePushRevision.Revision revision, long baseRevision) {
+        if (0L == baseRevision) {
+            NotifySubscriberRequest result = NotifySubscriberRequest
+                    .buildNotifySubscriberRequest(revision.getServiceInfo());
+            result.setRevision(revision.getRevision());
+            return result;
+        }
+        ServiceInfo serviceInfo = revision.getServiceInfo();
+        ServiceInfo delta = new ServiceInfo();
+        delta.setName(serviceInfo.getName());
+        delta.setGroupName(serviceInfo.getGroupName());
+        delta.setClusters(serviceInfo.getClusters());
+        delta.setCacheMillis(serviceInfo.getCacheMillis());
+        delta.setLastRefTime(serviceInfo.getLastRefTime());
+        delta.setChecksum(serviceInfo.getChecksum());
+        delta.setAllIPs(serviceInfo.isAllIPs());
+        delta.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        boolean pushedLatest = baseRevision == revision.getRevision();
+        delta.setHosts(pushedLatest ? new ArrayList<>() : new ArrayList<>(revision.getChangedHosts()));
+        NotifySubscriberRequest result = NotifySubscriberRequest.buildNotifySubscriberRequest(delta);
+        result.setRevision(revision.getRevision());
+        result.setBaseRevision(baseRevision);
+        result.setRemovedInstances(pushedLatest ? new ArrayList<>() : new ArrayList<>(revision.getRemovedHosts()));
+        return result;
+    }
+    
+    private String getClusterKey(Subscriber subscriber) {
+        return StringUtils.defaultIfEmpty(subscriber.getCluster(), StringUtils.EMPTY);
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +184,36 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    private static class RevisionPushCallback implements PushCallBack {
+        
+        private final NamingPushCallback delegate;
+        
+        private final Subscriber subscriber;
+        
+        private final long revision;
+        
+        private RevisionPushCallback(NamingPushCallback delegate, Subscriber subscriber, long revision) {
+            this.delegate = delegate;
+            this.subscriber = subscriber;
+            this.revision = revision;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            subscriber.setPushedRevision(revision);
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            subscriber.setPushedRevision(0L);
+            delegate.onFail(e);
+        }
+    }
 }
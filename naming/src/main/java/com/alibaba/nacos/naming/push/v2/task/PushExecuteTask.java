@@ -81,7 +81,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(serviceMetadata, serviceInfo,
+                delayTaskEngine.getServiceStorage().getPushRevision(service));
     }
     
     private Collection<String> getTargetClientIds() {
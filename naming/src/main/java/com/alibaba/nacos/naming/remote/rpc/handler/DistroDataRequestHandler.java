@@ -49,11 +49,14 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
             switch (request.getDataOperation()) {
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
+                case DIGEST:
+                    return handleVerifyDigest(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData(), meta);
                 case ADD:
                 case CHANGE:
                 case DELETE:
+                case BATCH:
                     return handleSyncData(request.getDistroData());
                 case QUERY:
                     return handleQueryData(request.getDistroData());
@@ -77,9 +80,23 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleVerifyDigest(DistroData distroData, RequestMeta meta) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        DistroData verifyResult = distroProtocol.onVerifyDigest(distroData, meta.getClientIp());
+        if (null == verifyResult) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro digest verify failed");
+        }
+        result.setDistroData(verifyResult);
+        return result;
+    }
+    
+    private DistroDataResponse handleSnapshot(DistroData chunkData, RequestMeta meta) {
+        DistroDataResponse result = new DistroDataResponse();
+        // request of old version server has no chunk data, send the whole snapshot.
+        // the chunks of one load are requested by one connection, which identifies the loading server.
+        DistroData distroData = null == chunkData || null == chunkData.getContent() ? distroProtocol
+                .onSnapshot(DistroClientDataProcessor.TYPE)
+                : distroProtocol.onSnapshotChunk(chunkData, meta.getConnectionId());
         result.setDistroData(distroData);
         return result;
     }
@@ -54,6 +54,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -61,6 +62,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -376,6 +378,28 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotByPartition() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        distroClientDataProcessor.getDatumSnapshot("requester", 0, 2);
+        distroClientDataProcessor.getDatumSnapshot("requester", 1, 2);
+        // the partitions are built once for all chunks, and the client is only visited by its own chunk.
+        verify(clientManager, times(1)).allClientId();
+        verify(clientManager, times(1)).getClient(CLIENT_ID);
+    }
+    
+    @Test
+    void testGetDatumSnapshotByPartitionConcurrently() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        distroClientDataProcessor.getDatumSnapshot("requester1", 0, 2);
+        distroClientDataProcessor.getDatumSnapshot("requester2", 0, 2);
+        distroClientDataProcessor.getDatumSnapshot("requester1", 1, 2);
+        distroClientDataProcessor.getDatumSnapshot("requester2", 1, 2);
+        // the loads of different requesters don't rebuild or release the partitions of each other.
+        verify(clientManager, times(2)).allClientId();
+        verify(clientManager, times(2)).getClient(CLIENT_ID);
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +410,15 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetVerifyVersionsAndSyncedVersion() {
+        client.setRevision(10L);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        assertEquals(Collections.singletonMap(CLIENT_ID, 10L), distroClientDataProcessor.getVerifyVersions());
+        assertNull(distroClientDataProcessor.getSyncedVersion(CLIENT_ID));
+        when(clientManager.isResponsibleClient(client)).thenReturn(false);
+        assertEquals(Long.valueOf(10L), distroClientDataProcessor.getSyncedVersion(CLIENT_ID));
+        assertTrue(distroClientDataProcessor.getVerifyVersions().isEmpty());
+    }
+}
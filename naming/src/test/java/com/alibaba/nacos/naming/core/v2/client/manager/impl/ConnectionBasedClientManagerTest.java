@@ -40,6 +40,7 @@ import java.util.Collection;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +106,26 @@ class ConnectionBasedClientManagerTest {
         assertTrue(connectionBasedClientManager.isResponsibleClient(client));
     }
     
+    @Test
+    void testClientConnectedByModule() {
+        Connection sharedConnection = mockConnection("shared", RemoteConstants.LABEL_MODULE_SHARED);
+        connectionBasedClientManager.clientConnected(sharedConnection);
+        assertTrue(connectionBasedClientManager.contains("shared"));
+        connectionBasedClientManager.clientDisConnected(sharedConnection);
+        
+        connectionBasedClientManager.clientConnected(mockConnection("config", RemoteConstants.LABEL_MODULE_CONFIG));
+        assertFalse(connectionBasedClientManager.contains("config"));
+    }
+    
+    private Connection mockConnection(String id, String module) {
+        ConnectionMeta meta = mock(ConnectionMeta.class);
+        when(meta.getConnectionId()).thenReturn(id);
+        when(meta.getLabel(RemoteConstants.LABEL_MODULE)).thenReturn(module);
+        Connection result = mock(Connection.class);
+        when(result.getMetaInfo()).thenReturn(meta);
+        return result;
+    }
+    
     @AfterEach
     void tearDown() {
         connectionBasedClientManager.clientDisConnected(connection);
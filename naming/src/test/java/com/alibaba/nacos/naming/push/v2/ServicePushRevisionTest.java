@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServicePushRevisionTest {
+    
+    private final ServicePushRevision pushRevision = new ServicePushRevision();
+    
+    @Test
+    void testUpdateWithoutChange() {
+        ServicePushRevision.Revision first = pushRevision.update("", createServiceInfo(1.0D, "1.1.1.1"));
+        ServicePushRevision.Revision second = pushRevision.update("", createServiceInfo(1.0D, "1.1.1.1"));
+        assertSame(first, second);
+        assertEquals(0L, first.getBaseRevision());
+    }
+    
+    @Test
+    void testUpdateWithChange() {
+        ServicePushRevision.Revision first = pushRevision.update("", createServiceInfo(1.0D, "1.1.1.1", "1.1.1.2"));
+        ServicePushRevision.Revision second = pushRevision.update("", createServiceInfo(2.0D, "1.1.1.2", "1.1.1.3"));
+        assertEquals(first.getRevision(), second.getBaseRevision());
+        assertTrue(second.getRevision() > first.getRevision());
+        assertEquals(2, second.getChangedHosts().size());
+        assertEquals(1, second.getRemovedHosts().size());
+        assertEquals("1.1.1.1", second.getRemovedHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testUpdateForDifferentCluster() {
+        ServicePushRevision.Revision first = pushRevision.update("c1", createServiceInfo(1.0D, "1.1.1.1"));
+        ServicePushRevision.Revision second = pushRevision.update("c2", createServiceInfo(1.0D, "1.1.1.1"));
+        assertNotEquals(first.getRevision(), second.getRevision());
+        assertEquals(0L, second.getBaseRevision());
+    }
+    
+    private ServiceInfo createServiceInfo(double weight, String... ips) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (String each : ips) {
+            Instance instance = new Instance();
+            instance.setIp(each);
+            instance.setPort(8080);
+            instance.setWeight(weight);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+}
@@ -20,11 +20,14 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.selector.Selector;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.core.remote.SharedPushPayload;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.ServicePushRevision;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -32,6 +35,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,13 +43,20 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,6 +107,7 @@ class PushExecutorRpcImplTest {
     
     @Test
     void testDoPushWithCallback() {
+        serviceMetadata.setSelector(mock(Selector.class));
         doAnswer(new CallbackAnswer()).when(pushService)
                 .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
                         eq(GlobalExecutor.getCallbackExecutor()));
@@ -103,6 +115,111 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackBySharedPayload() {
+        doAnswer(new SharedPayloadCallbackAnswer()).when(pushService)
+                .pushSharedPayloadWithCallback(eq(rpcClientId), any(SharedPushPayload.class), eq(pushCallBack),
+                        eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        verify(pushCallBack).onSuccess();
+        verify(pushCallBack).setActualServiceInfo(any(ServiceInfo.class));
+    }
+    
+    @Test
+    void testSharedPayloadReusedForSameCluster() {
+        Subscriber otherSubscriber = mock(Subscriber.class);
+        Subscriber clusterSubscriber = mock(Subscriber.class);
+        when(clusterSubscriber.getCluster()).thenReturn("c1");
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, otherSubscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, clusterSubscriber, pushData, pushCallBack);
+        ArgumentCaptor<SharedPushPayload> captor = ArgumentCaptor.forClass(SharedPushPayload.class);
+        verify(pushService, times(3)).pushSharedPayloadWithCallback(eq(rpcClientId), captor.capture(),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor()));
+        List<SharedPushPayload> payloads = captor.getAllValues();
+        assertSame(payloads.get(0), payloads.get(1));
+        assertNotSame(payloads.get(0), payloads.get(2));
+        assertEquals("c1",
+                ((NotifySubscriberRequest) payloads.get(2).getTemplate()).getServiceInfo().getClusters());
+    }
+    
+    @Test
+    void testDeltaPushWithCallback() {
+        Subscriber deltaSubscriber = new Subscriber("1.1.1.1", "agent", "app", "1.1.1.1", "N", "G@@S", 0);
+        deltaSubscriber.setDeltaPushSupported(true);
+        ServicePushRevision pushRevision = new ServicePushRevision();
+        ArgumentCaptor<SharedPushPayload> captor = ArgumentCaptor.forClass(SharedPushPayload.class);
+        doAnswer(invocationOnMock -> {
+            ((PushCallBack) invocationOnMock.getArgument(2)).onSuccess();
+            return null;
+        }).when(pushService).pushSharedPayloadWithCallback(eq(rpcClientId), captor.capture(), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, deltaSubscriber,
+                new PushDataWrapper(serviceMetadata, createServiceInfo("1.1.1.1"), pushRevision), pushCallBack);
+        NotifySubscriberRequest full = (NotifySubscriberRequest) captor.getValue().getTemplate();
+        assertFalse(full.isDelta());
+        assertEquals(1, full.getServiceInfo().getHosts().size());
+        assertEquals(full.getRevision(), deltaSubscriber.getPushedRevision());
+        
+        pushExecutor.doPushWithCallback(rpcClientId, deltaSubscriber,
+                new PushDataWrapper(serviceMetadata, createServiceInfo("1.1.1.1", "1.1.1.2"), pushRevision),
+                pushCallBack);
+        NotifySubscriberRequest delta = (NotifySubscriberRequest) captor.getValue().getTemplate();
+        assertTrue(delta.isDelta());
+        assertEquals(full.getRevision(), delta.getBaseRevision());
+        assertEquals(1, delta.getServiceInfo().getHosts().size());
+        assertEquals("1.1.1.2", delta.getServiceInfo().getHosts().get(0).getIp());
+        assertTrue(delta.getRemovedInstances().isEmpty());
+        assertEquals(delta.getRevision(), deltaSubscriber.getPushedRevision());
+        verify(pushCallBack, times(2)).onSuccess();
+    }
+    
+    @Test
+    void testDeltaPushFailedResetRevision() {
+        Subscriber deltaSubscriber = new Subscriber("1.1.1.1", "agent", "app", "1.1.1.1", "N", "G@@S", 0);
+        deltaSubscriber.setDeltaPushSupported(true);
+        deltaSubscriber.setPushedRevision(Long.MAX_VALUE);
+        ArgumentCaptor<SharedPushPayload> captor = ArgumentCaptor.forClass(SharedPushPayload.class);
+        doAnswer(invocationOnMock -> {
+            ((PushCallBack) invocationOnMock.getArgument(2)).onFail(new RuntimeException("test"));
+            return null;
+        }).when(pushService).pushSharedPayloadWithCallback(eq(rpcClientId), captor.capture(), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, deltaSubscriber,
+                new PushDataWrapper(serviceMetadata, createServiceInfo("1.1.1.1"), new ServicePushRevision()),
+                pushCallBack);
+        // unknown pushed revision, push full service info.
+        assertFalse(((NotifySubscriberRequest) captor.getValue().getTemplate()).isDelta());
+        assertEquals(0L, deltaSubscriber.getPushedRevision());
+        verify(pushCallBack).onFail(any(RuntimeException.class));
+    }
+    
+    private ServiceInfo createServiceInfo(String... ips) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (String each : ips) {
+            Instance instance = new Instance();
+            instance.setIp(each);
+            instance.setPort(8080);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private class SharedPayloadCallbackAnswer implements Answer<Void> {
+        
+        @Override
+        public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
+            SharedPushPayload payload = invocationOnMock.getArgument(1);
+            NotifySubscriberRequest pushRequest = (NotifySubscriberRequest) payload.newRequest();
+            assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
+            PushCallBack callBack = invocationOnMock.getArgument(2);
+            callBack.onSuccess();
+            return null;
+        }
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
@@ -32,6 +32,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.alibaba.nacos.consistency.DataOperation.ADD;
+import static com.alibaba.nacos.consistency.DataOperation.BATCH;
 import static com.alibaba.nacos.consistency.DataOperation.DELETE;
 import static com.alibaba.nacos.consistency.DataOperation.QUERY;
 import static com.alibaba.nacos.consistency.DataOperation.SNAPSHOT;
@@ -74,6 +75,10 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response2 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertEquals(response2.getErrorCode(), ResponseCode.FAIL.getCode());
         
+        distroDataRequest.setDataOperation(BATCH);
+        DistroDataResponse batchResponse = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(batchResponse.getErrorCode(), ResponseCode.FAIL.getCode());
+        
         distroDataRequest.setDataOperation(QUERY);
         Mockito.when(distroProtocol.onQuery(Mockito.any())).thenReturn(distroData);
         distroDataRequest.setDistroData(new DistroData());